@@ -0,0 +1,34 @@
+package io.cyborgcode.api.test.framework.data.test_data;
+
+/**
+ * Test data of the {@code ${test.data.file}} profile, compiled into the build.
+ * <p>
+ * Generated from {@code src/main/java-templates} with the values of
+ * {@code ${test.data.file}.properties} at build time; edit the properties file, not the generated
+ * source. Values are plain constants, so reading them costs no configuration lookup.
+ * {@link Data#testData()} uses this class only when the same profile is active at runtime.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class CompiledTestData implements TestData {
+
+   public static final String PROFILE = "${test.data.file}";
+   public static final CompiledTestData INSTANCE = new CompiledTestData();
+
+   private static final String USERNAME = "${compiled.test.data.username.literal}";
+   private static final String PASSWORD = "${compiled.test.data.password.literal}";
+
+   private CompiledTestData() {
+   }
+
+   @Override
+   public String username() {
+      return USERNAME;
+   }
+
+   @Override
+   public String password() {
+      return PASSWORD;
+   }
+
+}
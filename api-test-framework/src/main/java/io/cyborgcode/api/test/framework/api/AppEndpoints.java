@@ -1,9 +1,22 @@
 package io.cyborgcode.api.test.framework.api;
 
+import io.cyborgcode.api.test.framework.api.cache.RequestCoalescer;
+import io.cyborgcode.api.test.framework.api.cache.ResponseCache;
+import io.cyborgcode.api.test.framework.api.cassette.Cassette;
+import io.cyborgcode.api.test.framework.api.logging.AsyncLoggingFilter;
+import io.cyborgcode.api.test.framework.api.metrics.LatencyRecorder;
+import io.cyborgcode.api.test.framework.api.transport.PooledHttpTransport;
 import io.cyborgcode.roa.api.core.Endpoint;
+import io.restassured.filter.Filter;
 import io.restassured.http.ContentType;
+import io.restassured.http.Header;
 import io.restassured.http.Method;
+import io.restassured.specification.FilterableRequestSpecification;
 import io.restassured.specification.RequestSpecification;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static io.cyborgcode.api.test.framework.data.constants.Headers.API_KEY_HEADER;
 import static io.cyborgcode.api.test.framework.data.constants.Headers.API_KEY_VALUE;
@@ -16,24 +29,56 @@ import static io.cyborgcode.api.test.framework.data.constants.Headers.API_KEY_VA
  * fluent API. A shared default configuration (JSON content type, common headers, base URL)
  * is applied to all endpoints via {@link #defaultConfiguration()}.
  * </p>
+ * <p>
+ * Every call starts from a fresh framework default, so per-test framework filters and configuration
+ * are never shared, and applies this project's settings to it: the shared connection pool of
+ * {@link PooledHttpTransport}, the JSON content type and the API key header. Per-request changes
+ * (query, path parameters, extra headers) stay on that request's specification. Only the filter
+ * chain is resolved once per constant, as it depends on the run configuration alone:
+ * </p>
+ * <ul>
+ *   <li>constants declared as cached serve repeated {@code GET} requests from the run-wide
+ *       {@link ResponseCache}, e.g. reference data that does not change during a run,</li>
+ *   <li>identical {@code GET} requests sent concurrently to constants declared as coalesced share
+ *       one exchange through {@link RequestCoalescer},</li>
+ *   <li>with {@code api.logging.async.enabled} set, exchanges are logged through
+ *       {@link AsyncLoggingFilter},</li>
+ *   <li>request latencies are recorded per constant by {@link LatencyRecorder} unless
+ *       {@code api.metrics.latency.enabled} is switched off,</li>
+ *   <li>with {@code api.cassette.mode} set, exchanges are recorded to a {@link Cassette}, or
+ *       replayed from it without any network access.</li>
+ * </ul>
+ * <p>
  * This centralizes endpoint metadata to keep tests consistent, discoverable, and easy to maintain.
+ * </p>
  *
  * @author Cyborg Code Syndicate 💍👨💻
  */
 public enum AppEndpoints implements Endpoint<AppEndpoints> {
 
-   GET_ALL_USERS(Method.GET, "/users"),
-   GET_USER(Method.GET, "/users/{id}"),
+   GET_ALL_USERS(Method.GET, "/users", true, true),
+   GET_USER(Method.GET, "/users/{id}", false, true),
    POST_CREATE_USER(Method.POST, "/users"),
    POST_LOGIN_USER(Method.POST, "/login"),
    DELETE_USER(Method.DELETE, "/users/{id}");
 
+   private static final Map<AppEndpoints, List<Filter>> FILTERS = new ConcurrentHashMap<>();
+   private static final Header API_KEY = new Header(API_KEY_HEADER, API_KEY_VALUE);
+
    private final Method method;
    private final String url;
+   private final boolean cached;
+   private final boolean coalesced;
 
    AppEndpoints(final Method method, final String url) {
+      this(method, url, false, false);
+   }
+
+   AppEndpoints(final Method method, final String url, final boolean cached, final boolean coalesced) {
       this.method = method;
       this.url = url;
+      this.cached = cached;
+      this.coalesced = coalesced;
    }
 
    @Override
@@ -54,9 +99,34 @@ public enum AppEndpoints implements Endpoint<AppEndpoints> {
    @Override
    public RequestSpecification defaultConfiguration() {
       RequestSpecification spec = Endpoint.super.defaultConfiguration();
+      List<Filter> filters = FILTERS.computeIfAbsent(this, AppEndpoints::buildFilters);
+      spec.config(PooledHttpTransport.configure(((FilterableRequestSpecification) spec).getConfig()));
       spec.contentType(ContentType.JSON);
-      spec.header(API_KEY_HEADER, API_KEY_VALUE);
+      spec.header(API_KEY);
+      if (!filters.isEmpty()) {
+         spec.filters(filters);
+      }
       return spec;
    }
 
+   private List<Filter> buildFilters() {
+      List<Filter> filters = new ArrayList<>();
+      if (cached && ResponseCache.enabled()) {
+         filters.add(ResponseCache.instance());
+      }
+      if (coalesced && RequestCoalescer.enabled()) {
+         filters.add(RequestCoalescer.instance());
+      }
+      if (AsyncLoggingFilter.enabled()) {
+         filters.add(AsyncLoggingFilter.instance());
+      }
+      if (LatencyRecorder.enabled()) {
+         filters.add(LatencyRecorder.filter(this));
+      }
+      if (Cassette.mode() != Cassette.Mode.OFF) {
+         filters.add(Cassette.instance());
+      }
+      return List.copyOf(filters);
+   }
+
 }
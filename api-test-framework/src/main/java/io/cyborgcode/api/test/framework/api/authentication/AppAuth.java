@@ -1,14 +1,18 @@
 package io.cyborgcode.api.test.framework.api.authentication;
 
 import io.cyborgcode.api.test.framework.api.dto.request.LoginDto;
+import io.cyborgcode.api.test.framework.config.Tuning;
 import io.cyborgcode.roa.api.authentication.BaseAuthenticationClient;
 import io.cyborgcode.roa.api.service.RestService;
 import io.restassured.http.Header;
+import io.restassured.response.Response;
+import java.time.Duration;
 
 import static io.cyborgcode.api.test.framework.api.AppEndpoints.POST_LOGIN_USER;
 import static io.cyborgcode.api.test.framework.api.extractors.ApiResponsesJsonPaths.TOKEN;
 import static io.cyborgcode.api.test.framework.data.constants.Headers.AUTHORIZATION_HEADER_KEY;
 import static io.cyborgcode.api.test.framework.data.constants.Headers.AUTHORIZATION_HEADER_VALUE;
+import static org.apache.http.HttpStatus.SC_OK;
 
 /**
  * Application authentication client for ROA-based tests.
@@ -23,14 +27,29 @@ import static io.cyborgcode.api.test.framework.data.constants.Headers.AUTHORIZAT
  *   <li>Integrate with {@code @AuthenticateViaApi(type = AppAuth.class)} for declarative
  *       authentication without repeating login flows in each test.</li>
  * </ul>
+ * Headers are kept in a suite-wide {@link TokenCache}, so parallel tests that authenticate with the
+ * same credentials share one login round trip. The token time-to-live and the refresh-ahead window
+ * are configured with {@code api.auth.token.ttl.seconds} and
+ * {@code api.auth.token.refresh.ahead.seconds}. Refreshes run in the background and log in through
+ * the endpoint's default configuration, since the quest that triggered them may have finished.
  * Intended as a reusable template for plugging in any real application authentication strategy.
  *
  * @author Cyborg Code Syndicate 💍👨💻
  */
 public class AppAuth extends BaseAuthenticationClient {
 
+   private static final TokenCache TOKENS = new TokenCache(
+         Duration.ofSeconds(Tuning.config().authTokenTtlSeconds()),
+         Duration.ofSeconds(Tuning.config().authTokenRefreshAheadSeconds()));
+
    @Override
    protected Header authenticateImpl(final RestService restService, final String username, final String password) {
+      return TOKENS.get(username, password,
+            () -> login(restService, username, password),
+            () -> refresh(username, password));
+   }
+
+   private static Header login(final RestService restService, final String username, final String password) {
       String token = restService
             .request(POST_LOGIN_USER, new LoginDto(username, password))
             .getBody()
@@ -39,4 +58,15 @@ public class AppAuth extends BaseAuthenticationClient {
       return new Header(AUTHORIZATION_HEADER_KEY, AUTHORIZATION_HEADER_VALUE + token);
    }
 
+   private static Header refresh(final String username, final String password) {
+      Response response = POST_LOGIN_USER.defaultConfiguration()
+            .body(new LoginDto(username, password))
+            .request(POST_LOGIN_USER.method(), POST_LOGIN_USER.url());
+      if (response.getStatusCode() != SC_OK) {
+         throw new IllegalStateException("Expected status " + SC_OK + " but was " + response.getStatusCode());
+      }
+      String token = response.jsonPath().getString(TOKEN.getJsonPath());
+      return new Header(AUTHORIZATION_HEADER_KEY, AUTHORIZATION_HEADER_VALUE + token);
+   }
+
 }
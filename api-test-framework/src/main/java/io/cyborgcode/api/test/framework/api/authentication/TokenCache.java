@@ -0,0 +1,147 @@
+package io.cyborgcode.api.test.framework.api.authentication;
+
+import io.restassured.http.Header;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Suite-wide, credential-keyed cache of authorization headers.
+ * <p>
+ * Built for parallel runs where many tests authenticate with the same credentials at once:
+ * <ul>
+ *   <li><b>Single-flight</b> – the first caller for a credential pair performs the login, every
+ *       concurrent caller for the same pair waits for that one result instead of logging in again.</li>
+ *   <li><b>TTL</b> – a cached header is reused until its time-to-live elapses, after which the next
+ *       caller logs in again (still single-flight).</li>
+ *   <li><b>Refresh-ahead</b> – once a header enters the refresh window before expiry, the first caller
+ *       to see it starts one refresh on a background daemon thread; every caller, including that
+ *       one, keeps receiving the still valid header until the refreshed one replaces it.</li>
+ * </ul>
+ * A first login, or a login after expiry, runs on the calling thread with the caller's {@code login}
+ * supplier, so the round trip is reported in the quest that needs it. A refresh may outlive that
+ * quest, so it runs the separate {@code refresh} supplier, which must not use a quest. A failed login
+ * is not cached; the next caller retries. A failed refresh keeps the current header in use until it
+ * expires, and the next caller after the failure starts another refresh.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+final class TokenCache {
+
+   private static final Logger LOGGER = LogManager.getLogger(TokenCache.class);
+
+   private final Map<CredentialKey, CompletableFuture<Token>> tokens = new ConcurrentHashMap<>();
+   private final long ttlNanos;
+   private final long refreshAheadNanos;
+   private final LongSupplier clock;
+   private final Executor refresher;
+
+   TokenCache(Duration ttl, Duration refreshAhead) {
+      this(ttl, refreshAhead, System::nanoTime, Executors.newSingleThreadExecutor(runnable -> {
+         Thread thread = new Thread(runnable, "auth-token-refresh");
+         thread.setDaemon(true);
+         return thread;
+      }));
+   }
+
+   TokenCache(Duration ttl, Duration refreshAhead, LongSupplier clock, Executor refresher) {
+      this.ttlNanos = ttl.toNanos();
+      this.refreshAheadNanos = Math.min(refreshAhead.toNanos(), ttlNanos);
+      this.clock = clock;
+      this.refresher = refresher;
+   }
+
+   /**
+    * Returns the cached header for the credentials, logging in at most once per credential pair
+    * when there is no valid header yet.
+    *
+    * @param username user name the header belongs to.
+    * @param password password the header belongs to.
+    * @param login    performs the login round trip on the calling thread.
+    * @param refresh  performs the login round trip for a background refresh, without a quest.
+    * @return a valid authorization header.
+    */
+   Header get(String username, String password, Supplier<Header> login, Supplier<Header> refresh) {
+      if (ttlNanos <= 0) {
+         return login.get();
+      }
+      CredentialKey key = new CredentialKey(username, password);
+      while (true) {
+         CompletableFuture<Token> current = tokens.get(key);
+         if (current == null) {
+            CompletableFuture<Token> created = new CompletableFuture<>();
+            current = tokens.putIfAbsent(key, created);
+            if (current == null) {
+               return loginAsLeader(key, created, login).header();
+            }
+         }
+
+         Token token;
+         try {
+            token = current.join();
+         } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+         }
+
+         long now = clock.getAsLong();
+         if (now - token.expiresAt() >= 0) {
+            tokens.remove(key, current);
+            continue;
+         }
+         if (now - token.refreshAt() >= 0 && token.refreshing().compareAndSet(false, true)) {
+            CompletableFuture<Token> slot = current;
+            refresher.execute(() -> refresh(key, slot, token, refresh));
+         }
+         return token.header();
+      }
+   }
+
+   private Token loginAsLeader(CredentialKey key, CompletableFuture<Token> slot, Supplier<Header> login) {
+      try {
+         Token token = issue(login);
+         slot.complete(token);
+         return token;
+      } catch (Throwable e) {
+         tokens.remove(key, slot);
+         slot.completeExceptionally(e);
+         throw e;
+      }
+   }
+
+   private void refresh(CredentialKey key, CompletableFuture<Token> slot, Token stale, Supplier<Header> login) {
+      try {
+         tokens.replace(key, slot, CompletableFuture.completedFuture(issue(login)));
+      } catch (RuntimeException e) {
+         LOGGER.warn("Token refresh for '{}' failed, the current token stays in use", key.username(), e);
+         stale.refreshing().set(false);
+      }
+   }
+
+   private Token issue(Supplier<Header> login) {
+      long issuedAt = clock.getAsLong();
+      return new Token(login.get(), issuedAt + ttlNanos - refreshAheadNanos, issuedAt + ttlNanos,
+            new AtomicBoolean());
+   }
+
+   private record CredentialKey(String username, String password) {
+
+      @Override
+      public String toString() {
+         return username;
+      }
+
+   }
+
+   private record Token(Header header, long refreshAt, long expiresAt, AtomicBoolean refreshing) {
+   }
+
+}
@@ -0,0 +1,121 @@
+package io.cyborgcode.api.test.framework.api.cache;
+
+import io.cyborgcode.api.test.framework.config.Tuning;
+import io.cyborgcode.test.support.RunLifecycle;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Single-flight layer for idempotent requests.
+ * <p>
+ * When parallel tests send the same {@code GET} or {@code HEAD} request (same {@link RequestKey}) to
+ * an endpoint that opts in on its {@code AppEndpoints} constant at the same time, only the first one
+ * goes to the server; requests arriving while it is in flight
+ * wait for its response instead of sending their own. Each waiting request receives a separate copy
+ * of the response, so every quest stores and reads its own instance. A failed request fails all of
+ * its waiting requests with the same exception. Nothing is kept once the request has completed;
+ * reusing responses afterwards is the job of {@link ResponseCache}.
+ * <p>
+ * The number of requests answered by another request in flight is exposed via {@link #coalesced()}
+ * and logged at the end of the run. Off by default, so every test sends its own requests; enable
+ * with {@code api.coalescing.enabled=true}.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class RequestCoalescer implements Filter {
+
+   private static final Logger LOGGER = LogManager.getLogger(RequestCoalescer.class);
+   private static final Set<String> IDEMPOTENT = Set.of("GET", "HEAD");
+
+   private final Map<RequestKey, CompletableFuture<ResponseSnapshot>> inFlight = new ConcurrentHashMap<>();
+   private final LongAdder sent = new LongAdder();
+   private final LongAdder coalesced = new LongAdder();
+
+   RequestCoalescer() {
+   }
+
+   /**
+    * Returns whether request coalescing is enabled for the active environment.
+    *
+    * @return the value of {@code api.coalescing.enabled}.
+    */
+   public static boolean enabled() {
+      return Tuning.config().coalescingEnabled();
+   }
+
+   /**
+    * Returns the suite-wide coalescer.
+    *
+    * @return the shared filter.
+    */
+   public static RequestCoalescer instance() {
+      return Holder.INSTANCE;
+   }
+
+   public long sent() {
+      return sent.sum();
+   }
+
+   public long coalesced() {
+      return coalesced.sum();
+   }
+
+   @Override
+   public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+                          FilterContext context) {
+      if (!IDEMPOTENT.contains(requestSpec.getMethod().toUpperCase())) {
+         return context.next(requestSpec, responseSpec);
+      }
+      RequestKey key = RequestKey.of(requestSpec);
+      CompletableFuture<ResponseSnapshot> own = new CompletableFuture<>();
+      CompletableFuture<ResponseSnapshot> leader = inFlight.putIfAbsent(key, own);
+      if (leader != null) {
+         coalesced.increment();
+         return await(leader).toResponse();
+      }
+
+      sent.increment();
+      try {
+         Response response = context.next(requestSpec, responseSpec);
+         own.complete(ResponseSnapshot.of(response));
+         return response;
+      } catch (RuntimeException | Error e) {
+         own.completeExceptionally(e);
+         throw e;
+      } finally {
+         inFlight.remove(key, own);
+      }
+   }
+
+   private static ResponseSnapshot await(CompletableFuture<ResponseSnapshot> leader) {
+      try {
+         return leader.join();
+      } catch (CompletionException e) {
+         throw e.getCause() instanceof RuntimeException cause ? cause : e;
+      }
+   }
+
+   private static final class Holder {
+
+      private static final RequestCoalescer INSTANCE = new RequestCoalescer();
+
+      static {
+         RunLifecycle.onShutdown("request coalescing report", () -> LOGGER.info(
+               "Request coalescing: {} requests sent, {} answered by a request already in flight", INSTANCE.sent(),
+               INSTANCE.coalesced()));
+      }
+
+   }
+
+}
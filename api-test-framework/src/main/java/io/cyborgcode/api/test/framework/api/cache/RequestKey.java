@@ -0,0 +1,61 @@
+package io.cyborgcode.api.test.framework.api.cache;
+
+import io.restassured.http.Headers;
+import io.restassured.specification.FilterableRequestSpecification;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+
+import static io.cyborgcode.api.test.framework.data.constants.Headers.API_KEY_HEADER;
+import static io.cyborgcode.api.test.framework.data.constants.Headers.AUTHORIZATION_HEADER_KEY;
+
+/**
+ * Identity of a request for sharing its response: method, resolved URL (path parameters already
+ * substituted), query parameters in sorted order and a hash of the headers that select a different
+ * response, i.e. the caller identity ({@code Authorization}, {@code x-api-key}, {@code Cookie}) and
+ * conditional {@code If-None-Match}. Credentials are only kept as part of the hash.
+ *
+ * @param method  HTTP method.
+ * @param url     URL without the query string.
+ * @param query   raw query parameters, sorted.
+ * @param headers hex SHA-256 of the response-selecting headers.
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+record RequestKey(String method, String url, List<String> query, String headers) {
+
+   private static final List<String> SELECTING_HEADERS =
+         List.of(AUTHORIZATION_HEADER_KEY, API_KEY_HEADER, "Cookie", "If-None-Match");
+
+   static RequestKey of(FilterableRequestSpecification requestSpec) {
+      return of(requestSpec.getMethod(), requestSpec.getURI(), requestSpec.getHeaders());
+   }
+
+   static RequestKey of(String method, String resolvedUri, Headers headers) {
+      URI uri = URI.create(resolvedUri);
+      String url = uri.getScheme() + "://" + uri.getRawAuthority() + uri.getRawPath();
+      List<String> query = new ArrayList<>();
+      if (uri.getRawQuery() != null) {
+         query.addAll(Arrays.asList(uri.getRawQuery().split("&")));
+         query.sort(null);
+      }
+      return new RequestKey(method, url, query, digest(headers));
+   }
+
+   private static String digest(Headers headers) {
+      try {
+         MessageDigest digest = MessageDigest.getInstance("SHA-256");
+         for (String name : SELECTING_HEADERS) {
+            digest.update((name + '=' + headers.getValues(name) + '\n').getBytes(StandardCharsets.UTF_8));
+         }
+         return HexFormat.of().formatHex(digest.digest());
+      } catch (NoSuchAlgorithmException e) {
+         throw new IllegalStateException(e);
+      }
+   }
+
+}
@@ -0,0 +1,168 @@
+package io.cyborgcode.api.test.framework.api.cache;
+
+import io.cyborgcode.api.test.framework.config.Tuning;
+import io.cyborgcode.api.test.framework.config.TuningProperties;
+import io.cyborgcode.test.support.RunLifecycle;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Run-wide cache for {@code GET} responses of endpoints that opt in on their {@code AppEndpoints}
+ * constant.
+ * <p>
+ * Responses are keyed by {@link RequestKey}: method, resolved URL, sorted query parameters and the
+ * caller identity, so users never see each other's responses. Only {@code 200} responses are stored:
+ * <ul>
+ *   <li>a response with an {@code ETag} is revalidated on every hit with {@code If-None-Match};
+ *       a {@code 304} is answered from the cache, anything else replaces the entry,</li>
+ *   <li>a response without an {@code ETag} is treated as reference data that does not change
+ *       during the run and is served from the cache without a request.</li>
+ * </ul>
+ * Entries are evicted least recently used first once their bodies exceed
+ * {@code api.cache.max.bytes} or their number exceeds {@code api.cache.max.entries}.
+ * Hits, misses, hit ratio and bytes served from the cache are logged at the end of the run.
+ * Off by default, so timings and load runs measure the service; enable with
+ * {@code api.cache.enabled=true}.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class ResponseCache implements Filter {
+
+   private static final Logger LOGGER = LogManager.getLogger(ResponseCache.class);
+   private static final String IF_NONE_MATCH = "If-None-Match";
+   private static final int NOT_MODIFIED = 304;
+
+   private final Map<RequestKey, ResponseSnapshot> entries = new LinkedHashMap<>(16, 0.75f, true);
+   private final long maxBytes;
+   private final int maxEntries;
+   private final LongAdder hits = new LongAdder();
+   private final LongAdder revalidations = new LongAdder();
+   private final LongAdder misses = new LongAdder();
+   private final LongAdder bytesSaved = new LongAdder();
+   private long bytes;
+
+   private ResponseCache(TuningProperties tuning) {
+      this.maxBytes = tuning.cacheMaxBytes();
+      this.maxEntries = tuning.cacheMaxEntries();
+      RunLifecycle.onShutdown("response cache report", () -> LOGGER.info("Response cache: {}", metrics()));
+   }
+
+   /**
+    * Returns whether response caching is enabled for the active environment.
+    *
+    * @return the value of {@code api.cache.enabled}.
+    */
+   public static boolean enabled() {
+      return Tuning.config().cacheEnabled();
+   }
+
+   /**
+    * Returns the suite-wide cache.
+    *
+    * @return the shared cache filter.
+    */
+   public static ResponseCache instance() {
+      return Holder.INSTANCE;
+   }
+
+   /**
+    * Returns a snapshot of the cache usage.
+    *
+    * @return the current cache metrics.
+    */
+   public Metrics metrics() {
+      synchronized (entries) {
+         return new Metrics(hits.sum(), revalidations.sum(), misses.sum(), bytesSaved.sum(), entries.size(), bytes);
+      }
+   }
+
+   @Override
+   public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+                          FilterContext context) {
+      if (!"GET".equalsIgnoreCase(requestSpec.getMethod())) {
+         return context.next(requestSpec, responseSpec);
+      }
+      RequestKey key = RequestKey.of(requestSpec);
+      ResponseSnapshot cached;
+      synchronized (entries) {
+         cached = entries.get(key);
+      }
+      if (cached != null && cached.etag() == null) {
+         hits.increment();
+         bytesSaved.add(cached.body().length);
+         return cached.toResponse();
+      }
+      if (cached != null) {
+         requestSpec.header(IF_NONE_MATCH, cached.etag());
+      }
+
+      Response response = context.next(requestSpec, responseSpec);
+      if (cached != null && response.getStatusCode() == NOT_MODIFIED) {
+         hits.increment();
+         revalidations.increment();
+         bytesSaved.add(cached.body().length);
+         return cached.toResponse();
+      }
+      misses.increment();
+      if (response.getStatusCode() == 200) {
+         store(key, ResponseSnapshot.of(response));
+      }
+      return response;
+   }
+
+   private void store(RequestKey key, ResponseSnapshot entry) {
+      if (entry.body().length > maxBytes) {
+         return;
+      }
+      synchronized (entries) {
+         ResponseSnapshot previous = entries.put(key, entry);
+         bytes += entry.body().length - (previous != null ? previous.body().length : 0);
+         Iterator<ResponseSnapshot> eldest = entries.values().iterator();
+         while ((bytes > maxBytes || entries.size() > maxEntries) && eldest.hasNext()) {
+            bytes -= eldest.next().body().length;
+            eldest.remove();
+         }
+      }
+   }
+
+   /**
+    * Cache usage.
+    *
+    * @param hits          requests answered from the cache, including revalidated ones.
+    * @param revalidations hits confirmed by the server with {@code 304 Not Modified}.
+    * @param misses        requests answered by the server with a full response.
+    * @param bytesSaved    response body bytes served from the cache instead of the server.
+    * @param entries       responses currently cached.
+    * @param bytes         body bytes currently cached.
+    */
+   public record Metrics(long hits, long revalidations, long misses, long bytesSaved, int entries, long bytes) {
+
+      public double hitRatio() {
+         long total = hits + misses;
+         return total == 0 ? 0 : (double) hits / total;
+      }
+
+      @Override
+      public String toString() {
+         return String.format("%d hits (%d revalidated), %d misses, hit ratio %.1f%%, %d bytes saved, "
+               + "%d entries holding %d bytes", hits, revalidations, misses, hitRatio() * 100, bytesSaved, entries, bytes);
+      }
+
+   }
+
+   private static final class Holder {
+
+      private static final ResponseCache INSTANCE = new ResponseCache(Tuning.config());
+
+   }
+
+}
@@ -0,0 +1,40 @@
+package io.cyborgcode.api.test.framework.api.cache;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import java.util.List;
+
+/**
+ * Immutable copy of a received response that can be handed out any number of times; every
+ * {@link #toResponse()} builds a new {@link Response}, so callers never share response state.
+ *
+ * @param statusCode  HTTP status code.
+ * @param statusLine  HTTP status line.
+ * @param headers     response headers.
+ * @param contentType response content type.
+ * @param body        response body bytes.
+ * @param etag        value of the {@code ETag} header, {@code null} when absent.
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+record ResponseSnapshot(int statusCode, String statusLine, List<Header> headers, String contentType, byte[] body,
+                        String etag) {
+
+   static ResponseSnapshot of(Response response) {
+      return new ResponseSnapshot(response.getStatusCode(), response.getStatusLine(),
+            List.copyOf(response.getHeaders().asList()), response.getContentType(), response.asByteArray(),
+            response.getHeader("ETag"));
+   }
+
+   Response toResponse() {
+      return new ResponseBuilder()
+            .setStatusCode(statusCode)
+            .setStatusLine(statusLine)
+            .setHeaders(new Headers(headers))
+            .setContentType(contentType)
+            .setBody(body)
+            .build();
+   }
+
+}
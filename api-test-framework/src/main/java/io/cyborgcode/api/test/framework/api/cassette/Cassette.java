@@ -0,0 +1,414 @@
+package io.cyborgcode.api.test.framework.api.cassette;
+
+import io.cyborgcode.api.test.framework.config.Tuning;
+import io.cyborgcode.api.test.framework.config.TuningProperties;
+import io.cyborgcode.test.support.RunLifecycle;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import static io.cyborgcode.api.test.framework.data.constants.Headers.AUTHORIZATION_HEADER_KEY;
+
+/**
+ * Record-and-replay of API exchanges through a binary cassette file.
+ * <p>
+ * Selected with {@code api.cassette.mode}:
+ * <ul>
+ *   <li>{@link Mode#RECORD} – requests go to the server as usual and every exchange is appended to
+ *       the cassette ({@code api.cassette.file}), which is started afresh for the run,</li>
+ *   <li>{@link Mode#REPLAY} – no request leaves the JVM; the cassette is memory-mapped, indexed once
+ *       by request fingerprint, and each request is answered from the recorded response,</li>
+ *   <li>{@link Mode#OFF} – the filter is not installed.</li>
+ * </ul>
+ * Every entry carries two fingerprints. The strict one covers method, URL, sorted query parameters,
+ * request body and {@code Authorization} header; the lenient one only method, URL and sorted query
+ * parameters. With {@code api.cassette.matching=STRICT} a request must match a strict fingerprint;
+ * with {@code LENIENT} it falls back to the lenient one, e.g. for bodies with generated values. A
+ * request without a match fails. Requests recorded several times are replayed in recording order,
+ * starting over after the last one.
+ * <p>
+ * File layout: the magic {@code ROACAS01}, followed by records of
+ * {@code [int length][32 byte strict][32 byte lenient][method][url][int status][status line]
+ * [content type][int header count][name, value]*[int body length][body]}, strings as
+ * {@code [int length][UTF-8]}.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class Cassette implements Filter {
+
+   private static final Logger LOGGER = LogManager.getLogger(Cassette.class);
+   private static final byte[] MAGIC = "ROACAS01".getBytes(StandardCharsets.US_ASCII);
+   private static final int FINGERPRINT_BYTES = 32;
+
+   private final Mode mode;
+   private final Matching matching;
+   private final Path file;
+   private final LongAdder recorded = new LongAdder();
+   private final LongAdder replayed = new LongAdder();
+   private FileChannel recording;
+   private MappedByteBuffer tape;
+   private Map<String, Track> strictIndex;
+   private Map<String, Track> lenientIndex;
+
+   /**
+    * Cassette operating mode.
+    */
+   public enum Mode {
+      OFF,
+      RECORD,
+      REPLAY
+   }
+
+   /**
+    * Request matching used in replay.
+    */
+   public enum Matching {
+      STRICT,
+      LENIENT
+   }
+
+   private Cassette(TuningProperties tuning) {
+      this(tuning.cassetteMode(), tuning.cassetteMatching(), Path.of(tuning.cassetteFile()));
+   }
+
+   Cassette(Mode mode, Matching matching, Path file) {
+      this.mode = mode;
+      this.matching = matching;
+      this.file = file;
+      try {
+         if (mode == Mode.RECORD) {
+            startRecording();
+         } else if (mode == Mode.REPLAY) {
+            loadTape();
+         }
+      } catch (IOException e) {
+         throw new UncheckedIOException("Cannot open API cassette " + file.toAbsolutePath(), e);
+      }
+   }
+
+   /**
+    * Returns the cassette mode of the active environment.
+    *
+    * @return the value of {@code api.cassette.mode}.
+    */
+   public static Mode mode() {
+      return Tuning.config().cassetteMode();
+   }
+
+   /**
+    * Returns the suite-wide cassette, opening the file on first use.
+    *
+    * @return the shared filter.
+    */
+   public static Cassette instance() {
+      return Holder.INSTANCE;
+   }
+
+   public long recorded() {
+      return recorded.sum();
+   }
+
+   public long replayed() {
+      return replayed.sum();
+   }
+
+   /**
+    * Flushes and closes a recording and logs how many exchanges were recorded or replayed. Later
+    * exchanges are no longer recorded. Runs at the end of the run for the suite-wide cassette.
+    */
+   void close() {
+      if (mode == Mode.RECORD) {
+         try {
+            synchronized (this) {
+               if (!recording.isOpen()) {
+                  return;
+               }
+               recording.force(true);
+               recording.close();
+            }
+         } catch (IOException e) {
+            throw new UncheckedIOException("Cannot close API cassette " + file.toAbsolutePath(), e);
+         }
+         LOGGER.info("API cassette: {} exchanges recorded to {}", recorded.sum(), file.toAbsolutePath());
+      } else if (mode == Mode.REPLAY) {
+         LOGGER.info("API cassette: {} requests replayed", replayed.sum());
+      }
+   }
+
+   @Override
+   public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+                          FilterContext context) {
+      if (mode == Mode.REPLAY) {
+         return replay(requestSpec);
+      }
+      Response response = context.next(requestSpec, responseSpec);
+      if (mode == Mode.RECORD) {
+         record(requestSpec, response);
+      }
+      return response;
+   }
+
+   private void startRecording() throws IOException {
+      if (file.getParent() != null) {
+         Files.createDirectories(file.getParent());
+      }
+      recording = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING);
+      recording.write(ByteBuffer.wrap(MAGIC));
+   }
+
+   private void record(FilterableRequestSpecification requestSpec, Response response) {
+      Encoder record = new Encoder();
+      record.bytes(fingerprint(requestSpec, Matching.STRICT));
+      record.bytes(fingerprint(requestSpec, Matching.LENIENT));
+      record.string(requestSpec.getMethod());
+      record.string(requestSpec.getURI());
+      record.integer(response.getStatusCode());
+      record.string(response.getStatusLine());
+      record.string(response.getContentType());
+      List<Header> headers = response.getHeaders().asList();
+      record.integer(headers.size());
+      for (Header header : headers) {
+         record.string(header.getName());
+         record.string(header.getValue());
+      }
+      byte[] body = response.asByteArray();
+      record.integer(body.length);
+      record.bytes(body);
+      ByteBuffer buffer = record.framed();
+      try {
+         synchronized (this) {
+            if (!recording.isOpen()) {
+               return;
+            }
+            while (buffer.hasRemaining()) {
+               recording.write(buffer);
+            }
+         }
+         recorded.increment();
+      } catch (IOException e) {
+         throw new UncheckedIOException("Cannot append to API cassette " + file.toAbsolutePath(), e);
+      }
+   }
+
+   private void loadTape() throws IOException {
+      try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+         if (channel.size() > Integer.MAX_VALUE) {
+            throw new IllegalStateException("API cassette larger than 2 GB: " + file.toAbsolutePath());
+         }
+         tape = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      }
+      byte[] magic = new byte[MAGIC.length];
+      ByteBuffer reader = tape.duplicate();
+      reader.get(magic);
+      if (!Arrays.equals(magic, MAGIC)) {
+         throw new IllegalStateException("Not an API cassette: " + file.toAbsolutePath());
+      }
+      Map<String, List<Integer>> strict = new HashMap<>();
+      Map<String, List<Integer>> lenient = new HashMap<>();
+      int entries = 0;
+      while (reader.remaining() >= Integer.BYTES) {
+         int length = reader.getInt();
+         int start = reader.position();
+         if (length > reader.remaining()) {
+            LOGGER.warn("API cassette {} ends with a truncated entry, ignoring it", file.toAbsolutePath());
+            break;
+         }
+         strict.computeIfAbsent(fingerprintAt(start), key -> new ArrayList<>()).add(start);
+         lenient.computeIfAbsent(fingerprintAt(start + FINGERPRINT_BYTES), key -> new ArrayList<>()).add(start);
+         reader.position(start + length);
+         entries++;
+      }
+      strictIndex = index(strict);
+      lenientIndex = index(lenient);
+      LOGGER.info("API cassette: replaying {} exchanges from {} ({} matching)", entries, file.toAbsolutePath(),
+            matching);
+   }
+
+   private Response replay(FilterableRequestSpecification requestSpec) {
+      Track track = strictIndex.get(HexFormat.of().formatHex(fingerprint(requestSpec, Matching.STRICT)));
+      if (track == null && matching == Matching.LENIENT) {
+         track = lenientIndex.get(HexFormat.of().formatHex(fingerprint(requestSpec, Matching.LENIENT)));
+      }
+      if (track == null) {
+         throw new IllegalStateException(String.format("No %s cassette entry for %s %s in %s", matching,
+               requestSpec.getMethod(), requestSpec.getURI(), file.toAbsolutePath()));
+      }
+      replayed.increment();
+      return read(track.next());
+   }
+
+   private Response read(int position) {
+      Decoder entry = new Decoder(tape.duplicate().position(position + 2 * FINGERPRINT_BYTES));
+      entry.string();
+      entry.string();
+      int status = entry.integer();
+      String statusLine = entry.string();
+      String contentType = entry.string();
+      int headerCount = entry.integer();
+      List<Header> headers = new ArrayList<>(headerCount);
+      for (int i = 0; i < headerCount; i++) {
+         headers.add(new Header(entry.string(), entry.string()));
+      }
+      byte[] body = entry.bytes(entry.integer());
+      return new ResponseBuilder()
+            .setStatusCode(status)
+            .setStatusLine(statusLine)
+            .setHeaders(new Headers(headers))
+            .setContentType(contentType)
+            .setBody(body)
+            .build();
+   }
+
+   private String fingerprintAt(int position) {
+      byte[] fingerprint = new byte[FINGERPRINT_BYTES];
+      tape.get(position, fingerprint);
+      return HexFormat.of().formatHex(fingerprint);
+   }
+
+   private static Map<String, Track> index(Map<String, List<Integer>> positions) {
+      Map<String, Track> index = new HashMap<>(positions.size() * 2);
+      positions.forEach((fingerprint, list) ->
+            index.put(fingerprint, new Track(list.stream().mapToInt(Integer::intValue).toArray())));
+      return index;
+   }
+
+   private static byte[] fingerprint(FilterableRequestSpecification requestSpec, Matching matching) {
+      URI uri = URI.create(requestSpec.getURI());
+      List<String> query = uri.getRawQuery() == null
+            ? new ArrayList<>()
+            : new ArrayList<>(Arrays.asList(uri.getRawQuery().split("&")));
+      query.sort(null);
+      try {
+         MessageDigest digest = MessageDigest.getInstance("SHA-256");
+         update(digest, requestSpec.getMethod());
+         update(digest, uri.getScheme() + "://" + uri.getRawAuthority() + uri.getRawPath());
+         update(digest, String.join("&", query));
+         if (matching == Matching.STRICT) {
+            update(digest, String.valueOf(requestSpec.getHeaders().getValues(AUTHORIZATION_HEADER_KEY)));
+            Object body = requestSpec.getBody();
+            if (body instanceof byte[] bytes) {
+               digest.update(bytes);
+            } else if (body != null) {
+               update(digest, body.toString());
+            }
+         }
+         return digest.digest();
+      } catch (NoSuchAlgorithmException e) {
+         throw new IllegalStateException(e);
+      }
+   }
+
+   private static void update(MessageDigest digest, String value) {
+      digest.update(value.getBytes(StandardCharsets.UTF_8));
+      digest.update((byte) 0);
+   }
+
+   /**
+    * Recorded entries of one fingerprint, handed out in recording order and then from the start.
+    */
+   private static final class Track {
+
+      private final int[] positions;
+      private final AtomicInteger next = new AtomicInteger();
+
+      private Track(int[] positions) {
+         this.positions = positions;
+      }
+
+      private int next() {
+         return positions[Math.floorMod(next.getAndIncrement(), positions.length)];
+      }
+
+   }
+
+   private static final class Encoder {
+
+      private final List<byte[]> parts = new ArrayList<>();
+      private int length;
+
+      private void bytes(byte[] value) {
+         parts.add(value);
+         length += value.length;
+      }
+
+      private void integer(int value) {
+         bytes(ByteBuffer.allocate(Integer.BYTES).putInt(value).array());
+      }
+
+      private void string(String value) {
+         byte[] utf8 = (value != null ? value : "").getBytes(StandardCharsets.UTF_8);
+         integer(utf8.length);
+         bytes(utf8);
+      }
+
+      private ByteBuffer framed() {
+         ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES + length).putInt(length);
+         parts.forEach(buffer::put);
+         return buffer.flip();
+      }
+
+   }
+
+   private static final class Decoder {
+
+      private final ByteBuffer buffer;
+
+      private Decoder(ByteBuffer buffer) {
+         this.buffer = buffer;
+      }
+
+      private int integer() {
+         return buffer.getInt();
+      }
+
+      private byte[] bytes(int length) {
+         byte[] value = new byte[length];
+         buffer.get(value);
+         return value;
+      }
+
+      private String string() {
+         return new String(bytes(integer()), StandardCharsets.UTF_8);
+      }
+
+   }
+
+   private static final class Holder {
+
+      private static final Cassette INSTANCE = new Cassette(Tuning.config());
+
+      static {
+         RunLifecycle.onShutdown("API cassette close", INSTANCE::close);
+      }
+
+   }
+
+}
@@ -1,5 +1,9 @@
 package io.cyborgcode.api.test.framework.api.extractors;
 
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
 /**
  * Central registry of JSON path expressions used across the tutorial tests.
  * <p>
@@ -11,6 +15,12 @@ package io.cyborgcode.api.test.framework.api.extractors;
  *   <li>easy to update in one place if the API contract changes.</li>
  * </ul>
  * Supports indexed paths via {@link #getJsonPath(Object...)} for list-based responses.
+ * <p>
+ * Each constant also holds a precompiled {@link JsonPointer} so values can be read from an
+ * already parsed body without re-parsing the path ({@link #read(JsonNode, int...)}); the
+ * performance ring's assertion profiles evaluate through these pointers. Indexed variants such as
+ * {@link #USER_ID} are formatted and compiled once for the first {@value #CACHED_INDICES} indices,
+ * which covers a Reqres page; higher indices are formatted on every call, so the caches stay bounded.
  *
  * @author Cyborg Code Syndicate 💍👨💻
  */
@@ -44,10 +54,20 @@ public enum ApiResponsesJsonPaths {
    TOKEN("token"),
    ERROR("error");
 
+   private static final int CACHED_INDICES = 16;
+
    private final String jsonPath;
+   private final boolean indexed;
+   private final JsonPointer jsonPointer;
+   private final AtomicReferenceArray<String> indexedJsonPaths;
+   private final AtomicReferenceArray<JsonPointer> indexedJsonPointers;
 
    ApiResponsesJsonPaths(String jsonPath) {
       this.jsonPath = jsonPath;
+      this.indexed = jsonPath.contains("%d");
+      this.jsonPointer = indexed ? null : JsonPointers.compileStrict(jsonPath);
+      this.indexedJsonPaths = indexed ? new AtomicReferenceArray<>(CACHED_INDICES) : null;
+      this.indexedJsonPointers = indexed ? new AtomicReferenceArray<>(CACHED_INDICES) : null;
    }
 
    /**
@@ -59,9 +79,58 @@ public enum ApiResponsesJsonPaths {
     */
    public String getJsonPath(Object... args) {
       if (args != null && args.length > 0) {
+         if (indexed && args.length == 1 && args[0] instanceof Integer index && isCached(index)) {
+            String path = indexedJsonPaths.get(index);
+            if (path == null) {
+               path = String.format(jsonPath, index);
+               indexedJsonPaths.set(index, path);
+            }
+            return path;
+         }
          return String.format(jsonPath, args);
       }
       return jsonPath;
    }
 
+   /**
+    * Returns the precompiled JSON pointer for this path.
+    * For indexed paths, exactly one index must be supplied; pointers for small indices are cached.
+    *
+    * @param index Optional list index for indexed paths (e.g. {@link #USER_ID}).
+    * @return The compiled pointer.
+    */
+   public JsonPointer getJsonPointer(int... index) {
+      if (!indexed) {
+         return jsonPointer;
+      }
+      if (index == null || index.length != 1) {
+         throw new IllegalArgumentException(name() + " is an indexed path and requires exactly one index");
+      }
+      int i = index[0];
+      if (!isCached(i)) {
+         return JsonPointers.compileStrict(getJsonPath(i));
+      }
+      JsonPointer pointer = indexedJsonPointers.get(i);
+      if (pointer == null) {
+         pointer = JsonPointers.compileStrict(getJsonPath(i));
+         indexedJsonPointers.set(i, pointer);
+      }
+      return pointer;
+   }
+
+   /**
+    * Reads the value of this path from an already parsed response body.
+    *
+    * @param document Parsed response body.
+    * @param index    Optional list index for indexed paths.
+    * @return The node at this path, or a missing node if the path does not exist.
+    */
+   public JsonNode read(JsonNode document, int... index) {
+      return document.at(getJsonPointer(index));
+   }
+
+   private static boolean isCached(int index) {
+      return index >= 0 && index < CACHED_INDICES;
+   }
+
 }
@@ -0,0 +1,85 @@
+package io.cyborgcode.api.test.framework.api.extractors;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Compiles the simple GPath-style keys used in body assertions into Jackson {@link JsonPointer}s.
+ * <p>
+ * Only plain navigation paths are supported ({@code support.url}, {@code data[0].first_name},
+ * {@code data}). Keys that use GPath features such as closures, method calls or wildcards
+ * are reported as not compilable so callers can fall back to the regular string-based evaluation.
+ * Compiled pointers are cached by key, so each distinct path is parsed only once per run. The cache
+ * holds at most {@value #MAX_CACHED_PATHS} paths; paths beyond that, e.g. indexed paths for large
+ * indices, are parsed on every call, so the cache cannot grow with the data a suite sees.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class JsonPointers {
+
+   private static final Pattern SIMPLE_PATH = Pattern.compile("[A-Za-z_$][\\w$-]*(\\[\\d+])*(\\.[A-Za-z_$][\\w$-]*(\\[\\d+])*)*");
+   private static final int MAX_CACHED_PATHS = 1024;
+   private static final Map<String, Optional<JsonPointer>> CACHE = new ConcurrentHashMap<>();
+
+   private JsonPointers() {
+   }
+
+   /**
+    * Compiles the given path into a {@link JsonPointer}.
+    *
+    * @param path GPath-style key, e.g. {@code data[0].first_name}.
+    * @return the compiled pointer, or empty if the path uses unsupported syntax.
+    */
+   public static Optional<JsonPointer> compile(String path) {
+      if (path == null) {
+         return Optional.empty();
+      }
+      Optional<JsonPointer> cached = CACHE.get(path);
+      if (cached != null) {
+         return cached;
+      }
+      Optional<JsonPointer> parsed = parse(path);
+      if (CACHE.size() < MAX_CACHED_PATHS) {
+         CACHE.putIfAbsent(path, parsed);
+      }
+      return parsed;
+   }
+
+   static int cachedPaths() {
+      return CACHE.size();
+   }
+
+   /**
+    * Compiles the given path, failing fast if it cannot be represented as a pointer.
+    *
+    * @param path GPath-style key, e.g. {@code support.url}.
+    * @return the compiled pointer.
+    * @throws IllegalArgumentException if the path uses unsupported syntax.
+    */
+   public static JsonPointer compileStrict(String path) {
+      return compile(path).orElseThrow(
+            () -> new IllegalArgumentException("JSON path cannot be compiled to a pointer: " + path));
+   }
+
+   private static Optional<JsonPointer> parse(String path) {
+      if (!SIMPLE_PATH.matcher(path).matches()) {
+         return Optional.empty();
+      }
+      StringBuilder pointer = new StringBuilder(path.length() + 8);
+      for (String segment : path.split("\\.")) {
+         int bracket = segment.indexOf('[');
+         String field = bracket < 0 ? segment : segment.substring(0, bracket);
+         pointer.append('/').append(field.replace("~", "~0").replace("/", "~1"));
+         while (bracket >= 0) {
+            int close = segment.indexOf(']', bracket);
+            pointer.append('/').append(segment, bracket + 1, close);
+            bracket = segment.indexOf('[', close);
+         }
+      }
+      return Optional.of(JsonPointer.compile(pointer.toString()));
+   }
+
+}
@@ -0,0 +1,63 @@
+package io.cyborgcode.api.test.framework.api.fanout;
+
+import io.cyborgcode.api.test.framework.api.validation.AssertionProfile;
+import io.cyborgcode.roa.api.core.Endpoint;
+import io.cyborgcode.roa.validator.core.Assertion;
+import java.util.List;
+
+/**
+ * One independent request of a fan-out: the endpoint, an optional body and the assertions to
+ * evaluate against its response, given one by one or as an {@link AssertionProfile}.
+ * <pre>{@code
+ * ApiCall.of(GET_USER.withPathParam(ID_PARAM, ID_THREE),
+ *       Assertion.builder().target(STATUS).type(IS).expected(SC_OK).build());
+ * }</pre>
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class ApiCall {
+
+   private final Endpoint<?> endpoint;
+   private final Object body;
+   private final List<Assertion> assertions;
+
+   private ApiCall(Endpoint<?> endpoint, Object body, Assertion... assertions) {
+      this.endpoint = endpoint;
+      this.body = body;
+      this.assertions = List.of(assertions);
+   }
+
+   public static ApiCall of(Endpoint<?> endpoint, Assertion... assertions) {
+      return new ApiCall(endpoint, null, assertions);
+   }
+
+   public static ApiCall of(Endpoint<?> endpoint, Object body, Assertion... assertions) {
+      return new ApiCall(endpoint, body, assertions);
+   }
+
+   public static ApiCall of(Endpoint<?> endpoint, AssertionProfile profile) {
+      return of(endpoint, null, profile);
+   }
+
+   public static ApiCall of(Endpoint<?> endpoint, Object body, AssertionProfile profile) {
+      return new ApiCall(endpoint, body, profile.assertions().toArray(Assertion[]::new));
+   }
+
+   public Endpoint<?> endpoint() {
+      return endpoint;
+   }
+
+   public Object body() {
+      return body;
+   }
+
+   public List<Assertion> assertions() {
+      return assertions;
+   }
+
+   @Override
+   public String toString() {
+      return "[" + endpoint.enumImpl() + "]";
+   }
+
+}
@@ -0,0 +1,84 @@
+package io.cyborgcode.api.test.framework.api.fanout;
+
+import io.cyborgcode.api.test.framework.config.Tuning;
+import io.cyborgcode.api.test.framework.support.QuestContext;
+import io.cyborgcode.roa.api.service.RestService;
+import io.restassured.response.Response;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executes independent {@link ApiCall}s concurrently.
+ * <p>
+ * Calls run on a shared, bounded pool of daemon threads sized by {@code api.fanout.parallelism},
+ * so a fan-out issued from many parallel tests cannot open an unbounded number of connections.
+ * The caller blocks until every call has finished; a failing call never cancels the others.
+ * Results are returned in declaration order.
+ * <p>
+ * All calls share the caller's {@link RestService} and run with the caller's quest, Allure test case
+ * and latency ring (see {@link QuestContext} for why sharing one service across threads is safe).
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class FanOut {
+
+   private static final ExecutorService EXECUTOR = newExecutor(Tuning.config().fanOutParallelism());
+
+   private FanOut() {
+   }
+
+   /**
+    * Sends all calls concurrently and waits for them to complete.
+    *
+    * @param restService REST service used to send the requests.
+    * @param calls       independent calls to execute.
+    * @return one outcome per call, in the order the calls were given.
+    */
+   public static List<Outcome> execute(RestService restService, List<ApiCall> calls) {
+      List<CompletableFuture<Response>> pending = new ArrayList<>(calls.size());
+      for (ApiCall call : calls) {
+         pending.add(CompletableFuture.supplyAsync(QuestContext.propagate(() -> send(restService, call)), EXECUTOR));
+      }
+
+      List<Outcome> outcomes = new ArrayList<>(calls.size());
+      for (int i = 0; i < calls.size(); i++) {
+         try {
+            outcomes.add(new Outcome(calls.get(i), pending.get(i).join(), null));
+         } catch (CompletionException e) {
+            outcomes.add(new Outcome(calls.get(i), null, e.getCause()));
+         }
+      }
+      return outcomes;
+   }
+
+   private static Response send(RestService restService, ApiCall call) {
+      return call.body() == null
+            ? restService.request(call.endpoint())
+            : restService.request(call.endpoint(), call.body());
+   }
+
+   private static ExecutorService newExecutor(int parallelism) {
+      AtomicInteger counter = new AtomicInteger();
+      return Executors.newFixedThreadPool(Math.max(1, parallelism), runnable -> {
+         Thread thread = new Thread(runnable, "api-fanout-" + counter.incrementAndGet());
+         thread.setDaemon(true);
+         return thread;
+      });
+   }
+
+   /**
+    * Result of one call: either the received response or the failure that prevented it.
+    *
+    * @param call     the executed call.
+    * @param response received response, {@code null} if the request failed.
+    * @param failure  request failure, {@code null} if a response was received.
+    */
+   public record Outcome(ApiCall call, Response response, Throwable failure) {
+   }
+
+}
@@ -1,14 +1,17 @@
 package io.cyborgcode.api.test.framework.api.hooks;
 
+import io.cyborgcode.api.test.framework.config.Tuning;
 import io.cyborgcode.roa.api.hooks.ApiHookFlow;
 import io.cyborgcode.roa.api.service.RestService;
+import java.time.Duration;
 import java.util.Map;
 import org.apache.logging.log4j.util.TriConsumer;
 
 public enum ApiHookFlows implements ApiHookFlow<ApiHookFlows> {
 
-   PING_REQRES(ApiHookFunctions::pingReqres),
-   DELETE_LEADER_USER(ApiHookFunctions::deleteLeaderUser);
+   PING_REQRES(ApiHookFunctions::pingReqres, HookScope.SUITE, Duration.ofMinutes(5)),
+   DELETE_LEADER_USER(ApiHookFunctions::deleteLeaderUser),
+   WARM_USER_POOL(ApiHookFunctions::warmUserPool, HookScope.RUN);
 
    public static final class Data {
       private Data() {
@@ -16,12 +19,26 @@ public enum ApiHookFlows implements ApiHookFlow<ApiHookFlows> {
 
       public static final String PING_REQRES = "PING_REQRES";
       public static final String DELETE_LEADER_USER = "DELETE_LEADER_USER";
+      public static final String WARM_USER_POOL = "WARM_USER_POOL";
    }
 
    private final TriConsumer<RestService, Map<Object, Object>, String[]> flow;
 
    ApiHookFlows(final TriConsumer<RestService, Map<Object, Object>, String[]> flow) {
-      this.flow = flow;
+      this(flow, HookScope.METHOD, Duration.ZERO);
+   }
+
+   ApiHookFlows(final TriConsumer<RestService, Map<Object, Object>, String[]> flow,
+                final HookScope scope) {
+      this(flow, scope, Duration.ZERO);
+   }
+
+   ApiHookFlows(final TriConsumer<RestService, Map<Object, Object>, String[]> flow,
+                final HookScope scope,
+                final Duration ttl) {
+      this.flow = scope == HookScope.METHOD
+            ? flow
+            : new MemoizedHook(name(), scope, ttl, Duration.ofSeconds(Tuning.config().hookFailureTtlSeconds()), flow);
    }
 
    @Override
@@ -1,5 +1,6 @@
 package io.cyborgcode.api.test.framework.api.hooks;
 
+import io.cyborgcode.api.test.framework.data.pool.UserPool;
 import io.cyborgcode.roa.api.service.RestService;
 import io.cyborgcode.roa.validator.core.Assertion;
 import java.util.Map;
@@ -40,4 +41,11 @@ public final class ApiHookFunctions {
       );
    }
 
+   public static void warmUserPool(RestService service,
+                                   Map<Object, Object> storage,
+                                   String[] arguments) {
+
+      UserPool.start();
+   }
+
 }
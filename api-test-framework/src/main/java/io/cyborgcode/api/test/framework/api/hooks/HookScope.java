@@ -0,0 +1,24 @@
+package io.cyborgcode.api.test.framework.api.hooks;
+
+/**
+ * How widely the result of an API hook is shared.
+ * <ul>
+ *   <li>{@link #RUN} – the hook succeeds once per run and is never repeated; the TTL is ignored,</li>
+ *   <li>{@link #SUITE} – one result for the whole run, shared by every class and worker thread,</li>
+ *   <li>{@link #CLASS} – one result per test class (per hook storage),</li>
+ *   <li>{@link #METHOD} – no sharing, the hook runs every time it is triggered.</li>
+ * </ul>
+ * Shared results expire after the TTL declared on the hook, after which the next trigger runs the
+ * hook again. Failures are never shared beyond the triggers already waiting on the failed run; the
+ * next trigger retries the hook.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public enum HookScope {
+
+   RUN,
+   SUITE,
+   CLASS,
+   METHOD
+
+}
@@ -0,0 +1,102 @@
+package io.cyborgcode.api.test.framework.api.hooks;
+
+import io.cyborgcode.roa.api.service.RestService;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.logging.log4j.util.TriConsumer;
+
+/**
+ * Hook flow wrapper that shares a run of a hook within its {@link HookScope} for a TTL.
+ * <p>
+ * Concurrent triggers within the same scope wait for a single execution (single-flight). A success
+ * is remembered until the TTL elapses, or for the rest of the run in the {@link HookScope#RUN}
+ * scope. A failure is remembered for the shorter failure TTL ({@code api.hooks.failure.ttl.seconds}
+ * for {@link ApiHookFlows}), in every scope: triggers within that time fail fast with the original
+ * failure as the cause instead of repeating a check that just failed, e.g. pinging an unreachable
+ * service once per test class. The first trigger after it runs the hook again.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+final class MemoizedHook implements TriConsumer<RestService, Map<Object, Object>, String[]> {
+
+   private static final Map<String, CompletableFuture<Outcome>> SUITE_RESULTS = new ConcurrentHashMap<>();
+   private static final Object CLASS_RESULTS_KEY = MemoizedHook.class;
+
+   private final String name;
+   private final HookScope scope;
+   private final long ttlNanos;
+   private final long failureTtlNanos;
+   private final TriConsumer<RestService, Map<Object, Object>, String[]> delegate;
+
+   MemoizedHook(String name, HookScope scope, Duration ttl, Duration failureTtl,
+                TriConsumer<RestService, Map<Object, Object>, String[]> delegate) {
+      this.name = name;
+      this.scope = scope;
+      this.ttlNanos = ttl.toNanos();
+      this.failureTtlNanos = failureTtl.toNanos();
+      this.delegate = delegate;
+   }
+
+   @Override
+   public void accept(RestService service, Map<Object, Object> storage, String[] arguments) {
+      switch (scope) {
+         case RUN, SUITE -> shared(SUITE_RESULTS, service, storage, arguments);
+         case CLASS -> shared(classResults(storage), service, storage, arguments);
+         default -> delegate.accept(service, storage, arguments);
+      }
+   }
+
+   private void shared(Map<String, CompletableFuture<Outcome>> results, RestService service,
+                       Map<Object, Object> storage, String[] arguments) {
+      String key = name + Arrays.toString(arguments);
+      while (true) {
+         CompletableFuture<Outcome> current = results.get(key);
+         if (current == null) {
+            CompletableFuture<Outcome> created = new CompletableFuture<>();
+            current = results.putIfAbsent(key, created);
+            if (current == null) {
+               run(created, service, storage, arguments);
+               return;
+            }
+         }
+         Outcome outcome = current.join();
+         boolean expired = System.nanoTime() - outcome.expiresAt() >= 0;
+         if (expired && (outcome.failure() != null || scope != HookScope.RUN)) {
+            results.remove(key, current);
+            continue;
+         }
+         if (outcome.failure() != null) {
+            throw new IllegalStateException(
+                  "API hook " + name + " failed in an earlier run of this " + scope.name().toLowerCase() + " scope",
+                  outcome.failure());
+         }
+         return;
+      }
+   }
+
+   private void run(CompletableFuture<Outcome> slot, RestService service, Map<Object, Object> storage,
+                    String[] arguments) {
+      try {
+         delegate.accept(service, storage, arguments);
+         slot.complete(new Outcome(System.nanoTime() + ttlNanos, null));
+      } catch (Throwable e) {
+         slot.complete(new Outcome(System.nanoTime() + failureTtlNanos, e));
+         throw e;
+      }
+   }
+
+   @SuppressWarnings("unchecked")
+   private static Map<String, CompletableFuture<Outcome>> classResults(Map<Object, Object> storage) {
+      synchronized (storage) {
+         return (Map<String, CompletableFuture<Outcome>>) storage.computeIfAbsent(
+               CLASS_RESULTS_KEY, key -> new ConcurrentHashMap<String, CompletableFuture<Outcome>>());
+      }
+   }
+
+   private record Outcome(long expiresAt, Throwable failure) {
+   }
+
+}
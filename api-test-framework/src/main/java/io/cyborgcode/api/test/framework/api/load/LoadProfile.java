@@ -0,0 +1,43 @@
+package io.cyborgcode.api.test.framework.api.load;
+
+import io.cyborgcode.api.test.framework.config.Tuning;
+import io.cyborgcode.api.test.framework.config.TuningProperties;
+import java.time.Duration;
+
+/**
+ * Shape of a load run: how many virtual users, how fast they are started and for how long they
+ * run. With a target rate of {@code 0} the run is a pure closed loop, where every user starts its next
+ * iteration as soon as the previous one finished; with a positive rate iteration starts are paced
+ * across all users so that the run does not exceed it.
+ * <p>
+ * {@link #fromConfig()} reads {@code api.load.users}, {@code api.load.target.rps},
+ * {@code api.load.ramp.up.seconds} and {@code api.load.duration.seconds}, so the same scenario can run
+ * as a short functional check by default and as a full load run with overridden system properties.
+ *
+ * @param users     number of concurrent virtual users.
+ * @param targetRps maximum scenario iterations started per second across all users, {@code 0} for no limit.
+ * @param rampUp    time over which the users are started evenly.
+ * @param duration  total run time, including the ramp-up.
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public record LoadProfile(int users, double targetRps, Duration rampUp, Duration duration) {
+
+   public LoadProfile {
+      if (users < 1) {
+         throw new IllegalArgumentException("A load run needs at least one user");
+      }
+      if (targetRps < 0) {
+         throw new IllegalArgumentException("Target rate must not be negative: " + targetRps);
+      }
+      if (rampUp.compareTo(duration) > 0) {
+         throw new IllegalArgumentException("Ramp-up " + rampUp + " is longer than the run " + duration);
+      }
+   }
+
+   public static LoadProfile fromConfig() {
+      TuningProperties tuning = Tuning.config();
+      return new LoadProfile(tuning.loadUsers(), tuning.loadTargetRps(),
+            Duration.ofSeconds(tuning.loadRampUpSeconds()), Duration.ofSeconds(tuning.loadDurationSeconds()));
+   }
+
+}
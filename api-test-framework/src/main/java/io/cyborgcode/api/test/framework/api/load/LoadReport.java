@@ -0,0 +1,92 @@
+package io.cyborgcode.api.test.framework.api.load;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Outcome of a load run.
+ *
+ * @param scenario         name of the executed scenario.
+ * @param profile          profile the run was executed with.
+ * @param elapsed          actual run time, from the first user start until the last user stopped.
+ * @param iterations       scenario iterations completed without error.
+ * @param failedIterations scenario iterations stopped by a failed step.
+ * @param steps            per-step results, in scenario order.
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public record LoadReport(String scenario, LoadProfile profile, Duration elapsed, long iterations,
+                         long failedIterations, List<StepReport> steps) {
+
+   /**
+    * Returns the completed iterations per second.
+    *
+    * @return scenario throughput.
+    */
+   public double throughput() {
+      return perSecond(iterations);
+   }
+
+   /**
+    * Returns the requests sent per second by all steps.
+    *
+    * @return request rate.
+    */
+   public double requestRate() {
+      return perSecond(steps.stream().mapToLong(StepReport::requests).sum());
+   }
+
+   /**
+    * Returns the share of iterations that failed.
+    *
+    * @return failed iterations divided by all iterations, {@code 0} when none ran.
+    */
+   public double errorRate() {
+      long total = iterations + failedIterations;
+      return total == 0 ? 0 : (double) failedIterations / total;
+   }
+
+   private double perSecond(long count) {
+      long millis = elapsed.toMillis();
+      return millis == 0 ? 0 : count * 1000.0 / millis;
+   }
+
+   @Override
+   public String toString() {
+      StringBuilder text = new StringBuilder(String.format(
+            "Load run '%s' (%d users, %s): %d iterations, %.1f/s, %.1f requests/s, error rate %.2f%%",
+            scenario, profile.users(), elapsed, iterations, throughput(), requestRate(), errorRate() * 100));
+      for (StepReport step : steps) {
+         text.append(System.lineSeparator()).append("  ").append(step);
+      }
+      return text.toString();
+   }
+
+   /**
+    * Result of one scenario step.
+    *
+    * @param name       step name.
+    * @param requests   requests sent.
+    * @param errors     requests that failed or whose assertions failed.
+    * @param p50Millis  median latency.
+    * @param p90Millis  90th percentile latency.
+    * @param p99Millis  99th percentile latency.
+    * @param maxMillis  highest latency.
+    * @param firstError description of the first error, {@code null} when there was none.
+    */
+   public record StepReport(String name, long requests, long errors, double p50Millis, double p90Millis,
+                            double p99Millis, double maxMillis, String firstError) {
+
+      public double errorRate() {
+         return requests == 0 ? 0 : (double) errors / requests;
+      }
+
+      @Override
+      public String toString() {
+         return String.format("%s: %d requests, %d errors, p50 %.1f ms, p90 %.1f ms, p99 %.1f ms, max %.1f ms%s",
+               name, requests, errors, p50Millis, p90Millis, p99Millis, maxMillis,
+               firstError != null ? ", first error: " + firstError : "");
+      }
+
+   }
+
+}
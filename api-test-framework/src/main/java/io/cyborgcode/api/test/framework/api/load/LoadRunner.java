@@ -0,0 +1,242 @@
+package io.cyborgcode.api.test.framework.api.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.cyborgcode.api.test.framework.api.fanout.ApiCall;
+import io.cyborgcode.api.test.framework.api.metrics.LatencyHistogram;
+import io.cyborgcode.api.test.framework.api.metrics.LatencyRecorder;
+import io.cyborgcode.api.test.framework.api.validation.ResponseAssertions;
+import io.cyborgcode.api.test.framework.config.Tuning;
+import io.cyborgcode.api.test.framework.support.QuestContext;
+import io.cyborgcode.roa.api.service.RestService;
+import io.restassured.response.Response;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.assertj.core.api.SoftAssertions;
+
+/**
+ * Runs a {@link LoadScenario} with many concurrent virtual users.
+ * <p>
+ * Every user repeats the scenario until the profile duration has elapsed; users are started evenly
+ * over the ramp-up. An iteration stops at its first failed step (request failure or failed
+ * assertion), since later steps usually depend on it. Steps are validated with
+ * {@link ResponseAssertions}, so the assertions behave as in {@code requestAllAndValidate}.
+ * <p>
+ * Users run on platform daemon threads, one per user. Concurrent requests are additionally bounded
+ * by the shared HTTP connection pool ({@code api.http.pool.max.per.route}), which has to be raised
+ * together with {@code api.load.users} for large runs.
+ * <p>
+ * Users run with the test context of the caller (see {@link QuestContext}), so their requests are
+ * reported in the test that started the run and show up in the run-level {@link LatencyRecorder}
+ * histograms under its ring. The report is logged and written as JSON to {@code api.load.report.dir}.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class LoadRunner {
+
+   private static final Logger LOGGER = LogManager.getLogger(LoadRunner.class);
+   private static final long STOP_GRACE_SECONDS = 30;
+
+   private LoadRunner() {
+   }
+
+   /**
+    * Runs the scenario and blocks until every user has stopped.
+    *
+    * @param service  REST service used to send the requests.
+    * @param scenario scenario executed by every user.
+    * @param profile  users, pacing, ramp-up and duration.
+    * @return the run report.
+    */
+   public static LoadReport run(RestService service, LoadScenario scenario, LoadProfile profile) {
+      if (scenario.steps().isEmpty()) {
+         throw new IllegalArgumentException("Load scenario '" + scenario.name() + "' has no steps");
+      }
+      Run run = new Run(service, scenario, profile);
+      AtomicInteger counter = new AtomicInteger();
+      ExecutorService users = Executors.newFixedThreadPool(profile.users(), runnable -> {
+         Thread thread = new Thread(runnable, "api-load-user-" + counter.incrementAndGet());
+         thread.setDaemon(true);
+         return thread;
+      });
+      for (int user = 0; user < profile.users(); user++) {
+         long offset = profile.rampUp().toNanos() * user / profile.users();
+         Supplier<Void> task = QuestContext.propagate(() -> {
+            run.user(offset);
+            return null;
+         });
+         users.execute(task::get);
+      }
+      users.shutdown();
+      try {
+         if (!users.awaitTermination(profile.duration().getSeconds() + STOP_GRACE_SECONDS, TimeUnit.SECONDS)) {
+            users.shutdownNow();
+         }
+      } catch (InterruptedException e) {
+         users.shutdownNow();
+         Thread.currentThread().interrupt();
+      }
+
+      LoadReport report = run.report();
+      LOGGER.info("{}", report);
+      write(report);
+      return report;
+   }
+
+   private static void write(LoadReport report) {
+      Map<String, Object> json = new LinkedHashMap<>();
+      json.put("scenario", report.scenario());
+      json.put("users", report.profile().users());
+      json.put("targetRps", report.profile().targetRps());
+      json.put("rampUpSeconds", report.profile().rampUp().toSeconds());
+      json.put("durationSeconds", report.profile().duration().toSeconds());
+      json.put("elapsedMillis", report.elapsed().toMillis());
+      json.put("iterations", report.iterations());
+      json.put("failedIterations", report.failedIterations());
+      json.put("throughput", report.throughput());
+      json.put("requestRate", report.requestRate());
+      json.put("errorRate", report.errorRate());
+      json.put("steps", report.steps());
+      Path file = Path.of(Tuning.config().loadReportDir(),
+            "load-" + report.scenario().replaceAll("[^A-Za-z0-9]+", "-") + ".json");
+      try {
+         Files.createDirectories(file.getParent());
+         new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), json);
+      } catch (IOException e) {
+         throw new UncheckedIOException(e);
+      }
+   }
+
+   private static final class Run {
+
+      private final RestService service;
+      private final LoadScenario scenario;
+      private final LoadProfile profile;
+      private final Map<String, StepStats> stats = new LinkedHashMap<>();
+      private final LongAdder iterations = new LongAdder();
+      private final LongAdder failedIterations = new LongAdder();
+      private final AtomicLong nextStart;
+      private final long intervalNanos;
+      private final long startedAt;
+      private final long endsAt;
+      private final AtomicLong stoppedAt = new AtomicLong();
+
+      private Run(RestService service, LoadScenario scenario, LoadProfile profile) {
+         this.service = service;
+         this.scenario = scenario;
+         this.profile = profile;
+         for (LoadScenario.Step step : scenario.steps()) {
+            stats.putIfAbsent(step.name(), new StepStats());
+         }
+         this.intervalNanos = profile.targetRps() > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / profile.targetRps()) : 0;
+         this.startedAt = System.nanoTime();
+         this.endsAt = startedAt + profile.duration().toNanos();
+         this.nextStart = new AtomicLong(startedAt);
+      }
+
+      private void user(long offsetNanos) {
+         sleepUntil(startedAt + offsetNanos);
+         while (!Thread.currentThread().isInterrupted()) {
+            if (intervalNanos > 0) {
+               long now = System.nanoTime();
+               long slot = Math.max(nextStart.getAndUpdate(next -> Math.max(next, now) + intervalNanos), now);
+               sleepUntil(slot);
+            }
+            if (System.nanoTime() >= endsAt) {
+               break;
+            }
+            (iteration() ? iterations : failedIterations).increment();
+         }
+         stoppedAt.accumulateAndGet(System.nanoTime(), Math::max);
+      }
+
+      private boolean iteration() {
+         Map<Enum<?>, Response> responses = new HashMap<>();
+         for (LoadScenario.Step step : scenario.steps()) {
+            StepStats stepStats = stats.get(step.name());
+            long start = System.nanoTime();
+            String error;
+            try {
+               ApiCall call = step.call().apply(responses);
+               LoadScenario.requireSupported(call);
+               Response response = call.body() == null
+                     ? service.request(call.endpoint())
+                     : service.request(call.endpoint(), call.body());
+               stepStats.latency.record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+               responses.put(call.endpoint().enumImpl(), response);
+               error = validate(call, response);
+            } catch (RuntimeException e) {
+               stepStats.latency.record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+               error = e.toString();
+            }
+            if (error != null) {
+               stepStats.errors.increment();
+               stepStats.firstError.compareAndSet(null, error);
+               return false;
+            }
+         }
+         return true;
+      }
+
+      private static String validate(ApiCall call, Response response) {
+         SoftAssertions softAssertions = new SoftAssertions();
+         List<String> failures = new ArrayList<>(
+               ResponseAssertions.evaluate(call.toString(), response, call.assertions(), softAssertions));
+         softAssertions.errorsCollected().forEach(failure -> failures.add(failure.getMessage()));
+         return failures.isEmpty() ? null : String.join("; ", failures);
+      }
+
+      private LoadReport report() {
+         List<LoadReport.StepReport> steps = new ArrayList<>();
+         stats.forEach((name, stepStats) -> {
+            LatencyHistogram latency = stepStats.latency;
+            steps.add(new LoadReport.StepReport(name, latency.count(), stepStats.errors.sum(),
+                  millis(latency.percentileMicros(50)), millis(latency.percentileMicros(90)),
+                  millis(latency.percentileMicros(99)), millis(latency.maxMicros()), stepStats.firstError.get()));
+         });
+         long stopped = Math.max(stoppedAt.get(), startedAt);
+         return new LoadReport(scenario.name(), profile, Duration.ofNanos(stopped - startedAt), iterations.sum(),
+               failedIterations.sum(), List.copyOf(steps));
+      }
+
+      private static double millis(long micros) {
+         return micros / 1000.0;
+      }
+
+      private static void sleepUntil(long deadline) {
+         long remaining;
+         while ((remaining = deadline - System.nanoTime()) > 0 && !Thread.currentThread().isInterrupted()) {
+            LockSupport.parkNanos(remaining);
+         }
+      }
+
+   }
+
+   private static final class StepStats {
+
+      private final LatencyHistogram latency = new LatencyHistogram();
+      private final LongAdder errors = new LongAdder();
+      private final AtomicReference<String> firstError = new AtomicReference<>();
+
+   }
+
+}
@@ -0,0 +1,86 @@
+package io.cyborgcode.api.test.framework.api.load;
+
+import io.cyborgcode.api.test.framework.api.fanout.ApiCall;
+import io.cyborgcode.api.test.framework.api.validation.ResponseAssertions;
+import io.cyborgcode.roa.validator.core.Assertion;
+import io.restassured.response.Response;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Ordered steps executed by every virtual user of a load run, once per iteration.
+ * <p>
+ * A step is an {@link ApiCall}, i.e. the same {@code AppEndpoints} constant and assertions used in
+ * functional tests. Steps that depend on earlier responses of the same iteration (a token, an id)
+ * build their call from the responses received so far, keyed by endpoint:
+ * <pre>{@code
+ * LoadScenario.named("login and read user")
+ *       .step(ApiCall.of(POST_LOGIN_USER, loginDto, STATUS_OK))
+ *       .step("GET_USER with token", responses -> ApiCall.of(GET_USER.withHeader(...), STATUS_OK));
+ * }</pre>
+ * Scenarios are immutable once built and shared by all users.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class LoadScenario {
+
+   private final String name;
+   private final List<Step> steps;
+
+   private LoadScenario(String name, List<Step> steps) {
+      this.name = name;
+      this.steps = steps;
+   }
+
+   public static LoadScenario named(String name) {
+      return new LoadScenario(name, List.of());
+   }
+
+   /**
+    * Adds a fixed step, named after its endpoint.
+    *
+    * @param call call to send in every iteration.
+    * @return a new scenario with the step appended.
+    */
+   public LoadScenario step(ApiCall call) {
+      requireSupported(call);
+      return step(String.valueOf(call.endpoint().enumImpl()), responses -> call);
+   }
+
+   /**
+    * Adds a step built from the responses of the earlier steps of the same iteration.
+    *
+    * @param stepName name used in the report.
+    * @param call     builds the call from the responses received so far, keyed by endpoint; its
+    *                 assertions must be accepted by {@link ResponseAssertions#supports(Assertion)}.
+    * @return a new scenario with the step appended.
+    */
+   public LoadScenario step(String stepName, Function<Map<Enum<?>, Response>, ApiCall> call) {
+      List<Step> extended = new ArrayList<>(steps);
+      extended.add(new Step(stepName, call));
+      return new LoadScenario(name, List.copyOf(extended));
+   }
+
+   public String name() {
+      return name;
+   }
+
+   List<Step> steps() {
+      return steps;
+   }
+
+   static void requireSupported(ApiCall call) {
+      for (Assertion assertion : call.assertions()) {
+         if (!ResponseAssertions.supports(assertion)) {
+            throw new IllegalArgumentException(String.format("Unsupported assertion for %s: %s %s",
+                  call, assertion.getTarget(), assertion.getType()));
+         }
+      }
+   }
+
+   record Step(String name, Function<Map<Enum<?>, Response>, ApiCall> call) {
+   }
+
+}
@@ -0,0 +1,60 @@
+package io.cyborgcode.api.test.framework.api.load;
+
+import io.cyborgcode.api.test.framework.api.fanout.ApiCall;
+import io.cyborgcode.api.test.framework.data.creator.DataCreatorFunctions;
+import io.cyborgcode.api.test.framework.service.CustomService;
+import io.cyborgcode.api.test.framework.service.EvolutionService;
+
+import static io.cyborgcode.api.test.framework.api.AppEndpoints.GET_ALL_USERS;
+import static io.cyborgcode.api.test.framework.api.AppEndpoints.GET_USER;
+import static io.cyborgcode.api.test.framework.api.AppEndpoints.POST_CREATE_USER;
+import static io.cyborgcode.api.test.framework.api.AppEndpoints.POST_LOGIN_USER;
+import static io.cyborgcode.api.test.framework.api.extractors.ApiResponsesJsonPaths.TOKEN;
+import static io.cyborgcode.api.test.framework.api.validation.AssertionProfile.STATUS_CREATED;
+import static io.cyborgcode.api.test.framework.api.validation.AssertionProfile.STATUS_OK;
+import static io.cyborgcode.api.test.framework.api.validation.AssertionProfile.USERS_PAGE_TWO;
+import static io.cyborgcode.api.test.framework.data.constants.Headers.EXAMPLE_HEADER;
+import static io.cyborgcode.api.test.framework.data.constants.PathVariables.ID_PARAM;
+import static io.cyborgcode.api.test.framework.data.constants.QueryParams.PAGE_PARAM;
+import static io.cyborgcode.api.test.framework.data.constants.TestConstants.Pagination.PAGE_TWO;
+import static io.cyborgcode.api.test.framework.data.constants.TestConstants.Users.ID_THREE;
+
+/**
+ * Load scenarios built from the flows of the functional rings.
+ * <p>
+ * Ring methods send their requests through the quest and validate inline, so they cannot be
+ * replayed outside a quest as they are. Each scenario is instead a hand-written copy of the ring
+ * method it names: it reuses the same endpoint constants, request bodies and assertion profiles, but
+ * nothing ties the two together. A change to a ring method's requests has to be repeated here.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class LoadScenarios {
+
+   /**
+    * Load variant of {@link CustomService#requestAndValidateGetAllUsers()}.
+    */
+   public static final LoadScenario GET_ALL_USERS_PAGE_TWO = LoadScenario.named("get all users, page two")
+         .step(ApiCall.of(GET_ALL_USERS.withQueryParam(PAGE_PARAM, PAGE_TWO), USERS_PAGE_TWO));
+
+   /**
+    * Load variant of {@link CustomService#loginUserAndAddSpecificHeader} for the admin user.
+    */
+   public static final LoadScenario LOGIN_AND_GET_USER = LoadScenario.named("login and get user")
+         .step(ApiCall.of(POST_LOGIN_USER, DataCreatorFunctions.loginAdminUser(), STATUS_OK))
+         .step("GET_USER with token header", responses -> ApiCall.of(
+               GET_USER
+                     .withPathParam(ID_PARAM, ID_THREE)
+                     .withHeader(EXAMPLE_HEADER, responses.get(POST_LOGIN_USER).jsonPath().getString(TOKEN.getJsonPath())),
+               STATUS_OK));
+
+   /**
+    * Load variant of the user creation checked by {@link EvolutionService#validateCreatedUser()}.
+    */
+   public static final LoadScenario CREATE_USER = LoadScenario.named("create user")
+         .step(ApiCall.of(POST_CREATE_USER, DataCreatorFunctions.leaderUser(), STATUS_CREATED));
+
+   private LoadScenarios() {
+   }
+
+}
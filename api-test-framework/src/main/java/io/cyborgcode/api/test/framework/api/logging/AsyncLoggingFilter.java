@@ -0,0 +1,219 @@
+package io.cyborgcode.api.test.framework.api.logging;
+
+import io.cyborgcode.api.test.framework.config.Tuning;
+import io.cyborgcode.api.test.framework.config.TuningProperties;
+import io.cyborgcode.test.support.RunLifecycle;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import static io.cyborgcode.api.test.framework.data.constants.Headers.API_KEY_HEADER;
+import static io.cyborgcode.api.test.framework.data.constants.Headers.AUTHORIZATION_HEADER_KEY;
+
+/**
+ * RestAssured filter that logs requests and responses off the test thread.
+ * <p>
+ * The synchronous RestAssured logging ({@code api.restassured.logging.enabled}) formats and writes
+ * every exchange on the calling thread. This filter only captures the exchange (method, URI,
+ * headers, status line and at most {@code api.logging.async.max.body.bytes} of each body) into a
+ * lock-free bounded ring buffer; a single background writer formats the entries and writes them to
+ * the {@code api.http} logger. Credential headers ({@code Authorization}, {@code x-api-key},
+ * {@code Cookie} and {@code Set-Cookie}) are masked before the exchange is queued, so tokens and
+ * keys never reach the buffer or the log. When the buffer ({@code api.logging.async.capacity}) is full the
+ * {@code api.logging.async.overflow} mode decides what happens:
+ * <ul>
+ *   <li>{@link Overflow#DROP} – the entry is discarded and counted, the request never waits,</li>
+ *   <li>{@link Overflow#BLOCK} – the calling thread waits until the writer frees a slot.</li>
+ * </ul>
+ * Outstanding entries are written at the end of the run, followed by a summary of written and
+ * dropped entries. Enable with {@code api.logging.async.enabled=true}, usually together with
+ * {@code api.restassured.logging.enabled=false}.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class AsyncLoggingFilter implements Filter {
+
+   private static final Logger LOGGER = LogManager.getLogger("api.http");
+   private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+   private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+   private static final List<String> MASKED_HEADERS =
+         List.of(AUTHORIZATION_HEADER_KEY, API_KEY_HEADER, "Cookie", "Set-Cookie");
+   private static final String MASK = "***";
+
+   private final BoundedRingBuffer<Exchange> buffer;
+   private final int maxBodyBytes;
+   private final Overflow overflow;
+   private final LongAdder written = new LongAdder();
+   private final LongAdder dropped = new LongAdder();
+   private volatile boolean running = true;
+
+   /**
+    * Behaviour when the log buffer is full.
+    */
+   public enum Overflow {
+      DROP,
+      BLOCK
+   }
+
+   private AsyncLoggingFilter(TuningProperties tuning) {
+      this.buffer = new BoundedRingBuffer<>(tuning.loggingAsyncCapacity());
+      this.maxBodyBytes = tuning.loggingAsyncMaxBodyBytes();
+      this.overflow = tuning.loggingAsyncOverflow();
+
+      Thread writer = new Thread(this::writeLoop, "api-http-log-writer");
+      writer.setDaemon(true);
+      writer.start();
+      RunLifecycle.onShutdown("async HTTP log drain", () -> {
+         running = false;
+         LockSupport.unpark(writer);
+         drain();
+         LOGGER.info("Async HTTP log: {} exchanges written, {} dropped", written.sum(), dropped.sum());
+      });
+   }
+
+   /**
+    * Returns whether asynchronous logging is enabled for the active environment.
+    *
+    * @return the value of {@code api.logging.async.enabled}.
+    */
+   public static boolean enabled() {
+      return Tuning.config().loggingAsyncEnabled();
+   }
+
+   /**
+    * Returns the suite-wide filter instance, starting its writer on first use.
+    *
+    * @return the shared filter.
+    */
+   public static AsyncLoggingFilter instance() {
+      return Holder.INSTANCE;
+   }
+
+   public long written() {
+      return written.sum();
+   }
+
+   public long dropped() {
+      return dropped.sum();
+   }
+
+   @Override
+   public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+                          FilterContext context) {
+      long start = System.nanoTime();
+      Response response = context.next(requestSpec, responseSpec);
+      long elapsed = System.nanoTime() - start;
+
+      byte[] responseBody = response.asByteArray();
+      byte[] requestBody = requestBody(requestSpec.getBody());
+      Exchange exchange = new Exchange(
+            requestSpec.getMethod(), requestSpec.getURI(), mask(requestSpec.getHeaders()),
+            truncate(requestBody), requestBody.length,
+            response.getStatusLine(), mask(response.getHeaders()),
+            truncate(responseBody), responseBody.length,
+            TimeUnit.NANOSECONDS.toMillis(elapsed));
+      publish(exchange);
+      return response;
+   }
+
+   private void publish(Exchange exchange) {
+      while (!buffer.offer(exchange)) {
+         if (overflow == Overflow.DROP || !running) {
+            dropped.increment();
+            return;
+         }
+         LockSupport.parkNanos(FULL_PARK_NANOS);
+      }
+   }
+
+   private void writeLoop() {
+      while (running) {
+         if (!drain()) {
+            LockSupport.parkNanos(IDLE_PARK_NANOS);
+         }
+      }
+   }
+
+   private synchronized boolean drain() {
+      boolean any = false;
+      Exchange exchange;
+      while ((exchange = buffer.poll()) != null) {
+         any = true;
+         LOGGER.info(exchange.format());
+         written.increment();
+      }
+      return any;
+   }
+
+   static Headers mask(Headers headers) {
+      if (MASKED_HEADERS.stream().noneMatch(headers::hasHeaderWithName)) {
+         return headers;
+      }
+      List<Header> masked = new ArrayList<>(headers.size());
+      for (Header header : headers) {
+         boolean credential = MASKED_HEADERS.stream().anyMatch(name -> name.equalsIgnoreCase(header.getName()));
+         masked.add(credential ? new Header(header.getName(), MASK) : header);
+      }
+      return new Headers(masked);
+   }
+
+   private byte[] truncate(byte[] body) {
+      return body.length <= maxBodyBytes ? body : Arrays.copyOf(body, maxBodyBytes);
+   }
+
+   private static byte[] requestBody(Object body) {
+      if (body == null) {
+         return new byte[0];
+      }
+      return body instanceof byte[] bytes ? bytes : body.toString().getBytes(StandardCharsets.UTF_8);
+   }
+
+   private static final class Holder {
+
+      private static final AsyncLoggingFilter INSTANCE = new AsyncLoggingFilter(Tuning.config());
+
+   }
+
+   private record Exchange(String method, String uri, Headers requestHeaders,
+                           byte[] requestBody, int requestBodyLength,
+                           String statusLine, Headers responseHeaders,
+                           byte[] responseBody, int responseBodyLength,
+                           long durationMillis) {
+
+      private String format() {
+         String separator = System.lineSeparator();
+         StringBuilder text = new StringBuilder(256 + requestBody.length + responseBody.length)
+               .append(method).append(' ').append(uri).append(" (").append(durationMillis).append(" ms)")
+               .append(separator).append("Request headers: ").append(requestHeaders)
+               .append(separator).append("Request body: ");
+         appendBody(text, requestBody, requestBodyLength);
+         text.append(separator).append(statusLine)
+               .append(separator).append("Response headers: ").append(responseHeaders)
+               .append(separator).append("Response body: ");
+         appendBody(text, responseBody, responseBodyLength);
+         return text.toString();
+      }
+
+      private static void appendBody(StringBuilder text, byte[] body, int length) {
+         text.append(new String(body, StandardCharsets.UTF_8));
+         if (length > body.length) {
+            text.append("... [truncated, ").append(length).append(" bytes in total]");
+         }
+      }
+
+   }
+
+}
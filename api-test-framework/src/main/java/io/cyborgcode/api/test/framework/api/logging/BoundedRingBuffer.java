@@ -0,0 +1,87 @@
+package io.cyborgcode.api.test.framework.api.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Lock-free bounded multi-producer / multi-consumer queue backed by a ring of slots.
+ * <p>
+ * Each slot carries a sequence number that tells producers and consumers whose turn it is, so
+ * {@link #offer} and {@link #poll} only contend on a compare-and-set of their own position counter
+ * and never block. The capacity is rounded up to the next power of two.
+ *
+ * @param <E> element type.
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+final class BoundedRingBuffer<E> {
+
+   private final int mask;
+   private final AtomicReferenceArray<E> elements;
+   private final AtomicLongArray sequences;
+   private final AtomicLong producerPosition = new AtomicLong();
+   private final AtomicLong consumerPosition = new AtomicLong();
+
+   BoundedRingBuffer(int capacity) {
+      int size = capacity <= 2 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+      this.mask = size - 1;
+      this.elements = new AtomicReferenceArray<>(size);
+      this.sequences = new AtomicLongArray(size);
+      for (int i = 0; i < size; i++) {
+         sequences.set(i, i);
+      }
+   }
+
+   /**
+    * Adds the element if a slot is free.
+    *
+    * @param element element to add.
+    * @return {@code false} when the buffer is full.
+    */
+   boolean offer(E element) {
+      long position = producerPosition.get();
+      while (true) {
+         int index = (int) (position & mask);
+         long difference = sequences.get(index) - position;
+         if (difference == 0) {
+            if (producerPosition.compareAndSet(position, position + 1)) {
+               elements.set(index, element);
+               sequences.set(index, position + 1);
+               return true;
+            }
+            position = producerPosition.get();
+         } else if (difference < 0) {
+            return false;
+         } else {
+            position = producerPosition.get();
+         }
+      }
+   }
+
+   /**
+    * Removes the oldest element.
+    *
+    * @return the element, or {@code null} when the buffer is empty.
+    */
+   E poll() {
+      long position = consumerPosition.get();
+      while (true) {
+         int index = (int) (position & mask);
+         long difference = sequences.get(index) - (position + 1);
+         if (difference == 0) {
+            if (consumerPosition.compareAndSet(position, position + 1)) {
+               E element = elements.get(index);
+               elements.set(index, null);
+               sequences.set(index, position + mask + 1);
+               return element;
+            }
+            position = consumerPosition.get();
+         } else if (difference < 0) {
+            return null;
+         } else {
+            position = consumerPosition.get();
+         }
+      }
+   }
+
+}
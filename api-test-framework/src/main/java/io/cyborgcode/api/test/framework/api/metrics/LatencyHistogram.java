@@ -0,0 +1,112 @@
+package io.cyborgcode.api.test.framework.api.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free log-linear latency histogram in the style of HdrHistogram.
+ * <p>
+ * Values (microseconds) below 32 get a bucket each; above that, every power of two is split into
+ * 32 linear sub-buckets, which bounds the relative error of a reported percentile to about 3%.
+ * Recording is a single atomic increment, so any number of threads can record concurrently, and
+ * histograms are merged by adding their buckets.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class LatencyHistogram {
+
+   private static final int SUB_BUCKET_BITS = 5;
+   private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+   private static final int MAX_SHIFT = 40;
+   private static final int BUCKETS = SUB_BUCKETS + (MAX_SHIFT + 1) * SUB_BUCKETS;
+
+   private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+   private final LongAdder total = new LongAdder();
+   private final LongAdder sum = new LongAdder();
+   private final AtomicLong max = new AtomicLong();
+
+   /**
+    * Records one latency.
+    *
+    * @param micros latency in microseconds; negative values are recorded as zero.
+    */
+   public void record(long micros) {
+      long value = Math.max(0, micros);
+      counts.incrementAndGet(index(value));
+      total.increment();
+      sum.add(value);
+      max.accumulateAndGet(value, Math::max);
+   }
+
+   /**
+    * Adds every recorded value of the other histogram to this one.
+    *
+    * @param other histogram to merge in.
+    */
+   public void merge(LatencyHistogram other) {
+      for (int i = 0; i < BUCKETS; i++) {
+         long count = other.counts.get(i);
+         if (count != 0) {
+            counts.addAndGet(i, count);
+         }
+      }
+      total.add(other.total.sum());
+      sum.add(other.sum.sum());
+      max.accumulateAndGet(other.max.get(), Math::max);
+   }
+
+   public long count() {
+      return total.sum();
+   }
+
+   public long maxMicros() {
+      return max.get();
+   }
+
+   public long meanMicros() {
+      long count = total.sum();
+      return count == 0 ? 0 : sum.sum() / count;
+   }
+
+   /**
+    * Returns the value at the given percentile.
+    *
+    * @param percentile percentile in {@code (0, 100]}.
+    * @return the upper bound of the bucket holding the percentile, capped by the recorded maximum.
+    */
+   public long percentileMicros(double percentile) {
+      long count = total.sum();
+      if (count == 0) {
+         return 0;
+      }
+      long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+      long seen = 0;
+      for (int i = 0; i < BUCKETS; i++) {
+         seen += counts.get(i);
+         if (seen >= rank) {
+            return Math.min(upperBound(i), max.get());
+         }
+      }
+      return max.get();
+   }
+
+   private static int index(long value) {
+      if (value < SUB_BUCKETS) {
+         return (int) value;
+      }
+      int shift = Math.min(63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS, MAX_SHIFT);
+      int subBucket = (int) Math.min((value >>> shift) - SUB_BUCKETS, SUB_BUCKETS - 1);
+      return SUB_BUCKETS + shift * SUB_BUCKETS + subBucket;
+   }
+
+   private static long upperBound(int index) {
+      if (index < SUB_BUCKETS) {
+         return index;
+      }
+      int shift = (index - SUB_BUCKETS) / SUB_BUCKETS;
+      int subBucket = (index - SUB_BUCKETS) % SUB_BUCKETS;
+      return ((long) (SUB_BUCKETS + subBucket + 1) << shift) - 1;
+   }
+
+}
@@ -0,0 +1,278 @@
+package io.cyborgcode.api.test.framework.api.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.cyborgcode.api.test.framework.config.Tuning;
+import io.cyborgcode.roa.framework.annotation.Ring;
+import io.cyborgcode.test.support.RunLifecycle;
+import io.qameta.allure.util.PropertiesUtils;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Run-wide per-endpoint latency histograms.
+ * <p>
+ * The filter chain of every {@code AppEndpoints} constant carries a {@link #filter(Enum)} that times the exchange and
+ * records it into a {@link LatencyHistogram} keyed by endpoint, status class ({@code 2xx} ...
+ * {@code 5xx}, {@code error} when no response was received) and ring. Each worker thread records
+ * into its own histograms, so parallel tests never contend on the same counters; the per-worker
+ * histograms are merged when the report is built.
+ * <p>
+ * The ring is the one that issued the request: {@value #DEFAULT_RING} unless the call runs inside
+ * {@link #inRing(Class, Supplier)}, which custom rings use around their steps. Work handed to other
+ * threads keeps the caller's ring when wrapped with {@link #propagate(Supplier)}.
+ * <p>
+ * At the end of the run the merged histograms are written as JSON ({@code api.metrics.latency.report.file})
+ * with count, mean, p50, p90, p99 and max in milliseconds, per key and per endpoint. The per-endpoint
+ * totals are also written to the {@code environment.properties} of the Allure results directory, as
+ * {@code latency.<endpoint>} entries shown in the report overview; entries written by others are kept.
+ * No test result is created for the report. Disable with {@code api.metrics.latency.enabled=false}.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class LatencyRecorder {
+
+   public static final String DEFAULT_RING = "Ring of API";
+
+   private static final Logger LOGGER = LogManager.getLogger(LatencyRecorder.class);
+   private static final ThreadLocal<String> RING = ThreadLocal.withInitial(() -> DEFAULT_RING);
+   private static final Queue<Map<Key, LatencyHistogram>> WORKERS = new ConcurrentLinkedQueue<>();
+   private static final ThreadLocal<Map<Key, LatencyHistogram>> LOCAL = ThreadLocal.withInitial(() -> {
+      Map<Key, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+      WORKERS.add(histograms);
+      return histograms;
+   });
+   private static final Map<String, Filter> FILTERS = new ConcurrentHashMap<>();
+   private static final String ENVIRONMENT_FILE = "environment.properties";
+   private static final String ENVIRONMENT_PREFIX = "latency.";
+
+   static {
+      RunLifecycle.onShutdown("latency report", LatencyRecorder::export);
+   }
+
+   private LatencyRecorder() {
+   }
+
+   /**
+    * Returns whether latency recording is enabled for the active environment.
+    *
+    * @return the value of {@code api.metrics.latency.enabled}.
+    */
+   public static boolean enabled() {
+      return Tuning.config().metricsLatencyEnabled();
+   }
+
+   /**
+    * Returns the recording filter for an endpoint.
+    *
+    * @param endpoint endpoint constant the filter records under.
+    * @return a filter to add to the endpoint's filter chain.
+    */
+   public static Filter filter(Enum<?> endpoint) {
+      return FILTERS.computeIfAbsent(endpoint.name(), EndpointFilter::new);
+   }
+
+   /**
+    * Runs a step with its requests attributed to the given ring.
+    *
+    * @param ring ring class annotated with {@link Ring}.
+    * @param step the step to run.
+    * @param <T>  result type.
+    * @return the result of the step.
+    */
+   public static <T> T inRing(Class<?> ring, Supplier<T> step) {
+      Ring annotation = ring.getAnnotation(Ring.class);
+      return withRing(annotation != null ? annotation.value() : ring.getSimpleName(), step);
+   }
+
+   /**
+    * Wraps a task so that it runs with the ring of the calling thread, wherever it is executed.
+    *
+    * @param task task to hand to another thread.
+    * @param <T>  result type.
+    * @return the wrapped task.
+    */
+   public static <T> Supplier<T> propagate(Supplier<T> task) {
+      String ring = RING.get();
+      return () -> withRing(ring, task);
+   }
+
+   /**
+    * Records one exchange.
+    *
+    * @param endpoint endpoint name.
+    * @param status   HTTP status code, {@code -1} when no response was received.
+    * @param micros   latency in microseconds.
+    */
+   public static void record(String endpoint, int status, long micros) {
+      LOCAL.get()
+            .computeIfAbsent(new Key(endpoint, statusClass(status), RING.get()), key -> new LatencyHistogram())
+            .record(micros);
+   }
+
+   /**
+    * Merges the histograms of all workers.
+    *
+    * @return merged histograms ordered by endpoint, status class and ring.
+    */
+   public static Map<Key, LatencyHistogram> snapshot() {
+      Map<Key, LatencyHistogram> merged = new TreeMap<>(Comparator.comparing(Key::endpoint)
+            .thenComparing(Key::statusClass)
+            .thenComparing(Key::ring));
+      for (Map<Key, LatencyHistogram> worker : WORKERS) {
+         worker.forEach((key, histogram) -> merged.computeIfAbsent(key, k -> new LatencyHistogram()).merge(histogram));
+      }
+      return merged;
+   }
+
+   private static <T> T withRing(String ring, Supplier<T> step) {
+      String previous = RING.get();
+      RING.set(ring);
+      try {
+         return step.get();
+      } finally {
+         RING.set(previous);
+      }
+   }
+
+   private static String statusClass(int status) {
+      return status < 100 ? "error" : status / 100 + "xx";
+   }
+
+   private static void export() {
+      Map<Key, LatencyHistogram> histograms = snapshot();
+      if (histograms.isEmpty()) {
+         return;
+      }
+      Map<String, LatencyHistogram> endpoints = new TreeMap<>();
+      List<Map<String, Object>> series = new ArrayList<>();
+      histograms.forEach((key, histogram) -> {
+         endpoints.computeIfAbsent(key.endpoint(), name -> new LatencyHistogram()).merge(histogram);
+         Map<String, Object> entry = new LinkedHashMap<>();
+         entry.put("endpoint", key.endpoint());
+         entry.put("status", key.statusClass());
+         entry.put("ring", key.ring());
+         entry.putAll(summary(histogram));
+         series.add(entry);
+      });
+      Map<String, Object> totals = new LinkedHashMap<>();
+      endpoints.forEach((endpoint, histogram) -> totals.put(endpoint, summary(histogram)));
+
+      Map<String, Object> report = new LinkedHashMap<>();
+      report.put("endpoints", totals);
+      report.put("series", series);
+      try {
+         byte[] json = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValueAsBytes(report);
+         Path file = Path.of(Tuning.config().metricsLatencyReportFile());
+         if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+         }
+         Files.write(file, json);
+         LOGGER.info("Latency report for {} endpoints written to {}", endpoints.size(), file.toAbsolutePath());
+         writeEnvironment(endpoints);
+      } catch (IOException e) {
+         throw new UncheckedIOException(e);
+      }
+   }
+
+   /**
+    * Allure has no run-level attachments, so the totals go to the environment file it shows in the
+    * report overview, next to whatever other entries the file already holds.
+    */
+   private static void writeEnvironment(Map<String, LatencyHistogram> endpoints) throws IOException {
+      Path directory = Path.of(PropertiesUtils.loadAllureProperties()
+            .getProperty("allure.results.directory", "allure-results"));
+      Path file = directory.resolve(ENVIRONMENT_FILE);
+      Properties environment = new Properties();
+      if (Files.exists(file)) {
+         try (Reader reader = Files.newBufferedReader(file)) {
+            environment.load(reader);
+         }
+      }
+      environment.stringPropertyNames().stream()
+            .filter(name -> name.startsWith(ENVIRONMENT_PREFIX))
+            .forEach(environment::remove);
+      endpoints.forEach((endpoint, histogram) -> environment.setProperty(ENVIRONMENT_PREFIX + endpoint,
+            String.format(Locale.ROOT, "count %d, p50 %.1f ms, p90 %.1f ms, p99 %.1f ms, max %.1f ms",
+                  histogram.count(), millis(histogram.percentileMicros(50)), millis(histogram.percentileMicros(90)),
+                  millis(histogram.percentileMicros(99)), millis(histogram.maxMicros()))));
+      Files.createDirectories(directory);
+      try (Writer writer = Files.newBufferedWriter(file)) {
+         environment.store(writer, null);
+      }
+   }
+
+   private static Map<String, Object> summary(LatencyHistogram histogram) {
+      Map<String, Object> summary = new LinkedHashMap<>();
+      summary.put("count", histogram.count());
+      summary.put("meanMillis", millis(histogram.meanMicros()));
+      summary.put("p50Millis", millis(histogram.percentileMicros(50)));
+      summary.put("p90Millis", millis(histogram.percentileMicros(90)));
+      summary.put("p99Millis", millis(histogram.percentileMicros(99)));
+      summary.put("maxMillis", millis(histogram.maxMicros()));
+      return summary;
+   }
+
+   private static double millis(long micros) {
+      return micros / 1000.0;
+   }
+
+   /**
+    * Histogram key.
+    *
+    * @param endpoint    endpoint name.
+    * @param statusClass {@code 2xx} ... {@code 5xx}, or {@code error} when no response was received.
+    * @param ring        ring that issued the request.
+    */
+   public record Key(String endpoint, String statusClass, String ring) {
+   }
+
+   private static final class EndpointFilter implements Filter {
+
+      private final String endpoint;
+
+      private EndpointFilter(String endpoint) {
+         this.endpoint = endpoint;
+      }
+
+      @Override
+      public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+                             FilterContext context) {
+         long start = System.nanoTime();
+         int status = -1;
+         try {
+            Response response = context.next(requestSpec, responseSpec);
+            status = response.getStatusCode();
+            return response;
+         } finally {
+            record(endpoint, status, TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+         }
+      }
+
+   }
+
+}
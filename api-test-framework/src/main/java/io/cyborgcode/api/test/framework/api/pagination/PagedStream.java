@@ -0,0 +1,165 @@
+package io.cyborgcode.api.test.framework.api.pagination;
+
+import io.cyborgcode.api.test.framework.api.dto.response.GetUsersDto;
+import io.cyborgcode.api.test.framework.api.dto.response.UserData;
+import io.cyborgcode.api.test.framework.support.QuestContext;
+import io.cyborgcode.roa.api.service.RestService;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static io.cyborgcode.api.test.framework.api.AppEndpoints.GET_ALL_USERS;
+import static io.cyborgcode.api.test.framework.data.constants.QueryParams.PAGE_PARAM;
+
+/**
+ * Lazy streams over every page of a paginated endpoint.
+ * <p>
+ * Nothing is requested until the stream is consumed. While the items of one page are consumed, the
+ * next page is already being fetched in the background, so at most two pages are held at a time: the
+ * current one and the prefetched one. The prefetch runs with the caller's test context (see
+ * {@link QuestContext}), so its request is reported in the consuming test. Short-circuiting
+ * operations ({@code findFirst}, {@code anyMatch}, {@code limit}) stop the paging; closing the
+ * stream also cancels an outstanding prefetch, whose response is then discarded. Request failures
+ * surface from the stream operation that needs the failed page.
+ * <pre>{@code
+ * try (Stream<UserData> users = PagedStream.users(restService)) {
+ *    boolean found = users.anyMatch(user -> user.getEmail().equals(email));
+ * }
+ * }</pre>
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class PagedStream {
+
+   private static final ExecutorService PREFETCH = newExecutor();
+
+   private PagedStream() {
+   }
+
+   /**
+    * Streams the users of all {@code GET_ALL_USERS} pages, in page order.
+    *
+    * @param service REST service used to request the pages.
+    * @return a lazy stream of users.
+    */
+   public static Stream<UserData> users(RestService service) {
+      return of(page -> service.request(GET_ALL_USERS.withQueryParam(PAGE_PARAM, page)).getBody().as(GetUsersDto.class),
+            GetUsersDto::getData, GetUsersDto::getTotalPages);
+   }
+
+   /**
+    * Streams the items of all pages of a paginated resource, starting at page {@code 1}.
+    *
+    * @param fetch      requests one page by its number.
+    * @param items      extracts the items of a page.
+    * @param totalPages extracts the total number of pages.
+    * @param <P>        page type.
+    * @param <T>        item type.
+    * @return a lazy stream of items.
+    */
+   public static <P, T> Stream<T> of(IntFunction<P> fetch, Function<P, List<T>> items, ToIntFunction<P> totalPages) {
+      Pages<P, T> pages = new Pages<>(fetch, items, totalPages);
+      return StreamSupport.stream(pages, false).onClose(pages::close);
+   }
+
+   private static ExecutorService newExecutor() {
+      AtomicInteger counter = new AtomicInteger();
+      return Executors.newCachedThreadPool(runnable -> {
+         Thread thread = new Thread(runnable, "api-page-prefetch-" + counter.incrementAndGet());
+         thread.setDaemon(true);
+         return thread;
+      });
+   }
+
+   private static final class Pages<P, T> implements Spliterator<T> {
+
+      private final IntFunction<P> fetch;
+      private final Function<P, List<T>> items;
+      private final ToIntFunction<P> totalPages;
+      private Iterator<T> current;
+      private CompletableFuture<P> prefetch;
+      private int nextPage = 1;
+      private int lastPage = -1;
+
+      private Pages(IntFunction<P> fetch, Function<P, List<T>> items, ToIntFunction<P> totalPages) {
+         this.fetch = fetch;
+         this.items = items;
+         this.totalPages = totalPages;
+      }
+
+      @Override
+      public boolean tryAdvance(Consumer<? super T> action) {
+         while (current == null || !current.hasNext()) {
+            if (!loadNextPage()) {
+               return false;
+            }
+         }
+         action.accept(current.next());
+         return true;
+      }
+
+      private boolean loadNextPage() {
+         P page;
+         if (prefetch != null) {
+            page = join(prefetch);
+            prefetch = null;
+         } else if (lastPage < 0) {
+            page = fetch.apply(nextPage);
+         } else {
+            return false;
+         }
+         lastPage = totalPages.applyAsInt(page);
+         List<T> pageItems = items.apply(page);
+         current = pageItems != null ? pageItems.iterator() : null;
+         int following = ++nextPage;
+         if (following <= lastPage) {
+            prefetch = CompletableFuture.supplyAsync(QuestContext.propagate(() -> fetch.apply(following)), PREFETCH);
+         }
+         return true;
+      }
+
+      private static <R> R join(CompletableFuture<R> page) {
+         try {
+            return page.join();
+         } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+         }
+      }
+
+      private void close() {
+         if (prefetch != null) {
+            prefetch.cancel(false);
+            prefetch = null;
+         }
+         current = null;
+      }
+
+      @Override
+      public Spliterator<T> trySplit() {
+         return null;
+      }
+
+      @Override
+      public long estimateSize() {
+         return Long.MAX_VALUE;
+      }
+
+      @Override
+      public int characteristics() {
+         return ORDERED | NONNULL;
+      }
+
+   }
+
+}
@@ -0,0 +1,65 @@
+package io.cyborgcode.api.test.framework.api.retry;
+
+import io.cyborgcode.roa.api.service.RestService;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Named condition polled by {@code RING_OF_PERFORMANCE.retryUntil(condition, policy)}.
+ * <p>
+ * The probe reads the current state (usually with a request through the given {@link RestService})
+ * and the predicate decides whether the awaited state has been reached. Metrics are collected per
+ * condition name, so conditions that stand for the same kind of wait should share a name.
+ * <p>
+ * {@link #wake()} is the early-wake hint: anything that learns the state may have changed (a callback,
+ * a message listener, another step of the test) can call it from any thread to run the next probe
+ * immediately instead of waiting for the rest of the backoff delay. A condition may be polled by
+ * several waits at once; a wake reaches all of them.
+ *
+ * @param <T> probe result type.
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class PollCondition<T> {
+
+   private final String name;
+   private final Function<RestService, T> probe;
+   private final Predicate<T> ready;
+   private final Set<Runnable> wakers = ConcurrentHashMap.newKeySet();
+
+   private PollCondition(String name, Function<RestService, T> probe, Predicate<T> ready) {
+      this.name = name;
+      this.probe = probe;
+      this.ready = ready;
+   }
+
+   public static <T> PollCondition<T> of(String name, Function<RestService, T> probe, Predicate<T> ready) {
+      return new PollCondition<>(name, probe, ready);
+   }
+
+   public String name() {
+      return name;
+   }
+
+   /**
+    * Requests an immediate probe of every wait currently polling this condition. Has no effect when
+    * the condition is not being polled.
+    */
+   public void wake() {
+      wakers.forEach(Runnable::run);
+   }
+
+   boolean test(RestService service) {
+      return ready.test(probe.apply(service));
+   }
+
+   void addWaker(Runnable waker) {
+      wakers.add(waker);
+   }
+
+   void removeWaker(Runnable waker) {
+      wakers.remove(waker);
+   }
+
+}
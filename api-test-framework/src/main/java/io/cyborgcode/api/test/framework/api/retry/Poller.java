@@ -0,0 +1,251 @@
+package io.cyborgcode.api.test.framework.api.retry;
+
+import io.cyborgcode.api.test.framework.config.Tuning;
+import io.cyborgcode.api.test.framework.support.QuestContext;
+import io.cyborgcode.roa.api.service.RestService;
+import io.cyborgcode.test.support.RunLifecycle;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Polls {@link PollCondition}s according to a {@link RetryPolicy}.
+ * <p>
+ * Probes run as tasks on a small shared scheduler ({@code api.retry.poller.threads}); between
+ * probes a wait holds no thread at all, so many concurrent waits cost only their scheduled tasks.
+ * The waiting test thread blocks on the result of its own wait. Probes run with the test context of
+ * the waiting thread (see {@link QuestContext}).
+ * <p>
+ * A probe itself blocks the scheduler thread it runs on (usually for an HTTP request), so at most
+ * {@code api.retry.poller.threads} probes run at once and further due probes queue behind them. The
+ * waiting thread therefore gives up after the policy timeout plus a grace period for a probe still
+ * in flight, rather than relying on a scheduler that may be saturated by slow probes.
+ * <p>
+ * A wake that arrives while a probe of the wait is running is deferred until that probe has
+ * finished, so a wait never has two probe chains at once.
+ * <p>
+ * Per condition name the poller records the number of waits and probes, early wakes, and the time
+ * possibly wasted after readiness: the condition became true at some point between the last failed
+ * probe and the successful one, so that gap is the upper bound of the time lost to polling.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class Poller {
+
+   private static final Logger LOGGER = LogManager.getLogger(Poller.class);
+   private static final Map<String, Counters> METRICS = new ConcurrentHashMap<>();
+   private static final ScheduledExecutorService SCHEDULER = createScheduler();
+   private static final long RESULT_GRACE_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+   private Poller() {
+   }
+
+   /**
+    * Polls the condition until it is met or the policy times out.
+    *
+    * @param service   service passed to the probe.
+    * @param condition condition to poll.
+    * @param policy    delay schedule and timeout.
+    * @throws IllegalStateException when the condition is not met in time, or no result arrives
+    *                               within the policy timeout plus a grace period.
+    */
+   public static void await(RestService service, PollCondition<?> condition, RetryPolicy policy) {
+      Counters counters = METRICS.computeIfAbsent(condition.name(), name -> new Counters());
+      Wait wait = new Wait(service, condition, policy, counters);
+      Runnable waker = wait::wake;
+      condition.addWaker(waker);
+      try {
+         wait.schedule(0);
+         wait.result.get(policy.timeout().toNanos() + RESULT_GRACE_NANOS, TimeUnit.NANOSECONDS);
+      } catch (TimeoutException e) {
+         if (wait.cancel()) {
+            counters.waits.increment();
+            counters.timeouts.increment();
+         }
+         throw new IllegalStateException(String.format("Condition '%s' gave no result within %s plus %d s grace;"
+               + " probes may be blocked by a saturated poller", condition.name(), policy,
+               TimeUnit.NANOSECONDS.toSeconds(RESULT_GRACE_NANOS)), e);
+      } catch (InterruptedException e) {
+         Thread.currentThread().interrupt();
+         wait.cancel();
+         throw new IllegalStateException("Interrupted while waiting for " + condition.name(), e);
+      } catch (ExecutionException e) {
+         throw e.getCause() instanceof RuntimeException cause ? cause : new IllegalStateException(e.getCause());
+      } finally {
+         condition.removeWaker(waker);
+      }
+   }
+
+   /**
+    * Returns the metrics of every condition polled so far.
+    *
+    * @return metrics by condition name.
+    */
+   public static Map<String, Metrics> metrics() {
+      Map<String, Metrics> snapshot = new ConcurrentHashMap<>();
+      METRICS.forEach((name, counters) -> snapshot.put(name, counters.snapshot()));
+      return snapshot;
+   }
+
+   private static ScheduledExecutorService createScheduler() {
+      AtomicInteger index = new AtomicInteger();
+      ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(Tuning.config().retryPollerThreads(),
+            runnable -> {
+               Thread thread = new Thread(runnable, "api-retry-poller-" + index.incrementAndGet());
+               thread.setDaemon(true);
+               return thread;
+            });
+      RunLifecycle.onShutdown("retry poller metrics", () -> metrics().forEach(
+            (name, metrics) -> LOGGER.info("Retry condition '{}': {}", name, metrics)));
+      return scheduler;
+   }
+
+   /**
+    * Polling statistics of one condition name.
+    *
+    * @param waits                 completed or timed out waits.
+    * @param attempts              probes run.
+    * @param timeouts              waits that timed out.
+    * @param earlyWakes            probes brought forward by {@link PollCondition#wake()}.
+    * @param maxWastedMillis       largest upper bound of time lost between readiness and detection.
+    * @param totalWastedMillis     sum of those upper bounds.
+    */
+   public record Metrics(long waits, long attempts, long timeouts, long earlyWakes,
+                         long maxWastedMillis, long totalWastedMillis) {
+   }
+
+   private static final class Counters {
+
+      private final LongAdder waits = new LongAdder();
+      private final LongAdder attempts = new LongAdder();
+      private final LongAdder timeouts = new LongAdder();
+      private final LongAdder earlyWakes = new LongAdder();
+      private final LongAdder wastedNanos = new LongAdder();
+      private final AtomicLong maxWastedNanos = new AtomicLong();
+
+      private Metrics snapshot() {
+         return new Metrics(waits.sum(), attempts.sum(), timeouts.sum(), earlyWakes.sum(),
+               TimeUnit.NANOSECONDS.toMillis(maxWastedNanos.get()), TimeUnit.NANOSECONDS.toMillis(wastedNanos.sum()));
+      }
+
+   }
+
+   private static final class Wait {
+
+      private final PollCondition<?> condition;
+      private final Supplier<Boolean> probe;
+      private final RetryPolicy policy;
+      private final Counters counters;
+      private final long deadline;
+      private final CompletableFuture<Void> result = new CompletableFuture<>();
+      private final AtomicReference<ScheduledFuture<?>> next = new AtomicReference<>();
+      private int retries;
+      private long lastFailedAt = -1;
+      private boolean running;
+      private boolean wakeDeferred;
+
+      private Wait(RestService service, PollCondition<?> condition, RetryPolicy policy, Counters counters) {
+         this.condition = condition;
+         this.probe = QuestContext.propagate(() -> condition.test(service));
+         this.policy = policy;
+         this.counters = counters;
+         this.deadline = System.nanoTime() + policy.timeout().toNanos();
+      }
+
+      private void schedule(long delayNanos) {
+         long remaining = deadline - System.nanoTime();
+         next.set(SCHEDULER.schedule(this::probe, Math.max(0, Math.min(delayNanos, remaining)), TimeUnit.NANOSECONDS));
+      }
+
+      private void probe() {
+         synchronized (this) {
+            if (result.isDone() || running) {
+               return;
+            }
+            running = true;
+         }
+         try {
+            runProbe();
+         } finally {
+            synchronized (this) {
+               running = false;
+               if (wakeDeferred) {
+                  wakeDeferred = false;
+                  probeNow();
+               }
+            }
+         }
+      }
+
+      private void runProbe() {
+         counters.attempts.increment();
+         long startedAt = System.nanoTime();
+         boolean met;
+         try {
+            met = probe.get();
+         } catch (RuntimeException e) {
+            LOGGER.debug("Probe of '{}' failed: {}", condition.name(), e.toString());
+            met = false;
+         }
+         if (met) {
+            long wasted = lastFailedAt < 0 ? 0 : startedAt - lastFailedAt;
+            if (result.complete(null)) {
+               counters.waits.increment();
+               counters.wastedNanos.add(wasted);
+               counters.maxWastedNanos.accumulateAndGet(wasted, Math::max);
+            }
+            return;
+         }
+         lastFailedAt = System.nanoTime();
+         if (lastFailedAt >= deadline) {
+            if (result.completeExceptionally(new IllegalStateException(String.format(
+                  "Condition '%s' not met after %d attempts within %s", condition.name(), retries + 1, policy)))) {
+               counters.waits.increment();
+               counters.timeouts.increment();
+            }
+         } else {
+            schedule(policy.delayNanos(++retries));
+         }
+      }
+
+      private synchronized void wake() {
+         if (running) {
+            wakeDeferred = true;
+         } else {
+            probeNow();
+         }
+      }
+
+      private void probeNow() {
+         ScheduledFuture<?> pending = next.get();
+         if (pending != null && !result.isDone() && pending.cancel(false)) {
+            counters.earlyWakes.increment();
+            next.set(SCHEDULER.schedule(this::probe, 0, TimeUnit.NANOSECONDS));
+         }
+      }
+
+      private boolean cancel() {
+         boolean cancelled = result.cancel(false);
+         ScheduledFuture<?> pending = next.get();
+         if (pending != null) {
+            pending.cancel(false);
+         }
+         return cancelled;
+      }
+
+   }
+
+}
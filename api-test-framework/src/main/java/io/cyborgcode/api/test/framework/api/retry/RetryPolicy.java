@@ -0,0 +1,82 @@
+package io.cyborgcode.api.test.framework.api.retry;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Delay schedule and overall timeout for polling a {@link PollCondition}.
+ * <ul>
+ *   <li>{@link #fixed} – the same delay before every attempt,</li>
+ *   <li>{@link #exponential} – the delay grows by a multiplier per attempt, up to a maximum,</li>
+ *   <li>{@link #withJitter} – spreads each delay randomly by the given ratio, so many concurrent
+ *       waits do not poll the server in lockstep.</li>
+ * </ul>
+ * Policies are immutable and can be shared as constants.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class RetryPolicy {
+
+   private final Duration timeout;
+   private final long initialDelayNanos;
+   private final long maxDelayNanos;
+   private final double multiplier;
+   private final double jitter;
+
+   private RetryPolicy(Duration timeout, long initialDelayNanos, long maxDelayNanos, double multiplier, double jitter) {
+      if (timeout.isNegative() || initialDelayNanos <= 0 || multiplier < 1 || jitter < 0 || jitter >= 1) {
+         throw new IllegalArgumentException("Invalid retry policy: timeout=" + timeout + ", initialDelay="
+               + Duration.ofNanos(initialDelayNanos) + ", multiplier=" + multiplier + ", jitter=" + jitter);
+      }
+      this.timeout = timeout;
+      this.initialDelayNanos = initialDelayNanos;
+      this.maxDelayNanos = Math.max(initialDelayNanos, maxDelayNanos);
+      this.multiplier = multiplier;
+      this.jitter = jitter;
+   }
+
+   public static RetryPolicy fixed(Duration interval, Duration timeout) {
+      return new RetryPolicy(timeout, interval.toNanos(), interval.toNanos(), 1, 0);
+   }
+
+   public static RetryPolicy exponential(Duration initialDelay, Duration maxDelay, double multiplier, Duration timeout) {
+      return new RetryPolicy(timeout, initialDelay.toNanos(), maxDelay.toNanos(), multiplier, 0);
+   }
+
+   /**
+    * Returns a copy of this policy whose delays vary randomly by up to {@code ratio} in either direction.
+    *
+    * @param ratio jitter ratio in {@code [0, 1)}, e.g. {@code 0.2} for ±20%.
+    * @return the jittered policy.
+    */
+   public RetryPolicy withJitter(double ratio) {
+      return new RetryPolicy(timeout, initialDelayNanos, maxDelayNanos, multiplier, ratio);
+   }
+
+   public Duration timeout() {
+      return timeout;
+   }
+
+   /**
+    * Returns the delay before the given retry.
+    *
+    * @param retry retry number, {@code 1} for the first retry after the initial attempt.
+    * @return the delay in nanoseconds.
+    */
+   long delayNanos(int retry) {
+      double delay = initialDelayNanos * Math.pow(multiplier, Math.max(0, retry - 1));
+      long capped = (long) Math.min(delay, maxDelayNanos);
+      if (jitter == 0) {
+         return capped;
+      }
+      double spread = 1 + ThreadLocalRandom.current().nextDouble(-jitter, jitter);
+      return Math.max(1, (long) (capped * spread));
+   }
+
+   @Override
+   public String toString() {
+      return String.format("RetryPolicy[timeout=%s, initialDelay=%s, maxDelay=%s, multiplier=%s, jitter=%s]",
+            timeout, Duration.ofNanos(initialDelayNanos), Duration.ofNanos(maxDelayNanos), multiplier, jitter);
+   }
+
+}
@@ -0,0 +1,119 @@
+package io.cyborgcode.api.test.framework.api.storage;
+
+import io.cyborgcode.roa.api.storage.StorageKeysApi;
+import io.cyborgcode.roa.framework.quest.QuestHolder;
+import io.cyborgcode.roa.framework.quest.SuperQuest;
+import io.restassured.response.Response;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Memoized typed views of responses stored in {@link StorageKeysApi#API}.
+ * <p>
+ * Mapping a stored {@link Response} to a DTO ({@code getBody().as(GetUsersDto.class)}) deserializes
+ * the whole body every time. This helper keeps the deserialized view per endpoint key and target
+ * class, so repeated reads of the same stored response return the already mapped object:
+ * <pre>{@code
+ * GetUsersDto users = ResponseViews.retrieve(GET_ALL_USERS, GetUsersDto.class);
+ * }</pre>
+ * A view is tied to the exact {@link Response} instance it was created from. When a newer response
+ * is stored under the same endpoint key, the cached views for that key are dropped on the next read.
+ * <p>
+ * Views are shared between callers of the same quest and must be treated as read-only.
+ * The cache itself is kept in the quest's storage, so it is released together with the quest and,
+ * like quest storage, is not shared between threads.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class ResponseViews {
+
+   private static final LongAdder HITS = new LongAdder();
+   private static final LongAdder MISSES = new LongAdder();
+
+   private final Map<Enum<?>, Views> views = new HashMap<>();
+
+   ResponseViews() {
+   }
+
+   /**
+    * Returns the typed view of the response stored under the endpoint key for the active quest.
+    *
+    * @param endpoint endpoint key the response is stored under (e.g. {@code GET_ALL_USERS}).
+    * @param type     DTO class to map the body to.
+    * @return the memoized DTO.
+    */
+   public static <T> T retrieve(Enum<?> endpoint, Class<T> type) {
+      return retrieve(QuestHolder.get(), endpoint, type);
+   }
+
+   /**
+    * Returns the typed view of the response stored under the endpoint key for the given quest.
+    *
+    * @param quest    quest whose API storage holds the response.
+    * @param endpoint endpoint key the response is stored under.
+    * @param type     DTO class to map the body to.
+    * @return the memoized DTO.
+    */
+   public static <T> T retrieve(SuperQuest quest, Enum<?> endpoint, Class<T> type) {
+      Response response = quest.getStorage()
+            .sub(StorageKeysApi.API)
+            .get(endpoint, Response.class);
+      return of(quest).view(endpoint, response, type);
+   }
+
+   public static long hits() {
+      return HITS.sum();
+   }
+
+   public static long misses() {
+      return MISSES.sum();
+   }
+
+   <T> T view(Enum<?> endpoint, Response response, Class<T> type) {
+      Views current = views.get(endpoint);
+      if (current == null || current.source != response) {
+         current = new Views(response);
+         views.put(endpoint, current);
+      }
+
+      Object cached = current.byType.get(type);
+      if (cached != null) {
+         HITS.increment();
+         return type.cast(cached);
+      }
+      MISSES.increment();
+      T mapped = response.getBody().as(type);
+      current.byType.put(type, mapped);
+      return mapped;
+   }
+
+   private static ResponseViews of(SuperQuest quest) {
+      ResponseViews views = quest.getStorage()
+            .sub(StorageKeysApi.API)
+            .get(StorageKey.RESPONSE_VIEWS, ResponseViews.class);
+      if (views == null) {
+         views = new ResponseViews();
+         quest.getStorage()
+               .sub(StorageKeysApi.API)
+               .put(StorageKey.RESPONSE_VIEWS, views);
+      }
+      return views;
+   }
+
+   private enum StorageKey {
+      RESPONSE_VIEWS
+   }
+
+   private static final class Views {
+
+      private final Response source;
+      private final Map<Class<?>, Object> byType = new HashMap<>(4);
+
+      private Views(Response source) {
+         this.source = source;
+      }
+
+   }
+
+}
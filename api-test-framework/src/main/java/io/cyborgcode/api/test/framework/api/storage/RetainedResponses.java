@@ -0,0 +1,351 @@
+package io.cyborgcode.api.test.framework.api.storage;
+
+import io.cyborgcode.api.test.framework.config.Tuning;
+import io.cyborgcode.roa.api.storage.StorageKeysApi;
+import io.cyborgcode.roa.framework.quest.QuestHolder;
+import io.cyborgcode.roa.framework.quest.SuperQuest;
+import io.cyborgcode.test.support.RunLifecycle;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Memory-bounded retention of API responses for long chained quests.
+ * <p>
+ * Responses stored by {@code RING_OF_API} in {@link StorageKeysApi#API} keep their full body on the
+ * heap for the lifetime of the quest. Responses retained here instead (see
+ * {@code PerformanceService.requestAndRetain}) are kept as compact snapshots (status line, headers
+ * and body bytes) under a per-quest byte budget:
+ * <ul>
+ *   <li>bodies of at least {@code api.retention.spill.threshold.bytes} are written to a temp file
+ *       and count against the separate disk budget {@code api.retention.spill.budget.bytes} instead
+ *       of the heap budget,</li>
+ *   <li>when the heap-held bodies exceed {@code api.retention.budget.bytes}, or the spilled bodies
+ *       exceed the disk budget, the least recently retrieved responses of that kind are evicted
+ *       until the quest is back within budget; evicted and replaced spill files are deleted.</li>
+ * </ul>
+ * Only the latest response per endpoint key is retained. {@link #retrieve(Enum)} rebuilds a
+ * RestAssured {@link Response} from the snapshot, so callers use it exactly like a stored response;
+ * {@link #body(Enum)} gives read-only access to the body without copying it, as a view over the
+ * memory-mapped file for spilled bodies.
+ * <p>
+ * The budget applies to this store only. Responses sent through {@code RING_OF_API} are stored in
+ * {@link StorageKeysApi#API} by the framework itself, which offers no hook to bound that storage, so
+ * they keep their full body on the heap whatever the retention settings; a quest only benefits from
+ * the budget for the responses it retains here.
+ * <p>
+ * Spill files of a store are deleted once the store is no longer reachable, i.e. after its quest
+ * has finished, and whatever is left is removed with the spill directory at the end of the run.
+ * The store is owned by the quest and, like quest storage, is not shared between threads.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class RetainedResponses {
+
+   private static final Path SPILL_DIRECTORY = createSpillDirectory();
+   private static final Cleaner CLEANER = Cleaner.create();
+
+   private final long budgetBytes;
+   private final long spillThresholdBytes;
+   private final long spillBudgetBytes;
+   private final Map<Enum<?>, Snapshot> snapshots = new LinkedHashMap<>(16, 0.75f, true);
+   private final List<Enum<?>> evicted = new ArrayList<>();
+   private final SpillFiles spillFiles = new SpillFiles();
+   private long heapBytes;
+   private long diskBytes;
+
+   RetainedResponses(long budgetBytes, long spillThresholdBytes, long spillBudgetBytes) {
+      this.budgetBytes = budgetBytes;
+      this.spillThresholdBytes = spillThresholdBytes;
+      this.spillBudgetBytes = spillBudgetBytes;
+      CLEANER.register(this, spillFiles);
+   }
+
+   /**
+    * Returns the retention store of the given quest, creating it on first use.
+    *
+    * @param quest quest owning the store.
+    * @return the quest's retention store.
+    */
+   public static RetainedResponses of(SuperQuest quest) {
+      RetainedResponses store = quest.getStorage()
+            .sub(StorageKeysApi.API)
+            .get(StorageKey.RETAINED_RESPONSES, RetainedResponses.class);
+      if (store == null) {
+         store = new RetainedResponses(Tuning.config().retentionBudgetBytes(),
+               Tuning.config().retentionSpillThresholdBytes(), Tuning.config().retentionSpillBudgetBytes());
+         quest.getStorage()
+               .sub(StorageKeysApi.API)
+               .put(StorageKey.RETAINED_RESPONSES, store);
+      }
+      return store;
+   }
+
+   /**
+    * Returns the response retained under the endpoint key for the active quest.
+    *
+    * @param endpoint endpoint key the response was retained under (e.g. {@code GET_ALL_USERS}).
+    * @return the rebuilt response.
+    * @throws IllegalStateException when nothing was retained for the key or it was evicted.
+    */
+   public static Response retrieve(Enum<?> endpoint) {
+      return of(QuestHolder.get()).get(endpoint);
+   }
+
+   /**
+    * Retains a snapshot of the response under the endpoint key, replacing any earlier one.
+    *
+    * @param endpoint endpoint key to retain the response under.
+    * @param response received response.
+    */
+   public void retain(Enum<?> endpoint, Response response) {
+      byte[] body = response.getBody().asByteArray();
+      Snapshot snapshot = body.length >= spillThresholdBytes
+            ? Snapshot.spilled(response, spillFiles.add(spill(body)), body.length)
+            : Snapshot.inHeap(response, body);
+
+      release(snapshots.put(endpoint, snapshot));
+      evicted.remove(endpoint);
+      heapBytes += snapshot.heapBytes();
+      diskBytes += snapshot.diskBytes();
+      evictOverBudget();
+   }
+
+   /**
+    * Rebuilds the response retained under the endpoint key.
+    *
+    * @param endpoint endpoint key the response was retained under.
+    * @return the rebuilt response.
+    * @throws IllegalStateException when nothing was retained for the key or it was evicted.
+    */
+   public Response get(Enum<?> endpoint) {
+      return snapshot(endpoint).toResponse();
+   }
+
+   /**
+    * Returns the body retained under the endpoint key without copying it. For spilled bodies the
+    * buffer is a view over the memory-mapped spill file.
+    *
+    * @param endpoint endpoint key the response was retained under.
+    * @return a read-only buffer positioned at the start of the body.
+    * @throws IllegalStateException when nothing was retained for the key or it was evicted.
+    */
+   public ByteBuffer body(Enum<?> endpoint) {
+      return snapshot(endpoint).body();
+   }
+
+   /**
+    * Returns the number of body bytes currently held on the heap.
+    *
+    * @return heap-held body bytes.
+    */
+   public long heapBytes() {
+      return heapBytes;
+   }
+
+   /**
+    * Returns the number of body bytes currently held in spill files.
+    *
+    * @return spilled body bytes.
+    */
+   public long diskBytes() {
+      return diskBytes;
+   }
+
+   /**
+    * Returns the number of retained responses whose body lives in a temp file.
+    *
+    * @return spilled response count.
+    */
+   public long spilledCount() {
+      return snapshots.values().stream().filter(snapshot -> snapshot.file != null).count();
+   }
+
+   private Snapshot snapshot(Enum<?> endpoint) {
+      Snapshot snapshot = snapshots.get(endpoint);
+      if (snapshot == null) {
+         throw new IllegalStateException(evicted.contains(endpoint)
+               ? "Response for " + endpoint + " was evicted: retention budget exceeded (heap " + budgetBytes
+                     + " bytes, disk " + spillBudgetBytes + " bytes)"
+               : "No response retained for " + endpoint);
+      }
+      return snapshot;
+   }
+
+   private void evictOverBudget() {
+      Iterator<Map.Entry<Enum<?>, Snapshot>> eldest = snapshots.entrySet().iterator();
+      while ((heapBytes > budgetBytes || diskBytes > spillBudgetBytes) && eldest.hasNext()) {
+         Map.Entry<Enum<?>, Snapshot> entry = eldest.next();
+         Snapshot snapshot = entry.getValue();
+         boolean overHeap = heapBytes > budgetBytes && snapshot.heapBytes() > 0;
+         boolean overDisk = diskBytes > spillBudgetBytes && snapshot.diskBytes() > 0;
+         if (!overHeap && !overDisk) {
+            continue;
+         }
+         eldest.remove();
+         release(snapshot);
+         evicted.add(entry.getKey());
+      }
+   }
+
+   private void release(Snapshot snapshot) {
+      if (snapshot == null) {
+         return;
+      }
+      heapBytes -= snapshot.heapBytes();
+      diskBytes -= snapshot.diskBytes();
+      if (snapshot.file != null) {
+         spillFiles.delete(snapshot.file);
+      }
+   }
+
+   private static Path spill(byte[] body) {
+      try {
+         Path file = Files.createTempFile(SPILL_DIRECTORY, "response-", ".body");
+         try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.wrap(body);
+            while (buffer.hasRemaining()) {
+               channel.write(buffer);
+            }
+         }
+         return file;
+      } catch (IOException e) {
+         throw new UncheckedIOException("Failed to spill response body to disk", e);
+      }
+   }
+
+   private static ByteBuffer map(Path file, int length) {
+      try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+         return channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+      } catch (IOException e) {
+         throw new UncheckedIOException("Failed to map spilled response body " + file, e);
+      }
+   }
+
+   private static byte[] read(Path file) {
+      try {
+         return Files.readAllBytes(file);
+      } catch (IOException e) {
+         throw new UncheckedIOException("Failed to reload spilled response body " + file, e);
+      }
+   }
+
+   private static Path createSpillDirectory() {
+      try {
+         Path directory = Files.createTempDirectory("api-retained-responses-");
+         RunLifecycle.onShutdown("retained response spill cleanup", () -> {
+            try (Stream<Path> files = Files.list(directory)) {
+               files.forEach(file -> file.toFile().delete());
+            } catch (IOException ignored) {
+               // best effort
+            }
+            directory.toFile().delete();
+         });
+         return directory;
+      } catch (IOException e) {
+         throw new UncheckedIOException("Failed to create response spill directory", e);
+      }
+   }
+
+   private enum StorageKey {
+      RETAINED_RESPONSES
+   }
+
+   /**
+    * Spill files of one store. Registered with the {@link Cleaner}, so it must not refer to the store.
+    */
+   private static final class SpillFiles implements Runnable {
+
+      private final Set<Path> files = ConcurrentHashMap.newKeySet();
+
+      private Path add(Path file) {
+         files.add(file);
+         return file;
+      }
+
+      private void delete(Path file) {
+         files.remove(file);
+         try {
+            Files.deleteIfExists(file);
+         } catch (IOException ignored) {
+            // removed together with the spill directory at the end of the run
+         }
+      }
+
+      @Override
+      public void run() {
+         List.copyOf(files).forEach(this::delete);
+      }
+
+   }
+
+   private static final class Snapshot {
+
+      private final int statusCode;
+      private final String statusLine;
+      private final List<Header> headers;
+      private final String contentType;
+      private final byte[] body;
+      private final Path file;
+      private final int length;
+
+      private Snapshot(Response response, byte[] body, Path file, int length) {
+         this.statusCode = response.getStatusCode();
+         this.statusLine = response.getStatusLine();
+         this.headers = response.getHeaders().asList();
+         this.contentType = response.getContentType();
+         this.body = body;
+         this.file = file;
+         this.length = length;
+      }
+
+      private static Snapshot inHeap(Response response, byte[] body) {
+         return new Snapshot(response, body, null, body.length);
+      }
+
+      private static Snapshot spilled(Response response, Path file, int length) {
+         return new Snapshot(response, null, file, length);
+      }
+
+      private long heapBytes() {
+         return body != null ? length : 0;
+      }
+
+      private long diskBytes() {
+         return file != null ? length : 0;
+      }
+
+      private ByteBuffer body() {
+         return body != null ? ByteBuffer.wrap(body).asReadOnlyBuffer() : map(file, length);
+      }
+
+      private Response toResponse() {
+         return new ResponseBuilder()
+               .setStatusCode(statusCode)
+               .setStatusLine(statusLine)
+               .setHeaders(new Headers(headers))
+               .setContentType(contentType)
+               .setBody(body != null ? body : read(file))
+               .build();
+      }
+
+   }
+
+}
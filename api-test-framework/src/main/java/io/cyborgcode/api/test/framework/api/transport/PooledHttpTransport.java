@@ -0,0 +1,190 @@
+package io.cyborgcode.api.test.framework.api.transport;
+
+import io.cyborgcode.api.test.framework.config.Tuning;
+import io.cyborgcode.api.test.framework.config.TuningProperties;
+import io.cyborgcode.test.support.RunLifecycle;
+import io.restassured.RestAssured;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.apache.http.conn.ClientConnectionManager;
+import org.apache.http.conn.ClientConnectionRequest;
+import org.apache.http.conn.ManagedClientConnection;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.impl.conn.SchemeRegistryFactory;
+import org.apache.http.pool.PoolStats;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Shared, pooled keep-alive HTTP transport for the API ring.
+ * <p>
+ * RestAssured creates a new Apache HTTP client for every request by default, so each request opens
+ * its own connection (and TLS session). This transport plugs a client factory into the RestAssured
+ * configuration that hands out clients backed by one suite-wide pooling connection manager:
+ * <ul>
+ *   <li>connections are kept alive and reused across requests, tests and worker threads,</li>
+ *   <li>the keep-alive duration advertised by the server is honoured, capped by the configured value,</li>
+ *   <li>a background task evicts expired connections and connections idle for longer than the
+ *       configured timeout.</li>
+ * </ul>
+ * Settings are read from {@code config-*.properties}:
+ * {@code api.http.pool.enabled}, {@code api.http.pool.max.total}, {@code api.http.pool.max.per.route},
+ * {@code api.http.pool.keep.alive.seconds}, {@code api.http.pool.idle.timeout.seconds} and
+ * {@code api.http.pool.eviction.interval.seconds}. Pooling is off unless
+ * {@code api.http.pool.enabled} is set.
+ * <p>
+ * Pool usage is exposed through {@link #metrics()} and logged at the end of the run.
+ * <p>
+ * RestAssured hands the client returned by its factory to its HTTP builder as an
+ * {@code AbstractHttpClient}, so the clients built by {@code HttpClientBuilder} (and the
+ * {@code PoolingHttpClientConnectionManager} they take) cannot be plugged in. The transport therefore
+ * uses the {@code DefaultHttpClient} and {@code PoolingClientConnectionManager} API that RestAssured
+ * itself is built on, and confines the deprecation warnings to the two classes that touch it.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class PooledHttpTransport {
+
+   private static final Logger LOGGER = LogManager.getLogger(PooledHttpTransport.class);
+
+   private PooledHttpTransport() {
+   }
+
+   /**
+    * Returns the given configuration with its HTTP client factory replaced by the pooled one.
+    * When pooling is disabled the configuration is returned unchanged.
+    *
+    * @param base configuration to extend, {@code null} for the global RestAssured configuration.
+    * @return the configuration to use for API requests.
+    */
+   public static RestAssuredConfig configure(RestAssuredConfig base) {
+      RestAssuredConfig config = base != null ? base : RestAssured.config();
+      if (!Tuning.config().httpPoolEnabled()) {
+         return config;
+      }
+      HttpClientConfig httpClientConfig = config.getHttpClientConfig()
+            .httpClientFactory(Pool.INSTANCE::newClient);
+      return config.httpClient(httpClientConfig);
+   }
+
+   /**
+    * Returns a snapshot of the shared pool usage.
+    *
+    * @return the current pool metrics.
+    */
+   public static PoolMetrics metrics() {
+      return Pool.INSTANCE.metrics();
+   }
+
+   /**
+    * Usage snapshot of the shared connection pool.
+    *
+    * @param leased    connections currently in use by a request.
+    * @param idle      open connections waiting in the pool for reuse.
+    * @param pending   requests waiting for a connection to become available.
+    * @param maxTotal  maximum number of connections the pool may hold.
+    */
+   public record PoolMetrics(int leased, int idle, int pending, int maxTotal) {
+   }
+
+   @SuppressWarnings("deprecation")
+   private static final class Pool {
+
+      private static final Pool INSTANCE = new Pool(Tuning.config());
+
+      private final PoolingClientConnectionManager manager;
+      private final ClientConnectionManager shared;
+      private final long keepAliveMillis;
+
+      private Pool(TuningProperties tuning) {
+         manager = new PoolingClientConnectionManager(SchemeRegistryFactory.createSystemDefault());
+         manager.setMaxTotal(tuning.httpPoolMaxTotal());
+         manager.setDefaultMaxPerRoute(tuning.httpPoolMaxPerRoute());
+         shared = new SharedConnectionManager(manager);
+         keepAliveMillis = TimeUnit.SECONDS.toMillis(tuning.httpPoolKeepAliveSeconds());
+
+         long idleTimeout = tuning.httpPoolIdleTimeoutSeconds();
+         long interval = tuning.httpPoolEvictionIntervalSeconds();
+         ScheduledExecutorService evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "api-http-pool-evictor");
+            thread.setDaemon(true);
+            return thread;
+         });
+         evictor.scheduleWithFixedDelay(() -> {
+            manager.closeExpiredConnections();
+            manager.closeIdleConnections(idleTimeout, TimeUnit.SECONDS);
+            LOGGER.debug("API HTTP pool: {}", metrics());
+         }, interval, interval, TimeUnit.SECONDS);
+         RunLifecycle.onShutdown("API HTTP pool report",
+               () -> LOGGER.info("API HTTP pool at end of run: {}", metrics()));
+      }
+
+      private PoolMetrics metrics() {
+         PoolStats stats = manager.getTotalStats();
+         return new PoolMetrics(stats.getLeased(), stats.getAvailable(), stats.getPending(), stats.getMax());
+      }
+
+      private DefaultHttpClient newClient() {
+         DefaultHttpClient client = new DefaultHttpClient(shared);
+         client.setKeepAliveStrategy((response, context) -> {
+            long advertised = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            return advertised > 0 ? Math.min(advertised, keepAliveMillis) : keepAliveMillis;
+         });
+         return client;
+      }
+
+   }
+
+   /**
+    * Delegating connection manager that ignores {@code shutdown()}, so RestAssured closing a
+    * per-request client does not tear down the shared pool.
+    */
+   @SuppressWarnings("deprecation")
+   private static final class SharedConnectionManager implements ClientConnectionManager {
+
+      private final ClientConnectionManager delegate;
+
+      private SharedConnectionManager(ClientConnectionManager delegate) {
+         this.delegate = delegate;
+      }
+
+      @Override
+      public SchemeRegistry getSchemeRegistry() {
+         return delegate.getSchemeRegistry();
+      }
+
+      @Override
+      public ClientConnectionRequest requestConnection(HttpRoute route, Object state) {
+         return delegate.requestConnection(route, state);
+      }
+
+      @Override
+      public void releaseConnection(ManagedClientConnection connection, long validDuration, TimeUnit timeUnit) {
+         delegate.releaseConnection(connection, validDuration, timeUnit);
+      }
+
+      @Override
+      public void closeIdleConnections(long idleTime, TimeUnit timeUnit) {
+         delegate.closeIdleConnections(idleTime, timeUnit);
+      }
+
+      @Override
+      public void closeExpiredConnections() {
+         delegate.closeExpiredConnections();
+      }
+
+      @Override
+      public void shutdown() {
+         // the pool lives for the whole run
+      }
+
+   }
+
+}
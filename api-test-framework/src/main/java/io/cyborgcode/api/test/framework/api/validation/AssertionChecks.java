@@ -0,0 +1,37 @@
+package io.cyborgcode.api.test.framework.api.validation;
+
+import io.cyborgcode.roa.validator.core.Assertion;
+import io.cyborgcode.roa.validator.core.AssertionResult;
+import io.cyborgcode.roa.validator.core.AssertionValidator;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Value checks for assertions whose actual value was extracted outside the framework validator.
+ * <p>
+ * The single-pass evaluators only change how values are read from a response; the comparison itself
+ * is delegated to the ROA {@link AssertionValidator}, so every assertion type has exactly the
+ * semantics it has in {@code RING_OF_API}. A value of a type the assertion type does not support,
+ * or an assertion type without a registered validator, fails with the framework's exception
+ * instead of being reported as a plain mismatch.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+final class AssertionChecks {
+
+   private AssertionChecks() {
+   }
+
+   static boolean test(Assertion assertion, Object actual) {
+      Map<String, Object> data = new HashMap<>(2);
+      data.put(assertion.getKey(), actual);
+      AssertionResult<Object> result = AssertionValidator.validate(data, assertion).get(0);
+      return result.isPassed();
+   }
+
+   static String failureMessage(Assertion assertion, Object actual) {
+      return String.format("[%s] %s assertion failed for key '%s': expected <%s> but was <%s>",
+            assertion.getTarget(), assertion.getType(), assertion.getKey(), assertion.getExpected(), actual);
+   }
+
+}
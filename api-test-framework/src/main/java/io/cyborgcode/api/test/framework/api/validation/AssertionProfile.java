@@ -0,0 +1,150 @@
+package io.cyborgcode.api.test.framework.api.validation;
+
+import io.cyborgcode.roa.validator.core.Assertion;
+import io.restassured.http.ContentType;
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.cyborgcode.api.test.framework.api.extractors.ApiResponsesJsonPaths.DATA;
+import static io.cyborgcode.api.test.framework.api.extractors.ApiResponsesJsonPaths.PER_PAGE;
+import static io.cyborgcode.api.test.framework.api.extractors.ApiResponsesJsonPaths.SUPPORT_TEXT;
+import static io.cyborgcode.api.test.framework.api.extractors.ApiResponsesJsonPaths.SUPPORT_URL;
+import static io.cyborgcode.api.test.framework.api.extractors.ApiResponsesJsonPaths.TOTAL;
+import static io.cyborgcode.api.test.framework.api.extractors.ApiResponsesJsonPaths.TOTAL_PAGES;
+import static io.cyborgcode.api.test.framework.api.extractors.ApiResponsesJsonPaths.USER_AVATAR_BY_INDEX;
+import static io.cyborgcode.api.test.framework.api.extractors.ApiResponsesJsonPaths.USER_FIRST_NAME;
+import static io.cyborgcode.api.test.framework.api.extractors.ApiResponsesJsonPaths.USER_ID;
+import static io.cyborgcode.api.test.framework.data.constants.TestConstants.FileConstants.AVATAR_FILE_EXTENSION;
+import static io.cyborgcode.api.test.framework.data.constants.TestConstants.PageTwo.PAGE_TWO_CONTAINS_ANY_USER;
+import static io.cyborgcode.api.test.framework.data.constants.TestConstants.PageTwo.PAGE_TWO_DATA_SIZE;
+import static io.cyborgcode.api.test.framework.data.constants.TestConstants.PageTwo.PAGE_TWO_EXPECTED_USERS;
+import static io.cyborgcode.api.test.framework.data.constants.TestConstants.Pagination.TOTAL_USERS_IN_PAGE_RANGE;
+import static io.cyborgcode.api.test.framework.data.constants.TestConstants.Support.SUPPORT_TEXT_PREFIX;
+import static io.cyborgcode.api.test.framework.data.constants.TestConstants.Support.SUPPORT_URL_REGEX;
+import static io.cyborgcode.api.test.framework.data.constants.TestConstants.Support.SUPPORT_URL_REQRES_FRAGMENT;
+import static io.cyborgcode.api.test.framework.data.constants.TestConstants.Users.USER_ONE_FIRST_NAME;
+import static io.cyborgcode.api.test.framework.data.constants.TestConstants.Users.USER_SEVENTH_FIRST_NAME_LENGTH;
+import static io.cyborgcode.roa.api.validator.RestAssertionTarget.BODY;
+import static io.cyborgcode.roa.api.validator.RestAssertionTarget.HEADER;
+import static io.cyborgcode.roa.api.validator.RestAssertionTarget.STATUS;
+import static io.cyborgcode.roa.validator.core.AssertionTypes.ALL_NOT_NULL;
+import static io.cyborgcode.roa.validator.core.AssertionTypes.BETWEEN;
+import static io.cyborgcode.roa.validator.core.AssertionTypes.CONTAINS;
+import static io.cyborgcode.roa.validator.core.AssertionTypes.CONTAINS_ALL;
+import static io.cyborgcode.roa.validator.core.AssertionTypes.CONTAINS_ANY;
+import static io.cyborgcode.roa.validator.core.AssertionTypes.ENDS_WITH;
+import static io.cyborgcode.roa.validator.core.AssertionTypes.EQUALS_IGNORE_CASE;
+import static io.cyborgcode.roa.validator.core.AssertionTypes.GREATER_THAN;
+import static io.cyborgcode.roa.validator.core.AssertionTypes.IS;
+import static io.cyborgcode.roa.validator.core.AssertionTypes.LENGTH;
+import static io.cyborgcode.roa.validator.core.AssertionTypes.LESS_THAN;
+import static io.cyborgcode.roa.validator.core.AssertionTypes.MATCHES_REGEX;
+import static io.cyborgcode.roa.validator.core.AssertionTypes.NOT;
+import static io.cyborgcode.roa.validator.core.AssertionTypes.NOT_EMPTY;
+import static io.cyborgcode.roa.validator.core.AssertionTypes.NOT_NULL;
+import static io.cyborgcode.roa.validator.core.AssertionTypes.STARTS_WITH;
+import static org.apache.http.HttpHeaders.CONTENT_TYPE;
+import static org.apache.http.HttpStatus.SC_CREATED;
+import static org.apache.http.HttpStatus.SC_OK;
+
+/**
+ * Named, reusable assertion sets.
+ * <p>
+ * Each profile is declared once and prepared when the enum is initialized: every assertion is checked
+ * for a target, type and key, and the set is split up front into body assertions (read in a single
+ * pass by {@link BodyAssertionEvaluator}) and status/header assertions (delegated to the framework
+ * validator). Expected values are declared exactly as for {@code RING_OF_API}, since both paths
+ * compare them with the framework's assertion validators. A misdeclared profile fails on first use
+ * of the enum rather than in the middle of a test.
+ * <p>
+ * Used via {@code quest.use(RING_OF_PERFORMANCE).requestAndValidate(endpoint, PROFILE)}, which does
+ * no per-call assertion setup.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public enum AssertionProfile {
+
+   STATUS_OK(
+         Assertion.builder().target(STATUS).type(IS).expected(SC_OK).build()
+   ),
+   STATUS_CREATED(
+         Assertion.builder().target(STATUS).type(IS).expected(SC_CREATED).build()
+   ),
+   USERS_PAGE_TWO(
+         Assertion.builder().target(STATUS).type(IS).expected(SC_OK).build(),
+         Assertion.builder().target(HEADER).key(CONTENT_TYPE).type(CONTAINS).expected(ContentType.JSON.toString()).build(),
+         Assertion.builder().target(BODY).key(TOTAL.getJsonPath()).type(NOT).expected(1).build(),
+         Assertion.builder().target(BODY).key(TOTAL_PAGES.getJsonPath()).type(GREATER_THAN).expected(1).build(),
+         Assertion.builder().target(BODY).key(PER_PAGE.getJsonPath()).type(LESS_THAN).expected(10).build(),
+         Assertion.builder().target(BODY).key(SUPPORT_URL.getJsonPath()).type(CONTAINS).expected(SUPPORT_URL_REQRES_FRAGMENT).build(),
+         Assertion.builder().target(BODY).key(SUPPORT_TEXT.getJsonPath()).type(STARTS_WITH).expected(SUPPORT_TEXT_PREFIX).build(),
+         Assertion.builder().target(BODY).key(USER_AVATAR_BY_INDEX.getJsonPath(0)).type(ENDS_WITH).expected(AVATAR_FILE_EXTENSION).build(),
+         Assertion.builder().target(BODY).key(USER_ID.getJsonPath(0)).type(NOT_NULL).expected(true).build(),
+         Assertion.builder().target(BODY).key(DATA.getJsonPath()).type(ALL_NOT_NULL).expected(true).build(),
+         Assertion.builder().target(BODY).key(DATA.getJsonPath()).type(NOT_EMPTY).expected(true).build(),
+         Assertion.builder().target(BODY).key(USER_FIRST_NAME.getJsonPath(0)).type(LENGTH).expected(USER_SEVENTH_FIRST_NAME_LENGTH).build(),
+         Assertion.builder().target(BODY).key(DATA.getJsonPath()).type(LENGTH).expected(PAGE_TWO_DATA_SIZE).build(),
+         Assertion.builder().target(BODY).key(SUPPORT_URL.getJsonPath()).type(MATCHES_REGEX).expected(SUPPORT_URL_REGEX).build(),
+         Assertion.builder().target(BODY).key(USER_FIRST_NAME.getJsonPath(0)).type(EQUALS_IGNORE_CASE).expected(USER_ONE_FIRST_NAME).build(),
+         Assertion.builder().target(BODY).key(TOTAL.getJsonPath()).type(BETWEEN).expected(TOTAL_USERS_IN_PAGE_RANGE).build(),
+         Assertion.builder().target(BODY).key(DATA.getJsonPath()).type(CONTAINS_ALL).expected(PAGE_TWO_EXPECTED_USERS).build(),
+         Assertion.builder().target(BODY).key(DATA.getJsonPath()).type(CONTAINS_ANY).expected(PAGE_TWO_CONTAINS_ANY_USER).build()
+   );
+
+   private final List<Assertion> assertions;
+   private final List<Assertion> bodyAssertions;
+   private final Assertion[] delegatedAssertions;
+
+   AssertionProfile(final Assertion... assertions) {
+      List<Assertion> body = new ArrayList<>();
+      List<Assertion> delegated = new ArrayList<>();
+      for (Assertion assertion : assertions) {
+         requireValid(assertion);
+         (assertion.getTarget() == BODY ? body : delegated).add(assertion);
+      }
+      this.assertions = List.of(assertions);
+      this.bodyAssertions = List.copyOf(body);
+      this.delegatedAssertions = delegated.toArray(Assertion[]::new);
+   }
+
+   /**
+    * Returns every assertion of the profile, in declaration order.
+    *
+    * @return the immutable assertion list.
+    */
+   public List<Assertion> assertions() {
+      return assertions;
+   }
+
+   /**
+    * Returns the body assertions, all accepted by {@link BodyAssertionEvaluator#supports(Assertion)}.
+    *
+    * @return the immutable body assertion list.
+    */
+   public List<Assertion> bodyAssertions() {
+      return bodyAssertions;
+   }
+
+   /**
+    * Returns the status and header assertions for the framework validator.
+    *
+    * @return a copy of the delegated assertions.
+    */
+   public Assertion[] delegatedAssertions() {
+      return delegatedAssertions.clone();
+   }
+
+   private void requireValid(Assertion assertion) {
+      if (assertion.getTarget() == null || assertion.getType() == null) {
+         throw new IllegalStateException(name() + ": assertion without target or type: " + assertion);
+      }
+      if (assertion.getTarget() == BODY && !BodyAssertionEvaluator.supports(assertion)) {
+         throw new IllegalStateException(String.format("%s: body assertion %s on '%s' cannot be evaluated in a single pass",
+               name(), assertion.getType(), assertion.getKey()));
+      }
+      if (assertion.getTarget() == HEADER && assertion.getKey() == null) {
+         throw new IllegalStateException(name() + ": header assertion without header name: " + assertion.getType());
+      }
+   }
+
+}
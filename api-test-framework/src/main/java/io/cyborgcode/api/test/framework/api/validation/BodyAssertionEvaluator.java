@@ -0,0 +1,179 @@
+package io.cyborgcode.api.test.framework.api.validation;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.cyborgcode.api.test.framework.api.extractors.JsonPointers;
+import io.cyborgcode.roa.validator.core.Assertion;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.assertj.core.api.SoftAssertions;
+
+import static io.cyborgcode.roa.api.validator.RestAssertionTarget.BODY;
+
+/**
+ * Evaluates many {@code BODY} assertions against a response with a single streaming pass.
+ * <p>
+ * All assertion keys are compiled to JSON pointers, the body is walked once with a Jackson
+ * streaming parser, and only the subtrees that are actually asserted on are materialized.
+ * Sibling fields that no assertion refers to are skipped without being parsed into objects,
+ * and the walk stops as soon as every requested value has been found. The extracted values are
+ * compared by the framework's assertion validators, as in {@code RING_OF_API}.
+ * <p>
+ * Soft assertions are reported to the supplied {@link SoftAssertions}; hard assertion failures
+ * are collected and raised together as a single {@link AssertionError} after the pass.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class BodyAssertionEvaluator {
+
+   private static final ObjectMapper MAPPER = new ObjectMapper();
+   private static final JsonFactory FACTORY = MAPPER.getFactory();
+
+   private BodyAssertionEvaluator() {
+   }
+
+   /**
+    * Returns whether the assertion can be evaluated by this evaluator.
+    *
+    * @param assertion assertion to check.
+    * @return {@code true} for {@code BODY} assertions with a key that compiles to a JSON pointer.
+    */
+   public static boolean supports(Assertion assertion) {
+      return assertion.getTarget() == BODY && JsonPointers.compile(assertion.getKey()).isPresent();
+   }
+
+   /**
+    * Evaluates the given body assertions against the raw response body.
+    *
+    * @param body           raw JSON response body.
+    * @param assertions     assertions accepted by {@link #supports(Assertion)}.
+    * @param softAssertions collector for soft assertion failures.
+    * @throws AssertionError if any hard assertion fails.
+    */
+   public static void evaluate(byte[] body, List<Assertion> assertions, SoftAssertions softAssertions) {
+      Set<JsonPointer> pointers = new LinkedHashSet<>();
+      for (Assertion assertion : assertions) {
+         pointers.add(JsonPointers.compileStrict(assertion.getKey()));
+      }
+      Map<JsonPointer, Object> values = extract(body, pointers);
+
+      List<String> failures = new ArrayList<>();
+      for (Assertion assertion : assertions) {
+         Object actual = values.get(JsonPointers.compileStrict(assertion.getKey()));
+         if (AssertionChecks.test(assertion, actual)) {
+            continue;
+         }
+         String message = AssertionChecks.failureMessage(assertion, actual);
+         if (assertion.isSoft()) {
+            softAssertions.fail(message);
+         } else {
+            failures.add(message);
+         }
+      }
+      if (!failures.isEmpty()) {
+         throw new AssertionError(String.join(System.lineSeparator(), failures));
+      }
+   }
+
+   /**
+    * Extracts the values at the given pointers with a single pass over the body.
+    * Pointers that do not resolve are mapped to {@code null}.
+    *
+    * @param body     raw JSON body.
+    * @param pointers pointers to resolve.
+    * @return the resolved values as plain Java objects (maps, lists, strings, numbers, booleans).
+    */
+   public static Map<JsonPointer, Object> extract(byte[] body, Collection<JsonPointer> pointers) {
+      Map<String, JsonPointer> wanted = new HashMap<>();
+      Set<String> prefixes = new HashSet<>();
+      for (JsonPointer pointer : pointers) {
+         String path = pointer.toString();
+         wanted.put(path, pointer);
+         for (int i = path.indexOf('/', 1); i > 0; i = path.indexOf('/', i + 1)) {
+            prefixes.add(path.substring(0, i));
+         }
+         prefixes.add("");
+      }
+
+      Map<JsonPointer, Object> values = new HashMap<>();
+      try (JsonParser parser = FACTORY.createParser(body)) {
+         if (parser.nextToken() != null) {
+            new Walk(parser, wanted, prefixes, values).visit("");
+         }
+      } catch (IOException e) {
+         throw new UncheckedIOException("Response body is not valid JSON", e);
+      }
+      return values;
+   }
+
+   private static final class Walk {
+
+      private final JsonParser parser;
+      private final Map<String, JsonPointer> wanted;
+      private final Set<String> prefixes;
+      private final Map<JsonPointer, Object> values;
+
+      private Walk(JsonParser parser, Map<String, JsonPointer> wanted, Set<String> prefixes,
+                   Map<JsonPointer, Object> values) {
+         this.parser = parser;
+         this.wanted = wanted;
+         this.prefixes = prefixes;
+         this.values = values;
+      }
+
+      private boolean done() {
+         return values.size() == wanted.size();
+      }
+
+      private void visit(String path) throws IOException {
+         JsonPointer pointer = wanted.get(path);
+         if (pointer != null) {
+            JsonNode node = MAPPER.readTree(parser);
+            values.put(pointer, MAPPER.treeToValue(node, Object.class));
+            resolveNested(path, node);
+            return;
+         }
+         if (!prefixes.contains(path)) {
+            parser.skipChildren();
+            return;
+         }
+         JsonToken token = parser.currentToken();
+         if (token == JsonToken.START_OBJECT) {
+            while (!done() && parser.nextToken() == JsonToken.FIELD_NAME) {
+               String field = parser.getCurrentName().replace("~", "~0").replace("/", "~1");
+               parser.nextToken();
+               visit(path + "/" + field);
+            }
+         } else if (token == JsonToken.START_ARRAY) {
+            int index = 0;
+            while (!done() && parser.nextToken() != JsonToken.END_ARRAY) {
+               visit(path + "/" + index++);
+            }
+         }
+      }
+
+      private void resolveNested(String path, JsonNode node) throws IOException {
+         for (Map.Entry<String, JsonPointer> entry : wanted.entrySet()) {
+            String nested = entry.getKey();
+            if (nested.length() > path.length() && nested.startsWith(path + "/")) {
+               JsonNode value = node.at(nested.substring(path.length()));
+               values.put(entry.getValue(), value.isMissingNode() ? null : MAPPER.treeToValue(value, Object.class));
+            }
+         }
+      }
+
+   }
+
+}
@@ -0,0 +1,101 @@
+package io.cyborgcode.api.test.framework.api.validation;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import io.cyborgcode.api.test.framework.api.extractors.JsonPointers;
+import io.cyborgcode.roa.validator.core.Assertion;
+import io.restassured.response.Response;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.assertj.core.api.SoftAssertions;
+
+import static io.cyborgcode.roa.api.validator.RestAssertionTarget.BODY;
+import static io.cyborgcode.roa.api.validator.RestAssertionTarget.HEADER;
+import static io.cyborgcode.roa.api.validator.RestAssertionTarget.STATUS;
+
+/**
+ * Evaluates status, header and body assertions against an already received {@link Response}.
+ * <p>
+ * Used where responses are collected first and validated later, outside of the per-request
+ * validation of {@code RING_OF_API}. Body keys that compile to JSON pointers are resolved together in
+ * a single pass via {@link BodyAssertionEvaluator#extract}; remaining body keys fall back to the
+ * RestAssured JSON path of the response. The values are compared by the framework's assertion
+ * validators, as in {@code RING_OF_API}.
+ * <p>
+ * Soft assertion failures go to the supplied {@link SoftAssertions}; hard failures are returned so
+ * the caller can report them together with failures of other responses.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class ResponseAssertions {
+
+   private ResponseAssertions() {
+   }
+
+   /**
+    * Returns whether the assertion can be evaluated by {@link #evaluate}.
+    *
+    * @param assertion assertion to check.
+    * @return {@code true} for status, header and body assertions.
+    */
+   public static boolean supports(Assertion assertion) {
+      return assertion.getTarget() == STATUS || assertion.getTarget() == HEADER || assertion.getTarget() == BODY;
+   }
+
+   /**
+    * Evaluates the assertions against the response.
+    *
+    * @param label          prefix identifying the response in failure messages (e.g. the endpoint).
+    * @param response       response to validate.
+    * @param assertions     assertions accepted by {@link #supports(Assertion)}.
+    * @param softAssertions collector for soft assertion failures.
+    * @return messages of the failed hard assertions, empty when all passed.
+    */
+   public static List<String> evaluate(String label, Response response, List<Assertion> assertions,
+                                       SoftAssertions softAssertions) {
+      Map<JsonPointer, Object> body = extractBody(response, assertions);
+      List<String> failures = new ArrayList<>();
+      for (Assertion assertion : assertions) {
+         Object actual = actual(response, body, assertion);
+         if (AssertionChecks.test(assertion, actual)) {
+            continue;
+         }
+         String message = label + " " + AssertionChecks.failureMessage(assertion, actual);
+         if (assertion.isSoft()) {
+            softAssertions.fail(message);
+         } else {
+            failures.add(message);
+         }
+      }
+      return failures;
+   }
+
+   private static Map<JsonPointer, Object> extractBody(Response response, List<Assertion> assertions) {
+      Set<JsonPointer> pointers = new LinkedHashSet<>();
+      for (Assertion assertion : assertions) {
+         if (assertion.getTarget() == BODY) {
+            JsonPointers.compile(assertion.getKey()).ifPresent(pointers::add);
+         }
+      }
+      return pointers.isEmpty()
+            ? Map.of()
+            : BodyAssertionEvaluator.extract(response.getBody().asByteArray(), pointers);
+   }
+
+   private static Object actual(Response response, Map<JsonPointer, Object> body, Assertion assertion) {
+      if (assertion.getTarget() == STATUS) {
+         return response.getStatusCode();
+      }
+      if (assertion.getTarget() == HEADER) {
+         return response.getHeader(assertion.getKey());
+      }
+      Optional<JsonPointer> pointer = JsonPointers.compile(assertion.getKey());
+      return pointer.isPresent()
+            ? body.get(pointer.get())
+            : response.jsonPath().get(assertion.getKey());
+   }
+
+}
@@ -2,6 +2,7 @@ package io.cyborgcode.api.test.framework.base;
 
 import io.cyborgcode.api.test.framework.service.CustomService;
 import io.cyborgcode.api.test.framework.service.EvolutionService;
+import io.cyborgcode.api.test.framework.service.PerformanceService;
 import io.cyborgcode.roa.api.service.fluent.RestServiceFluent;
 import io.cyborgcode.roa.framework.quest.Quest;
 import lombok.experimental.UtilityClass;
@@ -16,6 +17,7 @@ import lombok.experimental.UtilityClass;
  *   <li>Use the default REST fluent API ({@link #RING_OF_API})</li>
  *   <li>Delegate to a custom higher-level service with reusable flows ({@link #RING_OF_CUSTOM})</li>
  *   <li>Demonstrate evolutionary patterns and advanced composition ({@link #RING_OF_EVOLUTION})</li>
+ *   <li>Run throughput-oriented variants of the REST steps ({@link #RING_OF_PERFORMANCE})</li>
  * </ul>
  * This indirection keeps test code expressive while cleanly separating concerns between low-level HTTP,
  * shared domain-specific actions, and tutorial/evolution scenarios.
@@ -28,5 +30,6 @@ public class Rings {
    public static final Class<RestServiceFluent> RING_OF_API = RestServiceFluent.class;
    public static final Class<CustomService> RING_OF_CUSTOM = CustomService.class;
    public static final Class<EvolutionService> RING_OF_EVOLUTION = EvolutionService.class;
+   public static final Class<PerformanceService> RING_OF_PERFORMANCE = PerformanceService.class;
 
 }
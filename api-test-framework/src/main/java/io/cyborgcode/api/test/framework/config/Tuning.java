@@ -0,0 +1,25 @@
+package io.cyborgcode.api.test.framework.config;
+
+import org.aeonbits.owner.ConfigCache;
+
+/**
+ * Convenience accessor for the suite tuning configuration.
+ * <p>
+ * Returns the singleton {@link TuningProperties} instance cached by the OWNER library's
+ * {@link ConfigCache}, so the environment file is read once per run.
+ * <pre>{@code
+ * long ttl = Tuning.config().authTokenTtlSeconds();
+ * }</pre>
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class Tuning {
+
+   private Tuning() {
+   }
+
+   public static TuningProperties config() {
+      return ConfigCache.getOrCreate(TuningProperties.class);
+   }
+
+}
@@ -0,0 +1,170 @@
+package io.cyborgcode.api.test.framework.config;
+
+import io.cyborgcode.api.test.framework.api.cassette.Cassette;
+import io.cyborgcode.api.test.framework.api.logging.AsyncLoggingFilter;
+import io.cyborgcode.utilities.config.PropertyConfig;
+import org.aeonbits.owner.Config;
+
+/**
+ * Runtime tuning options for the API example suite.
+ * <p>
+ * Backed by the Owner library and {@link PropertyConfig}, it reads the same environment file as
+ * the ROA API adapter ({@code api.config.file}.properties on the classpath), with system properties
+ * taking precedence. Every option has a default, so environment files only need to list the values
+ * they want to change.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+@Config.LoadPolicy(Config.LoadType.MERGE)
+@Config.Sources({"system:properties", "classpath:${api.config.file}.properties"})
+public interface TuningProperties extends PropertyConfig {
+
+   @Key("api.auth.token.ttl.seconds")
+   @DefaultValue("600")
+   long authTokenTtlSeconds();
+
+   @Key("api.auth.token.refresh.ahead.seconds")
+   @DefaultValue("60")
+   long authTokenRefreshAheadSeconds();
+
+   @Key("api.hooks.failure.ttl.seconds")
+   @DefaultValue("30")
+   long hookFailureTtlSeconds();
+
+   @Key("api.http.pool.enabled")
+   @DefaultValue("false")
+   boolean httpPoolEnabled();
+
+   @Key("api.http.pool.max.total")
+   @DefaultValue("64")
+   int httpPoolMaxTotal();
+
+   @Key("api.http.pool.max.per.route")
+   @DefaultValue("32")
+   int httpPoolMaxPerRoute();
+
+   @Key("api.http.pool.keep.alive.seconds")
+   @DefaultValue("30")
+   long httpPoolKeepAliveSeconds();
+
+   @Key("api.http.pool.idle.timeout.seconds")
+   @DefaultValue("30")
+   long httpPoolIdleTimeoutSeconds();
+
+   @Key("api.http.pool.eviction.interval.seconds")
+   @DefaultValue("5")
+   long httpPoolEvictionIntervalSeconds();
+
+   @Key("api.fanout.parallelism")
+   @DefaultValue("8")
+   int fanOutParallelism();
+
+   @Key("api.retention.budget.bytes")
+   @DefaultValue("8388608")
+   long retentionBudgetBytes();
+
+   @Key("api.retention.spill.threshold.bytes")
+   @DefaultValue("262144")
+   long retentionSpillThresholdBytes();
+
+   @Key("api.retention.spill.budget.bytes")
+   @DefaultValue("67108864")
+   long retentionSpillBudgetBytes();
+
+   @Key("api.logging.async.enabled")
+   @DefaultValue("false")
+   boolean loggingAsyncEnabled();
+
+   @Key("api.logging.async.capacity")
+   @DefaultValue("4096")
+   int loggingAsyncCapacity();
+
+   @Key("api.logging.async.max.body.bytes")
+   @DefaultValue("4096")
+   int loggingAsyncMaxBodyBytes();
+
+   @Key("api.logging.async.overflow")
+   @DefaultValue("DROP")
+   AsyncLoggingFilter.Overflow loggingAsyncOverflow();
+
+   @Key("api.pool.users.size")
+   @DefaultValue("8")
+   int poolUsersSize();
+
+   @Key("api.pool.users.low.water.mark")
+   @DefaultValue("3")
+   int poolUsersLowWaterMark();
+
+   @Key("api.pool.users.lease.timeout.seconds")
+   @DefaultValue("30")
+   long poolUsersLeaseTimeoutSeconds();
+
+   @Key("api.pool.refill.threads")
+   @DefaultValue("2")
+   int poolRefillThreads();
+
+   @Key("api.pool.drain.timeout.seconds")
+   @DefaultValue("30")
+   long poolDrainTimeoutSeconds();
+
+   @Key("api.retry.poller.threads")
+   @DefaultValue("2")
+   int retryPollerThreads();
+
+   @Key("api.metrics.latency.enabled")
+   @DefaultValue("true")
+   boolean metricsLatencyEnabled();
+
+   @Key("api.metrics.latency.report.file")
+   @DefaultValue("target/latency-report.json")
+   String metricsLatencyReportFile();
+
+   @Key("api.cache.enabled")
+   @DefaultValue("false")
+   boolean cacheEnabled();
+
+   @Key("api.cache.max.entries")
+   @DefaultValue("256")
+   int cacheMaxEntries();
+
+   @Key("api.cache.max.bytes")
+   @DefaultValue("4194304")
+   long cacheMaxBytes();
+
+   @Key("api.load.users")
+   @DefaultValue("4")
+   int loadUsers();
+
+   @Key("api.load.target.rps")
+   @DefaultValue("20")
+   double loadTargetRps();
+
+   @Key("api.load.ramp.up.seconds")
+   @DefaultValue("1")
+   long loadRampUpSeconds();
+
+   @Key("api.load.duration.seconds")
+   @DefaultValue("3")
+   long loadDurationSeconds();
+
+   @Key("api.load.report.dir")
+   @DefaultValue("target")
+   String loadReportDir();
+
+   @Key("api.coalescing.enabled")
+   @DefaultValue("false")
+   boolean coalescingEnabled();
+
+   @Key("api.cassette.mode")
+   @DefaultValue("OFF")
+   Cassette.Mode cassetteMode();
+
+   @Key("api.cassette.file")
+   @DefaultValue("target/api.cassette")
+   String cassetteFile();
+
+   @Key("api.cassette.matching")
+   @DefaultValue("STRICT")
+   Cassette.Matching cassetteMatching();
+
+}
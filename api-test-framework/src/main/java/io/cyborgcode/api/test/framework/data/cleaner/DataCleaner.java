@@ -13,6 +13,8 @@ import java.util.function.Consumer;
  * </p>
  * <ul>
  *   <li>{@link #DELETE_ADMIN_USER} — removes the admin user created during tests.</li>
+ *   <li>{@link #RETURN_POOLED_USERS} — hands users leased from the user pool back for reuse.</li>
+ *   <li>{@link #DESTROY_POOLED_USERS} — deletes users leased from the user pool; the pool replaces them.</li>
  * </ul>
  * <p>
  * The nested {@link Data} class provides string constants for annotation-based references.
@@ -22,7 +24,9 @@ import java.util.function.Consumer;
  */
 public enum DataCleaner implements DataRipper<DataCleaner> {
 
-   DELETE_ADMIN_USER(DataCleanerFunctions::deleteAdminUser);
+   DELETE_ADMIN_USER(DataCleanerFunctions::deleteAdminUser),
+   RETURN_POOLED_USERS(DataCleanerFunctions::returnPooledUsers),
+   DESTROY_POOLED_USERS(DataCleanerFunctions::destroyPooledUsers);
 
    public static final class Data {
 
@@ -30,6 +34,8 @@ public enum DataCleaner implements DataRipper<DataCleaner> {
       }
 
       public static final String DELETE_ADMIN_USER = "DELETE_ADMIN_USER";
+      public static final String RETURN_POOLED_USERS = "RETURN_POOLED_USERS";
+      public static final String DESTROY_POOLED_USERS = "DESTROY_POOLED_USERS";
 
    }
 
@@ -1,8 +1,12 @@
 package io.cyborgcode.api.test.framework.data.cleaner;
 
+import io.cyborgcode.api.test.framework.data.pool.UserPool;
+import io.cyborgcode.roa.api.service.RestService;
 import io.cyborgcode.roa.framework.parameters.DataRipper;
 import io.cyborgcode.roa.framework.quest.SuperQuest;
 import io.cyborgcode.roa.validator.core.Assertion;
+import io.cyborgcode.test.support.AsyncCleanup;
+import io.restassured.response.Response;
 
 import static io.cyborgcode.api.test.framework.api.AppEndpoints.DELETE_USER;
 import static io.cyborgcode.api.test.framework.base.Rings.RING_OF_API;
@@ -20,6 +24,9 @@ import static org.apache.http.HttpStatus.SC_NO_CONTENT;
  * {@code @Ripper}/{@link DataRipper}
  * mechanism via a {@link SuperQuest}, encapsulating teardown logic
  * (such as test data deletion) outside of individual test methods.
+ * <p>
+ * With {@code cleanup.async=true} the deletions are handed to {@link AsyncCleanup} and run in the
+ * background; everything the deletion needs is captured from the quest on the test thread first.
  *
  * @author Cyborg Code Syndicate 💍👨💻
  */
@@ -29,6 +36,12 @@ public final class DataCleanerFunctions {
    }
 
    public static void deleteAdminUser(SuperQuest quest) {
+      if (AsyncCleanup.enabled()) {
+         RestService restService = quest.artifact(RING_OF_API, RestService.class);
+         AsyncCleanup.submit(DataCleaner.Data.DELETE_ADMIN_USER,
+               () -> expectStatus(restService.request(DELETE_USER.withPathParam(ID_PARAM, ID_THREE)), SC_NO_CONTENT));
+         return;
+      }
       quest.use(RING_OF_API)
             .requestAndValidate(
                   DELETE_USER.withPathParam(ID_PARAM, ID_THREE),
@@ -36,4 +49,19 @@ public final class DataCleanerFunctions {
             );
    }
 
+   public static void returnPooledUsers(SuperQuest quest) {
+      UserPool.returnAll(quest);
+   }
+
+   public static void destroyPooledUsers(SuperQuest quest) {
+      UserPool.destroyAll(quest);
+   }
+
+   private static void expectStatus(Response response, int expected) {
+      if (response.getStatusCode() != expected) {
+         throw new IllegalStateException(
+               "Expected status " + expected + " but was " + response.getStatusCode());
+      }
+   }
+
 }
@@ -0,0 +1,20 @@
+package io.cyborgcode.api.test.framework.data.creator;
+
+/**
+ * How long a {@link DataCreator} model is reused once it has been built.
+ * <ul>
+ *   <li>{@link #TEST} – built for every injection, the default,</li>
+ *   <li>{@link #CLASS} – built once per test class and shared by its tests,</li>
+ *   <li>{@link #SUITE} – built once for the whole run and shared by every test and worker thread.</li>
+ * </ul>
+ * Shared models are read-only; use {@link ModelCache#mutableCopy(Object)} for a private copy.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public enum CacheScope {
+
+   TEST,
+   CLASS,
+   SUITE
+
+}
@@ -17,16 +17,21 @@ import io.cyborgcode.roa.framework.parameters.Late;
  *    <li>allows data to be generated lazily and context-aware,</li>
  *    <li>provides a stable, string-based contract via {@link Data} for annotations.</li>
  * </ul>
+ * An entry may declare a {@link CacheScope}: models that are expensive to build but do not depend
+ * on the individual test are then built once per class or run and shared read-only through
+ * {@link ModelCache}. Models derived from a test's own arguments, journey data or stored responses
+ * stay test-scoped, or class-scoped where every test of the class provides the same context.
  *
  * @author Cyborg Code Syndicate 💍👨💻
  */
 public enum DataCreator implements DataForge<DataCreator> {
 
-   USER_LEADER(DataCreatorFunctions::leaderUser),
-   LOGIN_ADMIN_USER(DataCreatorFunctions::loginAdminUser),
+   USER_LEADER(DataCreatorFunctions::leaderUser, CacheScope.SUITE),
+   LOGIN_ADMIN_USER(DataCreatorFunctions::loginAdminUser, CacheScope.SUITE),
    USER_JUNIOR(DataCreatorFunctions::juniorUser),
    USER_SENIOR(DataCreatorFunctions::seniorUser),
-   USER_INTERMEDIATE(DataCreatorFunctions::intermediateUser);
+   USER_INTERMEDIATE(DataCreatorFunctions::intermediateUser),
+   POOLED_USER(DataCreatorFunctions::pooledUser);
 
    public static final class Data {
 
@@ -38,13 +43,20 @@ public enum DataCreator implements DataForge<DataCreator> {
       public static final String USER_JUNIOR = "USER_JUNIOR";
       public static final String USER_SENIOR = "USER_SENIOR";
       public static final String USER_INTERMEDIATE = "USER_INTERMEDIATE";
+      public static final String POOLED_USER = "POOLED_USER";
 
    }
 
    private final Late<Object> createDataFunction;
 
    DataCreator(final Late<Object> createDataFunction) {
-      this.createDataFunction = createDataFunction;
+      this(createDataFunction, CacheScope.TEST);
+   }
+
+   DataCreator(final Late<Object> createDataFunction, final CacheScope scope) {
+      this.createDataFunction = scope == CacheScope.TEST
+            ? createDataFunction
+            : () -> ModelCache.get(this, scope, createDataFunction);
    }
 
    @Override
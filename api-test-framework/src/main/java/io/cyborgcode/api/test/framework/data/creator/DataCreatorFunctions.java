@@ -2,15 +2,16 @@ package io.cyborgcode.api.test.framework.data.creator;
 
 import io.cyborgcode.api.test.framework.api.dto.request.CreateUserDto;
 import io.cyborgcode.api.test.framework.api.dto.request.LoginDto;
+import io.cyborgcode.api.test.framework.api.dto.response.CreatedUserDto;
 import io.cyborgcode.api.test.framework.api.dto.response.GetUsersDto;
 import io.cyborgcode.api.test.framework.api.dto.response.UserData;
+import io.cyborgcode.api.test.framework.api.storage.ResponseViews;
 import io.cyborgcode.api.test.framework.data.constants.TestConstants;
+import io.cyborgcode.api.test.framework.data.pool.UserPool;
 import io.cyborgcode.api.test.framework.data.test_data.Data;
-import io.cyborgcode.roa.api.storage.StorageKeysApi;
 import io.cyborgcode.roa.framework.quest.QuestHolder;
 import io.cyborgcode.roa.framework.quest.SuperQuest;
 import io.cyborgcode.roa.framework.storage.StorageKeysTest;
-import io.restassured.response.Response;
 
 import static io.cyborgcode.api.test.framework.api.AppEndpoints.GET_ALL_USERS;
 import static io.cyborgcode.api.test.framework.base.Rings.RING_OF_API;
@@ -78,6 +79,14 @@ public final class DataCreatorFunctions {
             .build();
    }
 
+   /**
+    * Leases an already created user from the {@link UserPool}. Pair with the
+    * {@code RETURN_POOLED_USERS} or {@code DESTROY_POOLED_USERS} ripper.
+    */
+   public static CreatedUserDto pooledUser() {
+      return UserPool.lease(QuestHolder.get());
+   }
+
    private static UserData firstUserFromGetAllUsersOrFetch(SuperQuest quest) {
       try {
          return extractFirstUserFromGetAllUsers(quest);
@@ -99,11 +108,7 @@ public final class DataCreatorFunctions {
    }
 
    private static UserData extractFirstUserFromGetAllUsers(SuperQuest quest) {
-      return quest.getStorage()
-            .sub(StorageKeysApi.API)
-            .get(GET_ALL_USERS, Response.class)
-            .getBody()
-            .as(GetUsersDto.class)
+      return ResponseViews.retrieve(quest, GET_ALL_USERS, GetUsersDto.class)
             .getData()
             .get(0);
    }
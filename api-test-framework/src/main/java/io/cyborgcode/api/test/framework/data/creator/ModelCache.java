@@ -0,0 +1,93 @@
+package io.cyborgcode.api.test.framework.data.creator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.cyborgcode.roa.framework.parameters.Late;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shared instances of {@link DataCreator} models declared with a {@link CacheScope} wider than a test.
+ * <p>
+ * The first test that needs a {@link CacheScope#SUITE} or {@link CacheScope#CLASS} model builds it
+ * (with its own quest as context); concurrent tests needing the same model wait for that single
+ * build instead of repeating it. A failed build is not cached, so the next test tries again.
+ * Class-scoped models are keyed by the running test class, published by {@link ModelScopeExtension},
+ * and released after the class has finished; without that context they are built per test.
+ * <p>
+ * Shared models must not be modified. Tests that need to change a model take a
+ * {@link #mutableCopy(Object)}.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class ModelCache {
+
+   private static final ObjectMapper MAPPER = new ObjectMapper();
+   private static final ModelCache SUITE = new ModelCache();
+   private static final Map<Class<?>, ModelCache> CLASSES = new ConcurrentHashMap<>();
+   private static final ThreadLocal<Class<?>> TEST_CLASS = new ThreadLocal<>();
+
+   private final Map<Object, CompletableFuture<Object>> models = new ConcurrentHashMap<>();
+
+   ModelCache() {
+   }
+
+   /**
+    * Returns a deep copy of a (shared) model that the caller may modify freely.
+    *
+    * @param model model to copy.
+    * @return an independent copy of the same type.
+    */
+   @SuppressWarnings("unchecked")
+   public static <T> T mutableCopy(T model) {
+      return model == null ? null : (T) MAPPER.convertValue(model, model.getClass());
+   }
+
+   static Object get(DataCreator model, CacheScope scope, Late<Object> factory) {
+      return switch (scope) {
+         case SUITE -> SUITE.shared(model, factory);
+         case CLASS -> {
+            Class<?> testClass = TEST_CLASS.get();
+            yield testClass == null
+                  ? factory.create()
+                  : CLASSES.computeIfAbsent(testClass, key -> new ModelCache()).shared(model, factory);
+         }
+         default -> factory.create();
+      };
+   }
+
+   static void enterTest(Class<?> testClass) {
+      TEST_CLASS.set(testClass);
+   }
+
+   static void exitTest() {
+      TEST_CLASS.remove();
+   }
+
+   static void releaseClass(Class<?> testClass) {
+      CLASSES.remove(testClass);
+   }
+
+   Object shared(Object key, Late<Object> factory) {
+      CompletableFuture<Object> created = new CompletableFuture<>();
+      CompletableFuture<Object> existing = models.putIfAbsent(key, created);
+      if (existing == null) {
+         try {
+            created.complete(factory.create());
+         } catch (Throwable e) {
+            models.remove(key, created);
+            created.completeExceptionally(e);
+            throw e;
+         }
+         return created.join();
+      }
+      try {
+         return existing.join();
+      } catch (CompletionException e) {
+         throw new IllegalStateException("Shared model " + key + " failed to build in a concurrent test",
+               e.getCause());
+      }
+   }
+
+}
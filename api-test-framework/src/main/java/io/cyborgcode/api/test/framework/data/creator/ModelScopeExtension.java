@@ -0,0 +1,35 @@
+package io.cyborgcode.api.test.framework.data.creator;
+
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * JUnit extension that tells {@link ModelCache} which test class is running, so
+ * {@link CacheScope#CLASS} models are shared within a class and released after it.
+ * <p>
+ * Registered through JUnit extension auto-detection
+ * ({@code META-INF/services/org.junit.jupiter.api.extension.Extension} and
+ * {@code junit.jupiter.extensions.autodetection.enabled=true} in {@code junit-platform.properties}).
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public class ModelScopeExtension implements BeforeEachCallback, AfterEachCallback, AfterAllCallback {
+
+   @Override
+   public void beforeEach(ExtensionContext context) {
+      ModelCache.enterTest(context.getRequiredTestClass());
+   }
+
+   @Override
+   public void afterEach(ExtensionContext context) {
+      ModelCache.exitTest();
+   }
+
+   @Override
+   public void afterAll(ExtensionContext context) {
+      ModelCache.releaseClass(context.getRequiredTestClass());
+   }
+
+}
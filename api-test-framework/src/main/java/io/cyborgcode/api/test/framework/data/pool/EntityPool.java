@@ -0,0 +1,269 @@
+package io.cyborgcode.api.test.framework.data.pool;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Pool of pre-created server-side entities, refilled in the background.
+ * <p>
+ * Whenever the number of available (plus in-flight) entities drops to the low-water mark, creation
+ * of entities up to the target size is scheduled on the pool's refill threads, so a lease normally
+ * takes an entity that already exists instead of creating one on the test thread. When the pool is
+ * empty, {@link #lease(Duration)} waits for the next entity to be created, up to the given timeout.
+ * <p>
+ * Leased entities are either {@link #release(Object) returned} for reuse or {@link #destroy(Object)
+ * destroyed}; destruction also runs on the refill threads. Wait times and refill throughput are
+ * available via {@link #metrics()}.
+ * <p>
+ * {@link #shutdown(Duration)} stops refilling and destroys every entity the pool still knows of:
+ * available ones, ones still being created and leased ones that were never returned.
+ *
+ * @param <T> entity type.
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class EntityPool<T> {
+
+   private static final Logger LOGGER = LogManager.getLogger(EntityPool.class);
+
+   private final String name;
+   private final int size;
+   private final int lowWaterMark;
+   private final Supplier<T> creator;
+   private final Consumer<T> destroyer;
+   private final ExecutorService refillers;
+   private final BlockingQueue<T> available = new LinkedBlockingQueue<>();
+   private final Set<T> leased = ConcurrentHashMap.newKeySet();
+   private final AtomicInteger inFlight = new AtomicInteger();
+   private final LongAdder leases = new LongAdder();
+   private final LongAdder waitNanos = new LongAdder();
+   private final AtomicLong maxWaitNanos = new AtomicLong();
+   private final LongAdder created = new LongAdder();
+   private final LongAdder createFailures = new LongAdder();
+   private final LongAdder createNanos = new LongAdder();
+   private final LongAdder destroyed = new LongAdder();
+   private boolean closed;
+
+   /**
+    * Creates the pool and starts filling it.
+    *
+    * @param name           name used for threads and logs.
+    * @param size           number of entities the pool fills up to.
+    * @param lowWaterMark   available entity count at or below which a refill starts.
+    * @param refillThreads  number of threads creating and destroying entities.
+    * @param creator        creates one entity; may throw to signal a failed creation.
+    * @param destroyer      destroys one entity.
+    */
+   public EntityPool(String name, int size, int lowWaterMark, int refillThreads,
+                     Supplier<T> creator, Consumer<T> destroyer) {
+      this.name = name;
+      this.size = size;
+      this.lowWaterMark = Math.min(lowWaterMark, size - 1);
+      this.creator = creator;
+      this.destroyer = destroyer;
+      AtomicInteger threadIndex = new AtomicInteger();
+      this.refillers = Executors.newFixedThreadPool(refillThreads, runnable -> {
+         Thread thread = new Thread(runnable, name + "-pool-" + threadIndex.incrementAndGet());
+         thread.setDaemon(true);
+         return thread;
+      });
+      refill();
+   }
+
+   /**
+    * Takes an entity out of the pool, waiting for one to be created if none is available.
+    *
+    * @param timeout maximum time to wait.
+    * @return the leased entity.
+    * @throws IllegalStateException when no entity became available in time.
+    */
+   public T lease(Duration timeout) {
+      long start = System.nanoTime();
+      T entity = available.poll();
+      if (entity == null) {
+         refill();
+         try {
+            entity = available.poll(timeout.toNanos(), TimeUnit.NANOSECONDS);
+         } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+         }
+      }
+      long waited = System.nanoTime() - start;
+      waitNanos.add(waited);
+      maxWaitNanos.accumulateAndGet(waited, Math::max);
+      refill();
+      if (entity == null) {
+         throw new IllegalStateException(String.format("No %s available in the pool within %s (%s)",
+               name, timeout, metrics()));
+      }
+      synchronized (this) {
+         if (!closed) {
+            leased.add(entity);
+            leases.increment();
+            return entity;
+         }
+      }
+      destroyInBackground(entity);
+      throw new IllegalStateException("The " + name + " pool has been shut down");
+   }
+
+   /**
+    * Returns a leased entity that is still usable to the pool. Entities beyond the pool size are destroyed.
+    *
+    * @param entity entity to return.
+    */
+   public void release(T entity) {
+      synchronized (this) {
+         leased.remove(entity);
+         if (!closed && available.size() + inFlight.get() < size) {
+            available.offer(entity);
+            return;
+         }
+      }
+      destroyInBackground(entity);
+   }
+
+   /**
+    * Destroys a leased entity in the background and refills the pool if needed.
+    *
+    * @param entity entity to destroy.
+    */
+   public void destroy(T entity) {
+      leased.remove(entity);
+      destroyInBackground(entity);
+      refill();
+   }
+
+   /**
+    * Stops refilling and destroys the available, in-flight and still leased entities, waiting up to
+    * the timeout for the destruction to finish. Entities released afterwards are destroyed as well.
+    *
+    * @param timeout maximum time to wait for outstanding creations and destructions.
+    */
+   public void shutdown(Duration timeout) {
+      List<T> remaining = new ArrayList<>();
+      synchronized (this) {
+         if (closed) {
+            return;
+         }
+         closed = true;
+         available.drainTo(remaining);
+         remaining.addAll(leased);
+         leased.clear();
+      }
+      remaining.forEach(this::destroyInBackground);
+      refillers.shutdown();
+      try {
+         if (!refillers.awaitTermination(timeout.toNanos(), TimeUnit.NANOSECONDS)) {
+            LOGGER.warn("The {} pool did not finish destroying its entities within {} ({})", name, timeout, metrics());
+         }
+      } catch (InterruptedException e) {
+         Thread.currentThread().interrupt();
+      }
+   }
+
+   /**
+    * Returns a snapshot of the pool metrics.
+    *
+    * @return the current metrics.
+    */
+   public Metrics metrics() {
+      long leaseCount = leases.sum();
+      long createdCount = created.sum();
+      long creationNanos = createNanos.sum();
+      return new Metrics(
+            available.size(),
+            inFlight.get(),
+            leaseCount,
+            leaseCount == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(waitNanos.sum() / leaseCount),
+            TimeUnit.NANOSECONDS.toMillis(maxWaitNanos.get()),
+            createdCount,
+            createFailures.sum(),
+            destroyed.sum(),
+            creationNanos == 0 ? 0 : createdCount * TimeUnit.SECONDS.toNanos(1) / (double) creationNanos);
+   }
+
+   private synchronized void refill() {
+      int pending = available.size() + inFlight.get();
+      if (closed || pending > lowWaterMark) {
+         return;
+      }
+      for (int i = pending; i < size; i++) {
+         inFlight.incrementAndGet();
+         refillers.execute(this::createOne);
+      }
+   }
+
+   private void createOne() {
+      long start = System.nanoTime();
+      T entity;
+      try {
+         entity = creator.get();
+         created.increment();
+         createNanos.add(System.nanoTime() - start);
+      } catch (RuntimeException e) {
+         createFailures.increment();
+         LOGGER.warn("Failed to create pooled {}: {}", name, e.toString());
+         inFlight.decrementAndGet();
+         return;
+      }
+      synchronized (this) {
+         inFlight.decrementAndGet();
+         if (!closed) {
+            available.offer(entity);
+            return;
+         }
+      }
+      destroyNow(entity);
+   }
+
+   private void destroyInBackground(T entity) {
+      try {
+         refillers.execute(() -> destroyNow(entity));
+      } catch (RejectedExecutionException e) {
+         destroyNow(entity);
+      }
+   }
+
+   private void destroyNow(T entity) {
+      try {
+         destroyer.accept(entity);
+         destroyed.increment();
+      } catch (RuntimeException e) {
+         LOGGER.warn("Failed to destroy pooled {}: {}", name, e.toString());
+      }
+   }
+
+   /**
+    * Usage snapshot of a pool.
+    *
+    * @param available          entities ready to be leased.
+    * @param inFlight           entities being created.
+    * @param leases             successful leases so far.
+    * @param averageWaitMillis  average time a lease waited.
+    * @param maxWaitMillis      longest time a lease waited.
+    * @param created            entities created.
+    * @param createFailures     failed creations.
+    * @param destroyed          entities destroyed.
+    * @param refillPerSecond    entities created per second of refill work, per refill thread.
+    */
+   public record Metrics(int available, int inFlight, long leases, long averageWaitMillis, long maxWaitMillis,
+                         long created, long createFailures, long destroyed, double refillPerSecond) {
+   }
+
+}
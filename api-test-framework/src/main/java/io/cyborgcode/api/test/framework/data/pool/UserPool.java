@@ -0,0 +1,165 @@
+package io.cyborgcode.api.test.framework.data.pool;
+
+import io.cyborgcode.api.test.framework.api.dto.request.CreateUserDto;
+import io.cyborgcode.api.test.framework.api.dto.response.CreatedUserDto;
+import io.cyborgcode.api.test.framework.config.Tuning;
+import io.cyborgcode.api.test.framework.config.TuningProperties;
+import io.cyborgcode.api.test.framework.api.AppEndpoints;
+import io.cyborgcode.roa.api.storage.StorageKeysApi;
+import io.cyborgcode.roa.framework.quest.SuperQuest;
+import io.cyborgcode.test.support.RunLifecycle;
+import io.restassured.response.Response;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import static io.cyborgcode.api.test.framework.api.AppEndpoints.DELETE_USER;
+import static io.cyborgcode.api.test.framework.api.AppEndpoints.POST_CREATE_USER;
+import static io.cyborgcode.api.test.framework.data.constants.PathVariables.ID_PARAM;
+import static io.cyborgcode.api.test.framework.data.constants.TestConstants.Roles.USER_LEADER_JOB;
+import static io.cyborgcode.api.test.framework.data.constants.TestConstants.Roles.USER_LEADER_NAME;
+import static org.apache.http.HttpStatus.SC_CREATED;
+import static org.apache.http.HttpStatus.SC_NO_CONTENT;
+
+/**
+ * Suite-wide {@link EntityPool} of users created through {@code POST_CREATE_USER}.
+ * <p>
+ * The pool is started by the {@code WARM_USER_POOL} hook or the first lease and kept filled in the
+ * background. Pool traffic does not belong to any test, so it is sent straight from the endpoint's
+ * {@link AppEndpoints#defaultConfiguration() default configuration} instead of through a quest's
+ * {@code RestService}; refills keep working after the quest that triggered them has finished.
+ * Tests lease a user through the {@code POOLED_USER} craft; the leases of a quest are remembered so
+ * the {@code RETURN_POOLED_USERS} or {@code DESTROY_POOLED_USERS} ripper can hand them back or
+ * delete them.
+ * <p>
+ * Sized by {@code api.pool.users.size}, {@code api.pool.users.low.water.mark},
+ * {@code api.pool.refill.threads} and {@code api.pool.users.lease.timeout.seconds}. At the end of
+ * the run every user still pooled or leased is deleted, waiting up to
+ * {@code api.pool.drain.timeout.seconds}, and the metrics are logged.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class UserPool {
+
+   private static final Logger LOGGER = LogManager.getLogger(UserPool.class);
+   private static final AtomicInteger SEQUENCE = new AtomicInteger();
+   private static volatile EntityPool<CreatedUserDto> pool;
+
+   private UserPool() {
+   }
+
+   /**
+    * Starts the pool if it is not running yet.
+    */
+   public static void start() {
+      if (pool != null) {
+         return;
+      }
+      synchronized (UserPool.class) {
+         if (pool == null) {
+            TuningProperties tuning = Tuning.config();
+            EntityPool<CreatedUserDto> started = new EntityPool<>("user", tuning.poolUsersSize(),
+                  tuning.poolUsersLowWaterMark(), tuning.poolRefillThreads(), UserPool::create, UserPool::delete);
+            RunLifecycle.onShutdown("user pool drain", () -> {
+               started.shutdown(Duration.ofSeconds(tuning.poolDrainTimeoutSeconds()));
+               LOGGER.info("User pool: {}", started.metrics());
+            });
+            pool = started;
+         }
+      }
+   }
+
+   /**
+    * Leases a user for the quest and remembers the lease for the pool rippers.
+    *
+    * @param quest leasing quest.
+    * @return the leased user, shared with nobody until it is returned.
+    */
+   public static CreatedUserDto lease(SuperQuest quest) {
+      start();
+      CreatedUserDto user = pool.lease(Duration.ofSeconds(Tuning.config().poolUsersLeaseTimeoutSeconds()));
+      leases(quest).add(user);
+      return user;
+   }
+
+   /**
+    * Returns every user leased by the quest to the pool.
+    *
+    * @param quest quest whose leases to return.
+    */
+   public static void returnAll(SuperQuest quest) {
+      List<CreatedUserDto> leased = leases(quest);
+      for (CreatedUserDto user : leased) {
+         pool.release(user);
+      }
+      leased.clear();
+   }
+
+   /**
+    * Deletes every user leased by the quest; the pool creates replacements in the background.
+    *
+    * @param quest quest whose leases to destroy.
+    */
+   public static void destroyAll(SuperQuest quest) {
+      List<CreatedUserDto> leased = leases(quest);
+      for (CreatedUserDto user : leased) {
+         pool.destroy(user);
+      }
+      leased.clear();
+   }
+
+   /**
+    * Returns a snapshot of the pool metrics.
+    *
+    * @return the metrics, or {@code null} when the pool has not been started.
+    */
+   public static EntityPool.Metrics metrics() {
+      EntityPool<CreatedUserDto> current = pool;
+      return current != null ? current.metrics() : null;
+   }
+
+   @SuppressWarnings("unchecked")
+   private static List<CreatedUserDto> leases(SuperQuest quest) {
+      List<CreatedUserDto> leased = quest.getStorage()
+            .sub(StorageKeysApi.API)
+            .get(StorageKey.POOLED_USERS, List.class);
+      if (leased == null) {
+         leased = new ArrayList<>();
+         quest.getStorage()
+               .sub(StorageKeysApi.API)
+               .put(StorageKey.POOLED_USERS, leased);
+      }
+      return leased;
+   }
+
+   private static CreatedUserDto create() {
+      CreateUserDto request = CreateUserDto.builder()
+            .name(USER_LEADER_NAME + " " + SEQUENCE.incrementAndGet())
+            .job(USER_LEADER_JOB)
+            .build();
+      Response response = POST_CREATE_USER.defaultConfiguration()
+            .body(request)
+            .request(POST_CREATE_USER.method(), POST_CREATE_USER.url());
+      if (response.getStatusCode() != SC_CREATED) {
+         throw new IllegalStateException("Expected status " + SC_CREATED + " but was " + response.getStatusCode());
+      }
+      return response.getBody().as(CreatedUserDto.class);
+   }
+
+   private static void delete(CreatedUserDto user) {
+      Response response = DELETE_USER.defaultConfiguration()
+            .pathParam(ID_PARAM, user.getId())
+            .request(DELETE_USER.method(), DELETE_USER.url());
+      if (response.getStatusCode() != SC_NO_CONTENT) {
+         throw new IllegalStateException("Expected status " + SC_NO_CONTENT + " but was " + response.getStatusCode());
+      }
+   }
+
+   private enum StorageKey {
+      POOLED_USERS
+   }
+
+}
@@ -1,13 +1,17 @@
 package io.cyborgcode.api.test.framework.data.test_data;
 
+import java.util.Properties;
 import org.aeonbits.owner.ConfigCache;
 
 /**
  * Convenience accessor for test data configuration.
  * <p>
- * Provides a static factory method to retrieve the singleton {@link DataProperties}
- * instance, which is backed by the OWNER library's {@link ConfigCache}. This ensures
- * that configuration is loaded once and reused across all test executions.
+ * Provides a static factory method to retrieve the singleton {@link TestData}
+ * instance. When the profile active at runtime ({@code test.data.file}) is the one compiled into
+ * the build and no value is overridden by a system property, the constants of
+ * {@link CompiledTestData} are returned; otherwise the {@link DataProperties} instance backed by
+ * the OWNER library's {@link ConfigCache} is used. Either way, configuration is resolved once and
+ * reused across all test executions.
  * </p>
  * <p>
  * Usage:
@@ -29,12 +33,23 @@ public final class Data {
    private Data() {
    }
 
-   public static DataProperties testData() {
-      return getTestDataConfig();
+   public static TestData testData() {
+      return Holder.TEST_DATA;
    }
 
-   private static DataProperties getTestDataConfig() {
-      return ConfigCache.getOrCreate(DataProperties.class);
+   static TestData getTestDataConfig(Properties systemProperties) {
+      boolean compiledProfileActive = CompiledTestData.PROFILE.equals(systemProperties.getProperty("test.data.file"));
+      boolean overridden = systemProperties.getProperty("username") != null
+            || systemProperties.getProperty("password") != null;
+      return compiledProfileActive && !overridden
+            ? CompiledTestData.INSTANCE
+            : ConfigCache.getOrCreate(DataProperties.class);
+   }
+
+   private static final class Holder {
+
+      private static final TestData TEST_DATA = getTestDataConfig(System.getProperties());
+
    }
 
 }
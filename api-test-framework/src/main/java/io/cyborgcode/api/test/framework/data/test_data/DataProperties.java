@@ -25,12 +25,14 @@ import org.aeonbits.owner.Config;
 @ConfigSource("test-config")
 @Config.LoadPolicy(Config.LoadType.MERGE)
 @Config.Sources({"system:properties", "classpath:${test.data.file}.properties"})
-public interface DataProperties extends PropertyConfig {
+public interface DataProperties extends PropertyConfig, TestData {
 
    @Key("username")
+   @Override
    String username();
 
    @Key("password")
+   @Override
    String password();
 
 }
@@ -0,0 +1,17 @@
+package io.cyborgcode.api.test.framework.data.test_data;
+
+/**
+ * Read-only view of the test data shared by the example suite.
+ * <p>
+ * Implemented by the runtime configuration ({@link DataProperties}) and by the build-time compiled
+ * profile ({@link CompiledTestData}); {@link Data#testData()} picks the implementation.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public interface TestData {
+
+   String username();
+
+   String password();
+
+}
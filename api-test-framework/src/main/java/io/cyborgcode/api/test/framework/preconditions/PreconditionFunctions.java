@@ -1,8 +1,16 @@
 package io.cyborgcode.api.test.framework.preconditions;
 
 import io.cyborgcode.api.test.framework.api.dto.request.CreateUserDto;
+import io.cyborgcode.api.test.framework.api.fanout.ApiCall;
+import io.cyborgcode.api.test.framework.api.fanout.FanOut;
+import io.cyborgcode.api.test.framework.api.validation.ResponseAssertions;
+import io.cyborgcode.roa.api.service.RestService;
+import io.cyborgcode.roa.api.storage.StorageKeysApi;
 import io.cyborgcode.roa.framework.quest.SuperQuest;
 import io.cyborgcode.roa.validator.core.Assertion;
+import java.util.ArrayList;
+import java.util.List;
+import org.assertj.core.api.SoftAssertions;
 
 import static io.cyborgcode.api.test.framework.base.Rings.RING_OF_API;
 import static io.cyborgcode.api.test.framework.api.AppEndpoints.POST_CREATE_USER;
@@ -36,4 +44,35 @@ public final class PreconditionFunctions {
                   Assertion.builder().target(STATUS).type(IS).expected(SC_CREATED).build());
    }
 
+   /**
+    * Creates every journey data model concurrently (bounded by {@code api.fanout.parallelism}).
+    * Responses are stored under {@code POST_CREATE_USER} in journey data order, so storage ends up
+    * as if the models had been created one after another. Failures name the model that failed.
+    */
+   public static void createNewUsers(SuperQuest quest, Object... objects) {
+      Assertion created = Assertion.builder().target(STATUS).type(IS).expected(SC_CREATED).build();
+      List<ApiCall> calls = new ArrayList<>(objects.length);
+      for (Object model : objects) {
+         calls.add(ApiCall.of(POST_CREATE_USER, (CreateUserDto) model, created));
+      }
+
+      List<FanOut.Outcome> outcomes = FanOut.execute(quest.artifact(RING_OF_API, RestService.class), calls);
+      List<String> failures = new ArrayList<>();
+      SoftAssertions softAssertions = new SoftAssertions();
+      for (int i = 0; i < outcomes.size(); i++) {
+         FanOut.Outcome outcome = outcomes.get(i);
+         String label = String.format("[%s #%d %s]", POST_CREATE_USER, i + 1, objects[i]);
+         if (outcome.failure() != null) {
+            failures.add(label + " request failed: " + outcome.failure());
+            continue;
+         }
+         quest.getStorage().sub(StorageKeysApi.API).put(POST_CREATE_USER, outcome.response());
+         failures.addAll(ResponseAssertions.evaluate(label, outcome.response(), outcome.call().assertions(), softAssertions));
+      }
+      if (!failures.isEmpty()) {
+         throw new AssertionError(String.join(System.lineSeparator(), failures));
+      }
+      softAssertions.assertAll();
+   }
+
 }
@@ -25,7 +25,8 @@ import java.util.function.BiConsumer;
  */
 public enum Preconditions implements PreQuestJourney<Preconditions> {
 
-   CREATE_NEW_USER(PreconditionFunctions::createNewUser);
+   CREATE_NEW_USER(PreconditionFunctions::createNewUser),
+   CREATE_NEW_USERS(PreconditionFunctions::createNewUsers);
 
    public static final class Data {
 
@@ -33,6 +34,7 @@ public enum Preconditions implements PreQuestJourney<Preconditions> {
       }
 
       public static final String CREATE_NEW_USER = "CREATE_NEW_USER";
+      public static final String CREATE_NEW_USERS = "CREATE_NEW_USERS";
 
    }
 
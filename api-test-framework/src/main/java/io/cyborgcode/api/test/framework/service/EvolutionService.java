@@ -1,10 +1,10 @@
 package io.cyborgcode.api.test.framework.service;
 
 import io.cyborgcode.api.test.framework.api.dto.response.CreatedUserDto;
-import io.cyborgcode.roa.api.storage.StorageKeysApi;
+import io.cyborgcode.api.test.framework.api.metrics.LatencyRecorder;
+import io.cyborgcode.api.test.framework.api.storage.ResponseViews;
 import io.cyborgcode.roa.framework.annotation.Ring;
 import io.cyborgcode.roa.framework.chain.FluentService;
-import io.restassured.response.Response;
 import java.time.Instant;
 
 import static io.cyborgcode.api.test.framework.api.AppEndpoints.POST_CREATE_USER;
@@ -37,20 +37,15 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 public class EvolutionService extends FluentService {
 
    public EvolutionService validateCreatedUser() {
-      quest.use(RING_OF_API)
+      LatencyRecorder.inRing(EvolutionService.class, () -> quest.use(RING_OF_API)
             .validate(() -> {
-               CreatedUserDto createdUser = quest
-                     .getStorage()
-                     .sub(StorageKeysApi.API)
-                     .get(POST_CREATE_USER, Response.class)
-                     .getBody()
-                     .as(CreatedUserDto.class);
+               CreatedUserDto createdUser = ResponseViews.retrieve(quest, POST_CREATE_USER, CreatedUserDto.class);
                assertEquals(USER_INTERMEDIATE_NAME, createdUser.getName(), CREATED_USER_NAME_INCORRECT);
                assertEquals(USER_INTERMEDIATE_JOB, createdUser.getJob(), CREATED_USER_JOB_INCORRECT);
                assertTrue(createdUser
                      .getCreatedAt()
                      .contains(Instant.now().atZone(UTC).format(ISO_LOCAL_DATE)), CREATED_AT_INCORRECT);
-            });
+            }));
       return this;
    }
 
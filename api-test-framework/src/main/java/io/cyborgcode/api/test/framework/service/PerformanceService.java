@@ -0,0 +1,261 @@
+package io.cyborgcode.api.test.framework.service;
+
+import io.cyborgcode.api.test.framework.api.dto.response.UserData;
+import io.cyborgcode.api.test.framework.api.fanout.ApiCall;
+import io.cyborgcode.api.test.framework.api.fanout.FanOut;
+import io.cyborgcode.api.test.framework.api.load.LoadProfile;
+import io.cyborgcode.api.test.framework.api.load.LoadReport;
+import io.cyborgcode.api.test.framework.api.load.LoadRunner;
+import io.cyborgcode.api.test.framework.api.load.LoadScenario;
+import io.cyborgcode.api.test.framework.api.metrics.LatencyRecorder;
+import io.cyborgcode.api.test.framework.api.pagination.PagedStream;
+import io.cyborgcode.api.test.framework.api.retry.PollCondition;
+import io.cyborgcode.api.test.framework.api.retry.Poller;
+import io.cyborgcode.api.test.framework.api.retry.RetryPolicy;
+import io.cyborgcode.api.test.framework.api.storage.RetainedResponses;
+import io.cyborgcode.api.test.framework.api.validation.AssertionProfile;
+import io.cyborgcode.api.test.framework.api.validation.BodyAssertionEvaluator;
+import io.cyborgcode.api.test.framework.api.validation.ResponseAssertions;
+import io.cyborgcode.roa.api.core.Endpoint;
+import io.cyborgcode.roa.api.service.RestService;
+import io.cyborgcode.roa.api.service.fluent.RestServiceFluent;
+import io.cyborgcode.roa.api.storage.StorageKeysApi;
+import io.cyborgcode.roa.framework.annotation.Ring;
+import io.cyborgcode.roa.framework.chain.FluentService;
+import io.cyborgcode.roa.validator.core.Assertion;
+import io.restassured.response.Response;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+import org.assertj.core.api.SoftAssertions;
+
+import static io.cyborgcode.api.test.framework.base.Rings.RING_OF_API;
+
+/**
+ * ROA service ("Ring of Performance") with throughput-oriented variants of the REST ring steps.
+ * <p>
+ * Requests are still executed through {@code RING_OF_API}, so responses are stored under their
+ * endpoint keys in {@link StorageKeysApi#API} exactly as with the plain ring. What changes is how
+ * the response is validated:
+ * <ul>
+ *   <li>{@code BODY} assertions are evaluated together by {@link BodyAssertionEvaluator},
+ *       which walks the JSON body once instead of resolving every key separately.</li>
+ *   <li>Status, header and any body assertion the evaluator does not support are delegated
+ *       to the framework validator unchanged.</li>
+ * </ul>
+ * Recurring assertion sets can be declared once as an {@link AssertionProfile} and passed by name.
+ * {@link #requestAllAndValidate(ApiCall...)} additionally sends independent requests concurrently
+ * and validates all responses once every call has completed, and
+ * {@link #requestAndRetain(Endpoint, Assertion...)} keeps the response in the memory-bounded
+ * {@link RetainedResponses} store instead of the quest storage.
+ * {@link #retryUntil(PollCondition, RetryPolicy)} waits for asynchronous state with a backoff policy.
+ * {@link #runLoad(LoadScenario, LoadProfile, double)} repeats a scenario built from the same endpoints
+ * and assertion profiles with many concurrent virtual users, and
+ * {@link #validateAllUsers(BiConsumer)} streams the users of every page lazily.
+ * Requests sent by these steps are reported under this ring by {@link LatencyRecorder}.
+ * Used via {@code quest.use(RING_OF_PERFORMANCE)}.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+@Ring("Ring of Performance")
+public class PerformanceService extends FluentService {
+
+   public PerformanceService requestAndValidate(Endpoint<?> endpoint, Assertion... assertions) {
+      return requestAndValidate(endpoint, null, assertions);
+   }
+
+   public PerformanceService requestAndValidate(Endpoint<?> endpoint, Object body, Assertion... assertions) {
+      List<Assertion> bodyAssertions = new ArrayList<>();
+      List<Assertion> delegated = new ArrayList<>();
+      for (Assertion assertion : assertions) {
+         (BodyAssertionEvaluator.supports(assertion) ? bodyAssertions : delegated).add(assertion);
+      }
+      return requestAndValidate(endpoint, body, bodyAssertions, delegated.toArray(Assertion[]::new));
+   }
+
+   public PerformanceService requestAndValidate(Endpoint<?> endpoint, AssertionProfile profile) {
+      return requestAndValidate(endpoint, null, profile);
+   }
+
+   /**
+    * Sends a request and validates the response against a predeclared {@link AssertionProfile}.
+    * The profile is already split into body and framework assertions, so no per-call setup is done.
+    *
+    * @param endpoint endpoint to call.
+    * @param body     request body, {@code null} for none.
+    * @param profile  assertion set to validate with.
+    * @return this ring for chaining.
+    */
+   public PerformanceService requestAndValidate(Endpoint<?> endpoint, Object body, AssertionProfile profile) {
+      return requestAndValidate(endpoint, body, profile.bodyAssertions(), profile.delegatedAssertions());
+   }
+
+   private PerformanceService requestAndValidate(Endpoint<?> endpoint, Object body, List<Assertion> bodyAssertions,
+                                                 Assertion[] frameworkAssertions) {
+      RestServiceFluent api = quest.use(RING_OF_API);
+      LatencyRecorder.inRing(PerformanceService.class, () -> body == null
+            ? api.requestAndValidate(endpoint, frameworkAssertions)
+            : api.requestAndValidate(endpoint, body, frameworkAssertions));
+
+      if (!bodyAssertions.isEmpty()) {
+         byte[] responseBody = quest.getStorage()
+               .sub(StorageKeysApi.API)
+               .get(endpoint.enumImpl(), Response.class)
+               .getBody()
+               .asByteArray();
+         api.validate(softAssertions -> BodyAssertionEvaluator.evaluate(responseBody, bodyAssertions, softAssertions));
+      }
+      return this;
+   }
+
+   /**
+    * Sends independent calls concurrently, then validates every response.
+    * <p>
+    * Responses are stored under their endpoint keys in declaration order, exactly as if the calls
+    * had been made one after another, so later steps can read them from storage as usual.
+    * Assertions are evaluated only after all calls have completed; failures name the endpoint they
+    * belong to, and failed requests are reported alongside failed assertions.
+    *
+    * @param calls independent calls; none may depend on the response of another.
+    * @return this ring for chaining.
+    */
+   public PerformanceService requestAllAndValidate(ApiCall... calls) {
+      for (ApiCall call : calls) {
+         for (Assertion assertion : call.assertions()) {
+            if (!ResponseAssertions.supports(assertion)) {
+               throw new IllegalArgumentException(String.format("Unsupported assertion for %s: %s %s",
+                     call, assertion.getTarget(), assertion.getType()));
+            }
+         }
+      }
+
+      RestService service = quest.artifact(RING_OF_API, RestService.class);
+      List<FanOut.Outcome> outcomes = LatencyRecorder.inRing(PerformanceService.class,
+            () -> FanOut.execute(service, List.of(calls)));
+      for (FanOut.Outcome outcome : outcomes) {
+         if (outcome.response() != null) {
+            quest.getStorage()
+                  .sub(StorageKeysApi.API)
+                  .put(outcome.call().endpoint().enumImpl(), outcome.response());
+         }
+      }
+
+      quest.use(RING_OF_API).validate(softAssertions -> {
+         List<String> failures = new ArrayList<>();
+         for (FanOut.Outcome outcome : outcomes) {
+            if (outcome.failure() != null) {
+               failures.add(outcome.call() + " request failed: " + outcome.failure());
+            } else {
+               failures.addAll(ResponseAssertions.evaluate(outcome.call().toString(), outcome.response(),
+                     outcome.call().assertions(), softAssertions));
+            }
+         }
+         if (!failures.isEmpty()) {
+            throw new AssertionError(String.join(System.lineSeparator(), failures));
+         }
+      });
+      return this;
+   }
+
+   public PerformanceService requestAndRetain(Endpoint<?> endpoint, Assertion... assertions) {
+      return requestAndRetain(endpoint, null, assertions);
+   }
+
+   /**
+    * Sends a request, validates the response and retains it in the quest's {@link RetainedResponses}.
+    * <p>
+    * The response is not stored in {@link StorageKeysApi#API}; read it back with
+    * {@link RetainedResponses#retrieve(Enum)}. Use for large or numerous responses in long quests.
+    *
+    * @param endpoint   endpoint to call.
+    * @param body       request body, {@code null} for none.
+    * @param assertions assertions accepted by {@link ResponseAssertions#supports(Assertion)}.
+    * @return this ring for chaining.
+    */
+   public PerformanceService requestAndRetain(Endpoint<?> endpoint, Object body, Assertion... assertions) {
+      List<Assertion> checks = List.of(assertions);
+      for (Assertion assertion : checks) {
+         if (!ResponseAssertions.supports(assertion)) {
+            throw new IllegalArgumentException(String.format("Unsupported assertion for [%s]: %s %s",
+                  endpoint.enumImpl(), assertion.getTarget(), assertion.getType()));
+         }
+      }
+
+      RestService service = quest.artifact(RING_OF_API, RestService.class);
+      Response response = LatencyRecorder.inRing(PerformanceService.class,
+            () -> body == null ? service.request(endpoint) : service.request(endpoint, body));
+      quest.use(RING_OF_API).validate(softAssertions -> {
+         List<String> failures = ResponseAssertions.evaluate("[" + endpoint.enumImpl() + "]", response, checks,
+               softAssertions);
+         if (!failures.isEmpty()) {
+            throw new AssertionError(String.join(System.lineSeparator(), failures));
+         }
+      });
+      RetainedResponses.of(quest).retain(endpoint.enumImpl(), response);
+      return this;
+   }
+
+   /**
+    * Polls the condition with the policy's backoff until it is met, then continues the chain.
+    * Unlike a fixed interval, exponential and jittered policies probe quickly at first and back off
+    * for slow jobs; the condition can also be woken early via {@link PollCondition#wake()}.
+    *
+    * @param condition condition to wait for.
+    * @param policy    delay schedule and timeout.
+    * @return this ring for chaining.
+    * @throws IllegalStateException when the condition is not met within the policy timeout.
+    */
+   public PerformanceService retryUntil(PollCondition<?> condition, RetryPolicy policy) {
+      RestService service = quest.artifact(RING_OF_API, RestService.class);
+      LatencyRecorder.inRing(PerformanceService.class, () -> {
+         Poller.await(service, condition, policy);
+         return null;
+      });
+      return this;
+   }
+
+   /**
+    * Runs a load scenario with the given profile and checks its error rate.
+    * The run report is logged and written to {@code api.load.report.dir}.
+    *
+    * @param scenario     scenario executed by every virtual user.
+    * @param profile      users, pacing, ramp-up and duration.
+    * @param maxErrorRate highest accepted share of failed iterations, between {@code 0} and {@code 1}.
+    * @return this ring for chaining.
+    */
+   public PerformanceService runLoad(LoadScenario scenario, LoadProfile profile, double maxErrorRate) {
+      RestService service = quest.artifact(RING_OF_API, RestService.class);
+      LoadReport report = LatencyRecorder.inRing(PerformanceService.class,
+            () -> LoadRunner.run(service, scenario, profile));
+      quest.use(RING_OF_API).validate(softAssertions -> {
+         softAssertions.assertThat(report.iterations())
+               .as("Completed iterations of load scenario '%s'", scenario.name())
+               .isPositive();
+         softAssertions.assertThat(report.errorRate())
+               .as("Error rate of load scenario '%s': %s", scenario.name(), report)
+               .isLessThanOrEqualTo(maxErrorRate);
+      });
+      return this;
+   }
+
+   /**
+    * Validates the users of every {@code GET_ALL_USERS} page as one lazy stream. Pages are requested
+    * only as far as the validation consumes the stream, the next page is prefetched while the current
+    * one is consumed, and the stream is closed when the validation returns.
+    *
+    * @param validation checks on the streamed users.
+    * @return this ring for chaining.
+    */
+   public PerformanceService validateAllUsers(BiConsumer<SoftAssertions, Stream<UserData>> validation) {
+      RestService service = quest.artifact(RING_OF_API, RestService.class);
+      quest.use(RING_OF_API).validate(softAssertions -> LatencyRecorder.inRing(PerformanceService.class, () -> {
+         try (Stream<UserData> users = PagedStream.users(service)) {
+            validation.accept(softAssertions, users);
+         }
+         return null;
+      }));
+      return this;
+   }
+
+}
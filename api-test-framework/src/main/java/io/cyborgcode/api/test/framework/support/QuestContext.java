@@ -0,0 +1,74 @@
+package io.cyborgcode.api.test.framework.support;
+
+import io.cyborgcode.api.test.framework.api.metrics.LatencyRecorder;
+import io.cyborgcode.roa.framework.quest.QuestHolder;
+import io.cyborgcode.roa.framework.quest.SuperQuest;
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Carries the test context of the calling thread over to helper threads.
+ * <p>
+ * Quest-bound work that helpers hand to their own thread pools (fan-out, polling, load runs, page
+ * prefetching) would otherwise run without the thread-locals the ROA and Allure integrations rely
+ * on, so requests sent there lose their quest, are reported outside the test and are attributed to
+ * the default ring. A task wrapped with {@link #propagate(Supplier)} runs with the caller's
+ * {@link QuestHolder} quest, the caller's Allure test case and the caller's latency ring. When it
+ * finishes, the worker's own quest and test case are put back, or the quest is cleared if the worker
+ * had none, so a pooled thread neither keeps a finished quest alive nor reports later work into the
+ * caller's test. Allure offers no way to drop a thread's test case, so a worker that had none keeps
+ * the caller's; Allure rejects updates to it once that test case is written. A task that ends up
+ * running on the calling thread itself runs unchanged.
+ * <p>
+ * The wrapped task shares the caller's {@code RestService}. A single service is safe to use from
+ * several threads at once for {@code request} calls: every call builds a new request specification
+ * from the endpoint (see {@code AppEndpoints#defaultConfiguration()}) and the service keeps no
+ * per-request state between calls. Authentication, which does change the service, must happen on the
+ * calling thread before work is handed out.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class QuestContext {
+
+   private QuestContext() {
+   }
+
+   /**
+    * Wraps a task so that it runs with the test context of the calling thread.
+    *
+    * @param task task to hand to another thread.
+    * @param <T>  result type.
+    * @return the wrapped task.
+    */
+   public static <T> Supplier<T> propagate(Supplier<T> task) {
+      Thread caller = Thread.currentThread();
+      SuperQuest quest = QuestHolder.get();
+      Optional<String> testCase = Allure.getLifecycle().getCurrentTestCase();
+      Supplier<T> withRing = LatencyRecorder.propagate(task);
+      return () -> {
+         if (Thread.currentThread() == caller) {
+            return withRing.get();
+         }
+         AllureLifecycle lifecycle = Allure.getLifecycle();
+         Optional<String> workerTestCase = lifecycle.getCurrentTestCase();
+         SuperQuest workerQuest = QuestHolder.get();
+         testCase.ifPresent(lifecycle::setCurrentTestCase);
+         if (quest != null) {
+            QuestHolder.set(quest);
+         }
+         try {
+            return withRing.get();
+         } finally {
+            if (workerQuest != null) {
+               QuestHolder.set(workerQuest);
+            } else if (quest != null) {
+               QuestHolder.clear();
+            }
+            workerTestCase.ifPresent(lifecycle::setCurrentTestCase);
+         }
+      };
+   }
+
+}
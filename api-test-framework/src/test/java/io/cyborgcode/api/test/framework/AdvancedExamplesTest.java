@@ -8,6 +8,7 @@ import io.cyborgcode.api.test.framework.api.dto.response.CreatedUserDto;
 import io.cyborgcode.api.test.framework.api.dto.response.GetUsersDto;
 import io.cyborgcode.api.test.framework.api.dto.response.UserData;
 import io.cyborgcode.api.test.framework.api.dto.response.UserDto;
+import io.cyborgcode.api.test.framework.api.storage.ResponseViews;
 import io.cyborgcode.api.test.framework.data.cleaner.DataCleaner;
 import io.cyborgcode.api.test.framework.data.creator.DataCreator;
 import io.cyborgcode.api.test.framework.preconditions.Preconditions;
@@ -35,18 +36,11 @@ import static io.cyborgcode.api.test.framework.api.AppEndpoints.POST_CREATE_USER
 import static io.cyborgcode.api.test.framework.api.AppEndpoints.POST_LOGIN_USER;
 import static io.cyborgcode.api.test.framework.api.extractors.ApiResponsesJsonPaths.CREATE_USER_JOB_RESPONSE;
 import static io.cyborgcode.api.test.framework.api.extractors.ApiResponsesJsonPaths.CREATE_USER_NAME_RESPONSE;
-import static io.cyborgcode.api.test.framework.api.extractors.ApiResponsesJsonPaths.DATA;
-import static io.cyborgcode.api.test.framework.api.extractors.ApiResponsesJsonPaths.PER_PAGE;
-import static io.cyborgcode.api.test.framework.api.extractors.ApiResponsesJsonPaths.SUPPORT_TEXT;
-import static io.cyborgcode.api.test.framework.api.extractors.ApiResponsesJsonPaths.SUPPORT_URL;
 import static io.cyborgcode.api.test.framework.api.extractors.ApiResponsesJsonPaths.TOKEN;
-import static io.cyborgcode.api.test.framework.api.extractors.ApiResponsesJsonPaths.TOTAL;
-import static io.cyborgcode.api.test.framework.api.extractors.ApiResponsesJsonPaths.TOTAL_PAGES;
-import static io.cyborgcode.api.test.framework.api.extractors.ApiResponsesJsonPaths.USER_AVATAR_BY_INDEX;
-import static io.cyborgcode.api.test.framework.api.extractors.ApiResponsesJsonPaths.USER_FIRST_NAME;
-import static io.cyborgcode.api.test.framework.api.extractors.ApiResponsesJsonPaths.USER_ID;
+import static io.cyborgcode.api.test.framework.api.validation.AssertionProfile.USERS_PAGE_TWO;
 import static io.cyborgcode.api.test.framework.base.Rings.RING_OF_API;
 import static io.cyborgcode.api.test.framework.base.Rings.RING_OF_CUSTOM;
+import static io.cyborgcode.api.test.framework.base.Rings.RING_OF_PERFORMANCE;
 import static io.cyborgcode.api.test.framework.data.constants.AssertionMessages.CREATED_USER_JOB_INCORRECT;
 import static io.cyborgcode.api.test.framework.data.constants.AssertionMessages.CREATED_USER_NAME_INCORRECT;
 import static io.cyborgcode.api.test.framework.data.constants.AssertionMessages.FIRST_NAME_LENGTH_INCORRECT;
@@ -55,51 +49,25 @@ import static io.cyborgcode.api.test.framework.data.constants.AssertionMessages.
 import static io.cyborgcode.api.test.framework.data.constants.Headers.EXAMPLE_HEADER;
 import static io.cyborgcode.api.test.framework.data.constants.PathVariables.ID_PARAM;
 import static io.cyborgcode.api.test.framework.data.constants.QueryParams.PAGE_PARAM;
-import static io.cyborgcode.api.test.framework.data.constants.TestConstants.FileConstants.AVATAR_FILE_EXTENSION;
-import static io.cyborgcode.api.test.framework.data.constants.TestConstants.PageTwo.PAGE_TWO_CONTAINS_ANY_USER;
 import static io.cyborgcode.api.test.framework.data.constants.TestConstants.PageTwo.PAGE_TWO_DATA_SIZE;
-import static io.cyborgcode.api.test.framework.data.constants.TestConstants.PageTwo.PAGE_TWO_EXPECTED_USERS;
 import static io.cyborgcode.api.test.framework.data.constants.TestConstants.Pagination.PAGE_TWO;
-import static io.cyborgcode.api.test.framework.data.constants.TestConstants.Pagination.TOTAL_USERS_IN_PAGE_RANGE;
 import static io.cyborgcode.api.test.framework.data.constants.TestConstants.Roles.USER_INTERMEDIATE_JOB;
 import static io.cyborgcode.api.test.framework.data.constants.TestConstants.Roles.USER_INTERMEDIATE_NAME;
 import static io.cyborgcode.api.test.framework.data.constants.TestConstants.Roles.USER_LEADER_JOB;
 import static io.cyborgcode.api.test.framework.data.constants.TestConstants.Roles.USER_LEADER_NAME;
 import static io.cyborgcode.api.test.framework.data.constants.TestConstants.Roles.USER_SENIOR_JOB;
 import static io.cyborgcode.api.test.framework.data.constants.TestConstants.Roles.USER_SENIOR_NAME;
-import static io.cyborgcode.api.test.framework.data.constants.TestConstants.Support.SUPPORT_TEXT_PREFIX;
-import static io.cyborgcode.api.test.framework.data.constants.TestConstants.Support.SUPPORT_URL_REGEX;
-import static io.cyborgcode.api.test.framework.data.constants.TestConstants.Support.SUPPORT_URL_REQRES_FRAGMENT;
 import static io.cyborgcode.api.test.framework.data.constants.TestConstants.Users.ID_THREE;
 import static io.cyborgcode.api.test.framework.data.constants.TestConstants.Users.USER_NINE_EMAIL;
 import static io.cyborgcode.api.test.framework.data.constants.TestConstants.Users.USER_NINE_FIRST_NAME;
 import static io.cyborgcode.api.test.framework.data.constants.TestConstants.Users.USER_NINE_ID;
 import static io.cyborgcode.api.test.framework.data.constants.TestConstants.Users.USER_NINE_LAST_NAME;
-import static io.cyborgcode.api.test.framework.data.constants.TestConstants.Users.USER_ONE_FIRST_NAME;
 import static io.cyborgcode.api.test.framework.data.constants.TestConstants.Users.USER_SEVENTH_FIRST_NAME_LENGTH;
 import static io.cyborgcode.roa.api.validator.RestAssertionTarget.BODY;
-import static io.cyborgcode.roa.api.validator.RestAssertionTarget.HEADER;
 import static io.cyborgcode.roa.api.validator.RestAssertionTarget.STATUS;
-import static io.cyborgcode.roa.validator.core.AssertionTypes.ALL_NOT_NULL;
-import static io.cyborgcode.roa.validator.core.AssertionTypes.BETWEEN;
-import static io.cyborgcode.roa.validator.core.AssertionTypes.CONTAINS;
-import static io.cyborgcode.roa.validator.core.AssertionTypes.CONTAINS_ALL;
-import static io.cyborgcode.roa.validator.core.AssertionTypes.CONTAINS_ANY;
-import static io.cyborgcode.roa.validator.core.AssertionTypes.ENDS_WITH;
-import static io.cyborgcode.roa.validator.core.AssertionTypes.EQUALS_IGNORE_CASE;
-import static io.cyborgcode.roa.validator.core.AssertionTypes.GREATER_THAN;
 import static io.cyborgcode.roa.validator.core.AssertionTypes.IS;
-import static io.cyborgcode.roa.validator.core.AssertionTypes.LENGTH;
-import static io.cyborgcode.roa.validator.core.AssertionTypes.LESS_THAN;
-import static io.cyborgcode.roa.validator.core.AssertionTypes.MATCHES_REGEX;
-import static io.cyborgcode.roa.validator.core.AssertionTypes.NOT;
-import static io.cyborgcode.roa.validator.core.AssertionTypes.NOT_EMPTY;
-import static io.cyborgcode.roa.validator.core.AssertionTypes.NOT_NULL;
-import static io.cyborgcode.roa.validator.core.AssertionTypes.STARTS_WITH;
-import static io.restassured.http.ContentType.JSON;
 import static java.time.ZoneOffset.UTC;
 import static java.time.format.DateTimeFormatter.ISO_LOCAL_DATE;
-import static org.apache.http.HttpHeaders.CONTENT_TYPE;
 import static org.apache.http.HttpStatus.SC_CREATED;
 import static org.apache.http.HttpStatus.SC_OK;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -128,28 +96,8 @@ class AdvancedExamplesTest extends BaseQuest {
    @Description("Showcases many assertion types in one GET: status/headers, numeric comparisons, regex, contains(all/any), length, null checks...")
    void showsComprehensiveAssertionsOnUsersList(Quest quest) {
       quest
-            .use(RING_OF_API)
-            .requestAndValidate(
-                  GET_ALL_USERS.withQueryParam(PAGE_PARAM, PAGE_TWO),
-                  Assertion.builder().target(STATUS).type(IS).expected(SC_OK).build(),
-                  Assertion.builder().target(HEADER).key(CONTENT_TYPE).type(CONTAINS).expected(JSON.toString()).build(),
-                  Assertion.builder().target(BODY).key(TOTAL.getJsonPath()).type(NOT).expected(1).build(),
-                  Assertion.builder().target(BODY).key(TOTAL_PAGES.getJsonPath()).type(GREATER_THAN).expected(1).build(),
-                  Assertion.builder().target(BODY).key(PER_PAGE.getJsonPath()).type(LESS_THAN).expected(10).build(),
-                  Assertion.builder().target(BODY).key(SUPPORT_URL.getJsonPath()).type(CONTAINS).expected(SUPPORT_URL_REQRES_FRAGMENT).build(),
-                  Assertion.builder().target(BODY).key(SUPPORT_TEXT.getJsonPath()).type(STARTS_WITH).expected(SUPPORT_TEXT_PREFIX).build(),
-                  Assertion.builder().target(BODY).key(USER_AVATAR_BY_INDEX.getJsonPath(0)).type(ENDS_WITH).expected(AVATAR_FILE_EXTENSION).build(),
-                  Assertion.builder().target(BODY).key(USER_ID.getJsonPath(0)).type(NOT_NULL).expected(true).build(),
-                  Assertion.builder().target(BODY).key(DATA.getJsonPath()).type(ALL_NOT_NULL).expected(true).build(),
-                  Assertion.builder().target(BODY).key(DATA.getJsonPath()).type(NOT_EMPTY).expected(true).build(),
-                  Assertion.builder().target(BODY).key(USER_FIRST_NAME.getJsonPath(0)).type(LENGTH).expected(7).build(),
-                  Assertion.builder().target(BODY).key(DATA.getJsonPath()).type(LENGTH).expected(6).build(),
-                  Assertion.builder().target(BODY).key(SUPPORT_URL.getJsonPath()).type(MATCHES_REGEX).expected(SUPPORT_URL_REGEX).build(),
-                  Assertion.builder().target(BODY).key(USER_FIRST_NAME.getJsonPath(0)).type(EQUALS_IGNORE_CASE).expected(USER_ONE_FIRST_NAME).build(),
-                  Assertion.builder().target(BODY).key(TOTAL.getJsonPath()).type(BETWEEN).expected(TOTAL_USERS_IN_PAGE_RANGE).build(),
-                  Assertion.builder().target(BODY).key(DATA.getJsonPath()).type(CONTAINS_ALL).expected(PAGE_TWO_EXPECTED_USERS).build(),
-                  Assertion.builder().target(BODY).key(DATA.getJsonPath()).type(CONTAINS_ANY).expected(PAGE_TWO_CONTAINS_ANY_USER).build()
-            )
+            .use(RING_OF_PERFORMANCE)
+            .requestAndValidate(GET_ALL_USERS.withQueryParam(PAGE_PARAM, PAGE_TWO), USERS_PAGE_TWO)
             .complete();
    }
 
@@ -206,9 +154,7 @@ class AdvancedExamplesTest extends BaseQuest {
             .request(
                   GET_USER.withPathParam(
                         ID_PARAM,
-                        retrieve(StorageKeysApi.API, GET_ALL_USERS, Response.class)
-                              .getBody()
-                              .as(GetUsersDto.class)
+                        ResponseViews.retrieve(GET_ALL_USERS, GetUsersDto.class)
                               .getData()
                               .stream()
                               .filter(user -> USER_NINE_FIRST_NAME.equals(user.getFirstName()))
@@ -217,9 +163,8 @@ class AdvancedExamplesTest extends BaseQuest {
                               .orElseThrow(() -> new RuntimeException(userWithFirstNameNotFound(USER_NINE_FIRST_NAME))))
             )
             .validate(softAssertions -> {
-               UserDto user =
-                     retrieve(StorageKeysApi.API, GET_USER, Response.class)
-                           .getBody().as(UserDto.class);
+               // Memoized typed view: repeated reads of the same stored response are not re-mapped
+               UserDto user = ResponseViews.retrieve(GET_USER, UserDto.class);
                softAssertions.assertThat(user.getData().getId()).isEqualTo(USER_NINE_ID);
                softAssertions.assertThat(user.getData().getEmail()).isEqualTo(USER_NINE_EMAIL);
                softAssertions.assertThat(user.getData().getFirstName()).isEqualTo(USER_NINE_FIRST_NAME);
@@ -354,6 +299,45 @@ class AdvancedExamplesTest extends BaseQuest {
             .complete();
    }
 
+   @Test
+   @Regression
+   @AuthenticateViaApi(credentials = AdminAuth.class, type = AppAuth.class)
+   @Journey(
+         value = Preconditions.Data.CREATE_NEW_USERS,
+         journeyData = {
+               @JourneyData(DataCreator.Data.USER_LEADER),
+               @JourneyData(DataCreator.Data.USER_INTERMEDIATE)
+         }
+   )
+   @Ripper(targets = {DataCleaner.Data.DELETE_ADMIN_USER})
+   @Description("Creates several users in one bulk Journey whose requests run concurrently; storage keeps the journey data order.")
+   void showsBulkJourneyCreatingUsersConcurrently(Quest quest) {
+      quest
+            .use(RING_OF_API)
+            .validate(() -> {
+               CreatedUserDto createdUser = ResponseViews.retrieve(POST_CREATE_USER, CreatedUserDto.class);
+               assertEquals(USER_INTERMEDIATE_NAME, createdUser.getName(), CREATED_USER_NAME_INCORRECT);
+               assertEquals(USER_INTERMEDIATE_JOB, createdUser.getJob(), CREATED_USER_JOB_INCORRECT);
+            })
+            .complete();
+   }
+
+   @Test
+   @Regression
+   @Ripper(targets = {DataCleaner.Data.RETURN_POOLED_USERS})
+   @Description("Leases an already created user from the background-refilled pool via @Craft and returns it after the test.")
+   void showsPooledUserLeasedViaCraft(Quest quest,
+                                      @Craft(model = DataCreator.Data.POOLED_USER)
+                                      CreatedUserDto pooledUser) {
+      quest
+            .use(RING_OF_API)
+            .validate(() -> {
+               assertTrue(pooledUser.getName().startsWith(USER_LEADER_NAME), CREATED_USER_NAME_INCORRECT);
+               assertEquals(USER_LEADER_JOB, pooledUser.getJob(), CREATED_USER_JOB_INCORRECT);
+            })
+            .complete();
+   }
+
    @Test
    @Smoke
    @Regression
@@ -1,11 +1,15 @@
 package io.cyborgcode.api.test.framework;
 
 import io.cyborgcode.api.test.framework.api.dto.request.CreateUserDto;
+import io.cyborgcode.api.test.framework.api.dto.response.CreatedUserDto;
 import io.cyborgcode.api.test.framework.api.hooks.ApiHookFlows;
+import io.cyborgcode.api.test.framework.data.cleaner.DataCleaner;
 import io.cyborgcode.api.test.framework.data.creator.DataCreator;
 import io.cyborgcode.roa.api.annotations.API;
 import io.cyborgcode.roa.api.annotations.ApiHook;
 import io.cyborgcode.roa.framework.annotation.Craft;
+import io.cyborgcode.roa.framework.annotation.Regression;
+import io.cyborgcode.roa.framework.annotation.Ripper;
 import io.cyborgcode.roa.framework.annotation.Smoke;
 import io.cyborgcode.roa.framework.base.BaseQuest;
 import io.cyborgcode.roa.framework.hooks.HookExecution;
@@ -16,14 +20,20 @@ import org.junit.jupiter.api.Test;
 import static io.cyborgcode.api.test.framework.api.AppEndpoints.POST_CREATE_USER;
 import static io.cyborgcode.api.test.framework.api.extractors.ApiResponsesJsonPaths.CREATE_USER_NAME_RESPONSE;
 import static io.cyborgcode.api.test.framework.base.Rings.RING_OF_API;
+import static io.cyborgcode.api.test.framework.data.constants.AssertionMessages.CREATED_USER_JOB_INCORRECT;
+import static io.cyborgcode.api.test.framework.data.constants.AssertionMessages.CREATED_USER_NAME_INCORRECT;
+import static io.cyborgcode.api.test.framework.data.constants.TestConstants.Roles.USER_LEADER_JOB;
 import static io.cyborgcode.api.test.framework.data.constants.TestConstants.Roles.USER_LEADER_NAME;
 import static io.cyborgcode.roa.api.validator.RestAssertionTarget.BODY;
 import static io.cyborgcode.roa.api.validator.RestAssertionTarget.STATUS;
 import static io.cyborgcode.roa.validator.core.AssertionTypes.IS;
 import static org.apache.http.HttpStatus.SC_CREATED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @API
 @ApiHook(when = HookExecution.BEFORE, type = ApiHookFlows.Data.PING_REQRES)
+@ApiHook(when = HookExecution.BEFORE, type = ApiHookFlows.Data.WARM_USER_POOL)
 @ApiHook(when = HookExecution.AFTER, type = ApiHookFlows.Data.DELETE_LEADER_USER)
 class ApiHooksExamplesTest extends BaseQuest {
 
@@ -42,4 +52,19 @@ class ApiHooksExamplesTest extends BaseQuest {
             )
             .complete();
    }
+
+   @Test
+   @Regression
+   @Ripper(targets = {DataCleaner.Data.RETURN_POOLED_USERS})
+   void showsUserLeasedFromPoolWarmedOncePerRun(Quest quest,
+                                                @Craft(model = DataCreator.Data.POOLED_USER)
+                                                CreatedUserDto pooledUser) {
+      quest
+            .use(RING_OF_API)
+            .validate(() -> {
+               assertTrue(pooledUser.getName().startsWith(USER_LEADER_NAME), CREATED_USER_NAME_INCORRECT);
+               assertEquals(USER_LEADER_JOB, pooledUser.getJob(), CREATED_USER_JOB_INCORRECT);
+            })
+            .complete();
+   }
 }
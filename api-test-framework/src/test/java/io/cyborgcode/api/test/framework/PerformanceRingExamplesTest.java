@@ -0,0 +1,248 @@
+package io.cyborgcode.api.test.framework;
+
+import io.cyborgcode.api.test.framework.api.cache.ResponseCache;
+import io.cyborgcode.api.test.framework.api.dto.response.GetUsersDto;
+import io.cyborgcode.api.test.framework.api.dto.response.UserData;
+import io.cyborgcode.api.test.framework.api.dto.response.UserDto;
+import io.cyborgcode.api.test.framework.api.fanout.ApiCall;
+import io.cyborgcode.api.test.framework.api.load.LoadProfile;
+import io.cyborgcode.api.test.framework.api.load.LoadScenarios;
+import io.cyborgcode.api.test.framework.api.metrics.LatencyHistogram;
+import io.cyborgcode.api.test.framework.api.metrics.LatencyRecorder;
+import io.cyborgcode.api.test.framework.api.storage.RetainedResponses;
+import io.cyborgcode.api.test.framework.api.validation.AssertionProfile;
+import io.cyborgcode.roa.api.annotations.API;
+import io.cyborgcode.roa.framework.annotation.Regression;
+import io.cyborgcode.roa.framework.annotation.Smoke;
+import io.cyborgcode.roa.framework.base.BaseQuest;
+import io.cyborgcode.roa.framework.quest.Quest;
+import io.cyborgcode.roa.validator.core.Assertion;
+import io.qameta.allure.Description;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import static io.cyborgcode.api.test.framework.api.AppEndpoints.GET_ALL_USERS;
+import static io.cyborgcode.api.test.framework.api.AppEndpoints.GET_USER;
+import static io.cyborgcode.api.test.framework.api.extractors.ApiResponsesJsonPaths.DATA;
+import static io.cyborgcode.api.test.framework.api.extractors.ApiResponsesJsonPaths.PER_PAGE;
+import static io.cyborgcode.api.test.framework.api.extractors.ApiResponsesJsonPaths.SINGLE_USER_EMAIL_EXPLICIT;
+import static io.cyborgcode.api.test.framework.api.extractors.ApiResponsesJsonPaths.SUPPORT_TEXT;
+import static io.cyborgcode.api.test.framework.api.extractors.ApiResponsesJsonPaths.SUPPORT_URL;
+import static io.cyborgcode.api.test.framework.api.extractors.ApiResponsesJsonPaths.TOTAL;
+import static io.cyborgcode.api.test.framework.api.extractors.ApiResponsesJsonPaths.TOTAL_PAGES;
+import static io.cyborgcode.api.test.framework.api.extractors.ApiResponsesJsonPaths.USER_FIRST_NAME;
+import static io.cyborgcode.api.test.framework.api.extractors.ApiResponsesJsonPaths.USER_ID;
+import static io.cyborgcode.api.test.framework.base.Rings.RING_OF_API;
+import static io.cyborgcode.api.test.framework.base.Rings.RING_OF_PERFORMANCE;
+import static io.cyborgcode.api.test.framework.data.constants.PathVariables.ID_PARAM;
+import static io.cyborgcode.api.test.framework.data.constants.QueryParams.PAGE_PARAM;
+import static io.cyborgcode.api.test.framework.data.constants.TestConstants.PageTwo.PAGE_TWO_DATA_SIZE;
+import static io.cyborgcode.api.test.framework.data.constants.TestConstants.PageTwo.PAGE_TWO_EXPECTED_USERS;
+import static io.cyborgcode.api.test.framework.data.constants.TestConstants.Pagination.PAGE_TWO;
+import static io.cyborgcode.api.test.framework.data.constants.TestConstants.Pagination.TOTAL_USERS_IN_PAGE_RANGE;
+import static io.cyborgcode.api.test.framework.data.constants.TestConstants.Support.SUPPORT_TEXT_PREFIX;
+import static io.cyborgcode.api.test.framework.data.constants.TestConstants.Support.SUPPORT_URL_REGEX;
+import static io.cyborgcode.api.test.framework.data.constants.TestConstants.Users.ID_THREE;
+import static io.cyborgcode.api.test.framework.data.constants.TestConstants.Users.USER_ONE_FIRST_NAME;
+import static io.cyborgcode.api.test.framework.data.constants.TestConstants.Users.USER_NINE_EMAIL;
+import static io.cyborgcode.api.test.framework.data.constants.TestConstants.Users.USER_NINE_ID;
+import static io.cyborgcode.api.test.framework.data.constants.TestConstants.Users.USER_THREE_EMAIL;
+import static io.cyborgcode.roa.api.validator.RestAssertionTarget.BODY;
+import static io.cyborgcode.roa.api.validator.RestAssertionTarget.STATUS;
+import static io.cyborgcode.roa.validator.core.AssertionTypes.BETWEEN;
+import static io.cyborgcode.roa.validator.core.AssertionTypes.CONTAINS_ALL;
+import static io.cyborgcode.roa.validator.core.AssertionTypes.EQUALS_IGNORE_CASE;
+import static io.cyborgcode.roa.validator.core.AssertionTypes.GREATER_THAN;
+import static io.cyborgcode.roa.validator.core.AssertionTypes.IS;
+import static io.cyborgcode.roa.validator.core.AssertionTypes.LENGTH;
+import static io.cyborgcode.roa.validator.core.AssertionTypes.LESS_THAN;
+import static io.cyborgcode.roa.validator.core.AssertionTypes.MATCHES_REGEX;
+import static io.cyborgcode.roa.validator.core.AssertionTypes.NOT_NULL;
+import static io.cyborgcode.roa.validator.core.AssertionTypes.STARTS_WITH;
+import static org.apache.http.HttpStatus.SC_OK;
+
+/**
+ * Examples for the performance ring ({@code RING_OF_PERFORMANCE}).
+ * <p>
+ * The ring keeps the familiar {@code requestAndValidate} shape of {@code RING_OF_API}, but
+ * evaluates body assertions in a single pass over the response, which keeps validation cost
+ * flat when a test asserts on many fields of the same response. Recurring assertion sets are passed
+ * by name as predeclared profiles. Independent requests can also be
+ * fanned out concurrently with {@code requestAllAndValidate}, and responses of long quests can be
+ * kept in a memory-bounded store with {@code requestAndRetain}. Request latencies are recorded per
+ * endpoint, status class and ring and reported at the end of the run, and with the response cache
+ * enabled, cached endpoints answer repeated reference-data requests from the run-wide cache.
+ * Functional flows can also be replayed as load scenarios with {@code runLoad}, and
+ * {@code validateAllUsers} streams every page of users lazily.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+@API
+class PerformanceRingExamplesTest extends BaseQuest {
+
+   @Test
+   @Smoke
+   @Regression
+   @Description("Validates many body fields of one GET response with a single pass over the JSON body.")
+   void showsSinglePassBodyValidation(Quest quest) {
+      quest
+            .use(RING_OF_PERFORMANCE)
+            .requestAndValidate(
+                  GET_ALL_USERS.withQueryParam(PAGE_PARAM, PAGE_TWO),
+                  Assertion.builder().target(STATUS).type(IS).expected(SC_OK).build(),
+                  Assertion.builder().target(BODY).key(TOTAL_PAGES.getJsonPath()).type(GREATER_THAN).expected(1).build(),
+                  Assertion.builder().target(BODY).key(PER_PAGE.getJsonPath()).type(LESS_THAN).expected(10).build(),
+                  Assertion.builder().target(BODY).key(TOTAL.getJsonPath()).type(BETWEEN).expected(TOTAL_USERS_IN_PAGE_RANGE).build(),
+                  Assertion.builder().target(BODY).key(SUPPORT_TEXT.getJsonPath()).type(STARTS_WITH).expected(SUPPORT_TEXT_PREFIX).build(),
+                  Assertion.builder().target(BODY).key(SUPPORT_URL.getJsonPath()).type(MATCHES_REGEX).expected(SUPPORT_URL_REGEX).build(),
+                  Assertion.builder().target(BODY).key(USER_ID.getJsonPath(0)).type(NOT_NULL).expected(true).build(),
+                  Assertion.builder().target(BODY).key(USER_FIRST_NAME.getJsonPath(0)).type(EQUALS_IGNORE_CASE).expected(USER_ONE_FIRST_NAME).build(),
+                  Assertion.builder().target(BODY).key(DATA.getJsonPath()).type(LENGTH).expected(PAGE_TWO_DATA_SIZE).build(),
+                  Assertion.builder().target(BODY).key(DATA.getJsonPath()).type(CONTAINS_ALL).expected(PAGE_TWO_EXPECTED_USERS).build()
+            )
+            .complete();
+   }
+
+   @Test
+   @Regression
+   @Description("Validates a GET response against a named assertion profile compiled once for the whole suite.")
+   void showsNamedAssertionProfile(Quest quest) {
+      quest
+            .use(RING_OF_PERFORMANCE)
+            .requestAndValidate(GET_ALL_USERS.withQueryParam(PAGE_PARAM, PAGE_TWO), AssertionProfile.USERS_PAGE_TWO)
+            .complete();
+   }
+
+   @Test
+   @Regression
+   @Description("Sends independent GET requests concurrently and validates every response once all have arrived.")
+   void showsParallelFanOutRequests(Quest quest) {
+      quest
+            .use(RING_OF_PERFORMANCE)
+            .requestAllAndValidate(
+                  ApiCall.of(
+                        GET_ALL_USERS.withQueryParam(PAGE_PARAM, PAGE_TWO),
+                        Assertion.builder().target(STATUS).type(IS).expected(SC_OK).build(),
+                        Assertion.builder().target(BODY).key(DATA.getJsonPath()).type(LENGTH).expected(PAGE_TWO_DATA_SIZE).build()
+                  ),
+                  ApiCall.of(
+                        GET_USER.withPathParam(ID_PARAM, ID_THREE),
+                        Assertion.builder().target(STATUS).type(IS).expected(SC_OK).build(),
+                        Assertion.builder().target(BODY).key(SINGLE_USER_EMAIL_EXPLICIT.getJsonPath()).type(IS).expected(USER_THREE_EMAIL).build()
+                  )
+            )
+            .complete();
+   }
+
+   @Test
+   @Regression
+   @Description("Fans out interleaved requests for different users from one service and checks no response is mixed up.")
+   void showsFanOutKeepsConcurrentResponsesApart(Quest quest) {
+      List<ApiCall> calls = new ArrayList<>();
+      for (int i = 0; i < 4; i++) {
+         calls.add(ApiCall.of(
+               GET_USER.withPathParam(ID_PARAM, ID_THREE),
+               Assertion.builder().target(BODY).key(SINGLE_USER_EMAIL_EXPLICIT.getJsonPath()).type(IS).expected(USER_THREE_EMAIL).build()));
+         calls.add(ApiCall.of(
+               GET_USER.withPathParam(ID_PARAM, USER_NINE_ID),
+               Assertion.builder().target(BODY).key(SINGLE_USER_EMAIL_EXPLICIT.getJsonPath()).type(IS).expected(USER_NINE_EMAIL).build()));
+      }
+      quest
+            .use(RING_OF_PERFORMANCE)
+            .requestAllAndValidate(calls.toArray(ApiCall[]::new))
+            .complete();
+   }
+
+   @Test
+   @Regression
+   @Description("Retains responses in the memory-bounded store and reads them back later in the quest.")
+   void showsMemoryBoundedResponseRetention(Quest quest) {
+      quest
+            .use(RING_OF_PERFORMANCE)
+            .requestAndRetain(
+                  GET_ALL_USERS.withQueryParam(PAGE_PARAM, PAGE_TWO),
+                  Assertion.builder().target(STATUS).type(IS).expected(SC_OK).build())
+            .requestAndRetain(
+                  GET_USER.withPathParam(ID_PARAM, ID_THREE),
+                  Assertion.builder().target(STATUS).type(IS).expected(SC_OK).build())
+            .drop()
+            .use(RING_OF_API)
+            .validate(softAssertions -> {
+               GetUsersDto users = RetainedResponses.retrieve(GET_ALL_USERS).getBody().as(GetUsersDto.class);
+               UserDto user = RetainedResponses.retrieve(GET_USER).getBody().as(UserDto.class);
+               softAssertions.assertThat(users.getData()).hasSize(PAGE_TWO_DATA_SIZE);
+               softAssertions.assertThat(user.getData().getEmail()).isEqualTo(USER_THREE_EMAIL);
+            })
+            .complete();
+   }
+
+   @Test
+   @Regression
+   @Description("Records the latency of each request per endpoint, status class and ring for the run-level report.")
+   void showsPerEndpointLatencyHistograms(Quest quest) {
+      quest
+            .use(RING_OF_PERFORMANCE)
+            .requestAndValidate(GET_ALL_USERS.withQueryParam(PAGE_PARAM, PAGE_TWO), AssertionProfile.STATUS_OK)
+            .drop()
+            .use(RING_OF_API)
+            .validate(softAssertions -> {
+               LatencyHistogram histogram = LatencyRecorder.snapshot()
+                     .get(new LatencyRecorder.Key(GET_ALL_USERS.name(), "2xx", "Ring of Performance"));
+               softAssertions.assertThat(histogram).isNotNull();
+               softAssertions.assertThat(histogram.count()).isPositive();
+               softAssertions.assertThat(histogram.percentileMicros(99)).isLessThanOrEqualTo(histogram.maxMicros());
+            })
+            .complete();
+   }
+
+   @Test
+   @Regression
+   @EnabledIfSystemProperty(named = "api.cache.enabled", matches = "true")
+   @Description("With -Dapi.cache.enabled=true, repeats a reference-data GET on a cached endpoint; "
+         + "the second request is answered from the run-wide cache.")
+   void showsCachedReferenceDataRequests(Quest quest) {
+      quest
+            .use(RING_OF_PERFORMANCE)
+            .requestAndValidate(GET_ALL_USERS.withQueryParam(PAGE_PARAM, PAGE_TWO), AssertionProfile.USERS_PAGE_TWO)
+            .requestAndValidate(GET_ALL_USERS.withQueryParam(PAGE_PARAM, PAGE_TWO), AssertionProfile.USERS_PAGE_TWO)
+            .drop()
+            .use(RING_OF_API)
+            .validate(softAssertions -> {
+               ResponseCache.Metrics metrics = ResponseCache.instance().metrics();
+               softAssertions.assertThat(metrics.hits()).isPositive();
+               softAssertions.assertThat(metrics.bytesSaved()).isPositive();
+            })
+            .complete();
+   }
+
+   @Test
+   @Regression
+   @EnabledIfSystemProperty(named = "api.config.file", matches = "config-local")
+   @Description("Replays the login-and-get-user flow of the custom ring as a load scenario with concurrent virtual users "
+         + "against the local stub.")
+   void showsLoadRunFromFunctionalFlow(Quest quest) {
+      quest
+            .use(RING_OF_PERFORMANCE)
+            .runLoad(LoadScenarios.LOGIN_AND_GET_USER, LoadProfile.fromConfig(), 0.0)
+            .complete();
+   }
+
+   @Test
+   @Regression
+   @Description("Streams the users of every page lazily, prefetching the next page while the current one is consumed.")
+   void showsLazyPagedUserStream(Quest quest) {
+      quest
+            .use(RING_OF_PERFORMANCE)
+            .validateAllUsers((softAssertions, users) -> {
+               List<Integer> ids = users.map(UserData::getId).toList();
+               softAssertions.assertThat(ids).hasSizeGreaterThan(PAGE_TWO_DATA_SIZE).doesNotHaveDuplicates();
+            })
+            .validateAllUsers((softAssertions, users) ->
+                  softAssertions.assertThat(users.anyMatch(user -> USER_ONE_FIRST_NAME.equalsIgnoreCase(user.getFirstName())))
+                        .isTrue())
+            .complete();
+   }
+
+}
@@ -1,5 +1,7 @@
 package io.cyborgcode.api.test.framework;
 
+import io.cyborgcode.api.test.framework.api.retry.PollCondition;
+import io.cyborgcode.api.test.framework.api.retry.RetryPolicy;
 import io.cyborgcode.roa.api.annotations.API;
 import io.cyborgcode.roa.framework.annotation.Regression;
 import io.cyborgcode.roa.framework.annotation.Smoke;
@@ -15,11 +17,13 @@ import org.junit.jupiter.api.Test;
 
 import static io.cyborgcode.api.test.framework.api.AppEndpoints.GET_ALL_USERS;
 import static io.cyborgcode.api.test.framework.base.Rings.RING_OF_API;
+import static io.cyborgcode.api.test.framework.base.Rings.RING_OF_PERFORMANCE;
 import static io.cyborgcode.api.test.framework.data.constants.QueryParams.PAGE_PARAM;
 import static io.cyborgcode.api.test.framework.data.constants.TestConstants.Pagination.PAGE_TWO;
 import static io.cyborgcode.roa.api.validator.RestAssertionTarget.STATUS;
 import static io.cyborgcode.roa.validator.core.AssertionTypes.IS;
 import static org.apache.http.HttpStatus.SC_OK;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 /**
  * Demonstrates usage of {@code retryUntil} in the RoA DSL.
@@ -38,6 +42,9 @@ import static org.apache.http.HttpStatus.SC_OK;
  *   <li>Synchronizing test flows that depend on external state.</li>
  * </ul>
  *
+ * <p>{@code RING_OF_PERFORMANCE} offers an adaptive variant: a {@link RetryPolicy} with exponential,
+ * jittered backoff and a {@link PollCondition} that can be woken early when the awaited state changes.
+ *
  * @author Cyborg Code Syndicate 💍👨💻
  */
 @API
@@ -75,4 +82,35 @@ class RetryUntilExamplesTest extends BaseQuest {
             .complete();
    }
 
+   @Test
+   @Regression
+   @Description("Feature demo: adaptive retryUntil — poll with jittered exponential backoff (100ms doubling up to 2s, max 10s) until the users page has been served three times.")
+   void showsAdaptiveRetryWithExponentialBackoff(Quest quest) {
+      AtomicInteger servedCounter = new AtomicInteger(0);
+
+      // Define a condition that is met once the users page has been served for the 3rd time
+      PollCondition<Integer> usersPageServedThrice = PollCondition.of(
+            "users page served thrice",
+            service -> service.request(GET_ALL_USERS.withQueryParam(PAGE_PARAM, PAGE_TWO)).getStatusCode() == SC_OK
+                  ? servedCounter.incrementAndGet()
+                  : servedCounter.get(),
+            served -> served >= 3
+      );
+
+      quest
+            .use(RING_OF_PERFORMANCE)
+            .retryUntil(
+                  usersPageServedThrice,
+                  RetryPolicy.exponential(Duration.ofMillis(100), Duration.ofSeconds(2), 2, Duration.ofSeconds(10))
+                        .withJitter(0.2)
+            )
+            // The wait took several probes, each one after a longer backoff delay
+            .validate(() -> assertEquals(3, servedCounter.get()))
+            .requestAndValidate(
+                  GET_ALL_USERS.withQueryParam(PAGE_PARAM, PAGE_TWO),
+                  Assertion.builder().target(STATUS).type(IS).expected(SC_OK).build()
+            )
+            .complete();
+   }
+
 }
@@ -0,0 +1,151 @@
+package io.cyborgcode.api.test.framework.api.authentication;
+
+import io.restassured.http.Header;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the single-flight, TTL and refresh-ahead behaviour of {@link TokenCache}. Background
+ * refreshes are queued and run by the test.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+class TokenCacheTest {
+
+   private static final Duration TTL = Duration.ofSeconds(60);
+   private static final Duration REFRESH_AHEAD = Duration.ofSeconds(10);
+
+   private final AtomicLong clock = new AtomicLong();
+   private final AtomicInteger logins = new AtomicInteger();
+   private final Supplier<Header> login = () -> new Header("Authorization", "Bearer " + logins.incrementAndGet());
+   private final Queue<Runnable> refreshes = new ArrayDeque<>();
+
+   @Test
+   void concurrentCallersShareOneLogin() throws Exception {
+      TokenCache cache = new TokenCache(TTL, REFRESH_AHEAD, clock::get, refreshes::add);
+      CountDownLatch loginStarted = new CountDownLatch(1);
+      CountDownLatch releaseLogin = new CountDownLatch(1);
+      Supplier<Header> slowLogin = () -> {
+         loginStarted.countDown();
+         await(releaseLogin);
+         return login.get();
+      };
+
+      ExecutorService callers = Executors.newFixedThreadPool(8);
+      try {
+         List<Future<Header>> headers = new ArrayList<>();
+         headers.add(callers.submit(() -> cache.get("user", "secret", slowLogin, slowLogin)));
+         assertThat(loginStarted.await(5, TimeUnit.SECONDS)).isTrue();
+         for (int i = 0; i < 7; i++) {
+            headers.add(callers.submit(() -> cache.get("user", "secret", slowLogin, slowLogin)));
+         }
+         releaseLogin.countDown();
+
+         for (Future<Header> header : headers) {
+            assertThat(header.get(5, TimeUnit.SECONDS).getValue()).isEqualTo("Bearer 1");
+         }
+         assertThat(logins).hasValue(1);
+      } finally {
+         callers.shutdownNow();
+      }
+   }
+
+   @Test
+   void logsInAgainOnceTheTokenHasExpired() {
+      TokenCache cache = new TokenCache(TTL, Duration.ZERO, clock::get, refreshes::add);
+
+      assertThat(cache.get("user", "secret", login, login).getValue()).isEqualTo("Bearer 1");
+      clock.addAndGet(TTL.toNanos() - 1);
+      assertThat(cache.get("user", "secret", login, login).getValue()).isEqualTo("Bearer 1");
+      clock.addAndGet(1);
+      assertThat(cache.get("user", "secret", login, login).getValue()).isEqualTo("Bearer 2");
+      assertThat(logins).hasValue(2);
+   }
+
+   @Test
+   void refreshesAheadOfExpiryInTheBackground() {
+      TokenCache cache = new TokenCache(TTL, REFRESH_AHEAD, clock::get, refreshes::add);
+      Supplier<Header> callerLogin = () -> {
+         throw new AssertionError("a refresh must not log in on the calling thread");
+      };
+      cache.get("user", "secret", login, login);
+
+      clock.addAndGet(TTL.minus(REFRESH_AHEAD).toNanos() - 1);
+      assertThat(cache.get("user", "secret", callerLogin, login).getValue()).isEqualTo("Bearer 1");
+      assertThat(refreshes).isEmpty();
+
+      clock.addAndGet(1);
+      assertThat(cache.get("user", "secret", callerLogin, login).getValue()).isEqualTo("Bearer 1");
+      assertThat(cache.get("user", "secret", callerLogin, login).getValue()).isEqualTo("Bearer 1");
+      assertThat(refreshes).hasSize(1);
+
+      refreshes.poll().run();
+      assertThat(cache.get("user", "secret", callerLogin, login).getValue()).isEqualTo("Bearer 2");
+      assertThat(logins).hasValue(2);
+   }
+
+   @Test
+   void keepsTheCurrentTokenWhenRefreshFails() {
+      TokenCache cache = new TokenCache(TTL, REFRESH_AHEAD, clock::get, refreshes::add);
+      Supplier<Header> failing = () -> {
+         throw new IllegalStateException("login failed");
+      };
+      cache.get("user", "secret", login, login);
+      clock.addAndGet(TTL.minus(REFRESH_AHEAD).toNanos());
+
+      assertThat(cache.get("user", "secret", login, failing).getValue()).isEqualTo("Bearer 1");
+      refreshes.poll().run();
+
+      assertThat(cache.get("user", "secret", login, login).getValue()).isEqualTo("Bearer 1");
+      refreshes.poll().run();
+      assertThat(cache.get("user", "secret", login, login).getValue()).isEqualTo("Bearer 2");
+   }
+
+   @Test
+   void doesNotCacheFailedLogins() {
+      TokenCache cache = new TokenCache(TTL, REFRESH_AHEAD, clock::get, refreshes::add);
+
+      Supplier<Header> failing = () -> {
+         throw new IllegalStateException("login failed");
+      };
+
+      assertThatThrownBy(() -> cache.get("user", "secret", failing, failing)).isInstanceOf(IllegalStateException.class);
+
+      assertThat(cache.get("user", "secret", login, login).getValue()).isEqualTo("Bearer 1");
+   }
+
+   @Test
+   void keepsCredentialPairsApart() {
+      TokenCache cache = new TokenCache(TTL, REFRESH_AHEAD, clock::get, refreshes::add);
+
+      cache.get("user", "secret", login, login);
+      cache.get("other", "secret", login, login);
+      cache.get("user", "secret", login, login);
+
+      assertThat(logins).hasValue(2);
+   }
+
+   private static void await(CountDownLatch latch) {
+      try {
+         latch.await(5, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+         Thread.currentThread().interrupt();
+      }
+   }
+
+}
@@ -0,0 +1,120 @@
+package io.cyborgcode.api.test.framework.api.cache;
+
+import io.restassured.RestAssured;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.Filter;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link RequestCoalescer}. The server is a filter placed after the coalescer that
+ * answers without network access and holds its response until the test releases it, so requests
+ * overlap deterministically.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+class RequestCoalescerTest {
+
+   private static final String USER = "http://localhost:8080/api/users/3";
+
+   private final ExecutorService callers = Executors.newFixedThreadPool(2);
+   private final RequestCoalescer coalescer = new RequestCoalescer();
+   private final AtomicInteger served = new AtomicInteger();
+   private final CountDownLatch arrived = new CountDownLatch(1);
+   private final CountDownLatch release = new CountDownLatch(1);
+
+   @AfterEach
+   void stopCallers() {
+      release.countDown();
+      callers.shutdownNow();
+   }
+
+   @Test
+   void answersOverlappingIdenticalGetWithResponseInFlight() throws Exception {
+      Future<Response> first = callers.submit(() -> send("GET"));
+      assertThat(arrived.await(5, TimeUnit.SECONDS)).isTrue();
+      Future<Response> second = callers.submit(() -> send("GET"));
+      awaitCoalesced(1);
+      release.countDown();
+
+      Response leader = first.get(5, TimeUnit.SECONDS);
+      Response follower = second.get(5, TimeUnit.SECONDS);
+
+      assertThat(served).hasValue(1);
+      assertThat(coalescer.sent()).isEqualTo(1);
+      assertThat(coalescer.coalesced()).isEqualTo(1);
+      assertThat(follower).isNotSameAs(leader);
+      assertThat(follower.getStatusCode()).isEqualTo(200);
+      assertThat(follower.asString()).isEqualTo(leader.asString());
+   }
+
+   @Test
+   void sendsSequentialIdenticalGetsSeparately() {
+      release.countDown();
+
+      send("GET");
+      send("GET");
+
+      assertThat(served).hasValue(2);
+      assertThat(coalescer.coalesced()).isZero();
+   }
+
+   @Test
+   void neverCoalescesNonIdempotentRequests() throws Exception {
+      Future<Response> first = callers.submit(() -> send("POST"));
+      assertThat(arrived.await(5, TimeUnit.SECONDS)).isTrue();
+      Future<Response> second = callers.submit(() -> send("POST"));
+      release.countDown();
+
+      first.get(5, TimeUnit.SECONDS);
+      second.get(5, TimeUnit.SECONDS);
+
+      assertThat(served).hasValue(2);
+      assertThat(coalescer.sent()).isZero();
+      assertThat(coalescer.coalesced()).isZero();
+   }
+
+   private Response send(String method) {
+      return RestAssured.given()
+            .filter(coalescer)
+            .filter(server())
+            .request(method, USER);
+   }
+
+   private Filter server() {
+      return (requestSpec, responseSpec, context) -> {
+         int number = served.incrementAndGet();
+         arrived.countDown();
+         try {
+            release.await(5, TimeUnit.SECONDS);
+         } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+         }
+         return new ResponseBuilder()
+               .setStatusCode(200)
+               .setStatusLine("HTTP/1.1 200 OK")
+               .setHeaders(new Headers())
+               .setContentType("application/json")
+               .setBody("{\"served\":" + number + "}")
+               .build();
+      };
+   }
+
+   private void awaitCoalesced(long expected) throws InterruptedException {
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+      while (coalescer.coalesced() < expected && System.nanoTime() < deadline) {
+         TimeUnit.MILLISECONDS.sleep(1);
+      }
+   }
+
+}
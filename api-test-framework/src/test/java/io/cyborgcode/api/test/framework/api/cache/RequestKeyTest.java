@@ -0,0 +1,52 @@
+package io.cyborgcode.api.test.framework.api.cache;
+
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the request identity used by {@link ResponseCache} and {@link RequestCoalescer}.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+class RequestKeyTest {
+
+   private static final String USERS = "http://localhost:8080/api/users";
+
+   @Test
+   void acceptsRequestWithoutQueryString() {
+      RequestKey key = RequestKey.of("GET", USERS, new Headers());
+
+      assertThat(key.url()).isEqualTo(USERS);
+      assertThat(key.query()).isEmpty();
+   }
+
+   @Test
+   void ignoresOrderOfQueryParameters() {
+      RequestKey key = RequestKey.of("GET", USERS + "?page=2&per_page=6", new Headers());
+      RequestKey reordered = RequestKey.of("GET", USERS + "?per_page=6&page=2", new Headers());
+
+      assertThat(key).isEqualTo(reordered);
+      assertThat(key.query()).containsExactly("page=2", "per_page=6");
+   }
+
+   @Test
+   void separatesCallersByCredentials() {
+      RequestKey first = RequestKey.of("GET", USERS, new Headers(new Header("Authorization", "Bearer first")));
+      RequestKey second = RequestKey.of("GET", USERS, new Headers(new Header("Authorization", "Bearer second")));
+
+      assertThat(first).isNotEqualTo(second);
+      assertThat(first.headers()).doesNotContain("first");
+   }
+
+   @Test
+   void ignoresHeadersThatDoNotSelectTheResponse() {
+      RequestKey plain = RequestKey.of("GET", USERS, new Headers());
+      RequestKey traced = RequestKey.of("GET", USERS, new Headers(new Header("X-Trace-Id", "42")));
+
+      assertThat(plain).isEqualTo(traced);
+   }
+
+}
@@ -0,0 +1,130 @@
+package io.cyborgcode.api.test.framework.api.cassette;
+
+import io.restassured.RestAssured;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.Filter;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Record-then-replay round trips of {@link Cassette}. The server is a filter placed after the
+ * cassette that answers without network access and numbers its responses, so a replayed response
+ * can be told apart from a new one.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+class CassetteTest {
+
+   private static final String USERS = "http://localhost:8080/api/users";
+   private static final String USER = USERS + "/3";
+
+   private final AtomicInteger served = new AtomicInteger();
+
+   @TempDir
+   Path directory;
+
+   @Test
+   void replaysRecordedExchangesWithoutServer() {
+      Path file = directory.resolve("api.cassette");
+      Cassette recorder = new Cassette(Cassette.Mode.RECORD, Cassette.Matching.STRICT, file);
+      Response recordedGet = request(recorder, server()).get(USER);
+      Response recordedPost = request(recorder, server()).body("{\"name\":\"Morpheus\"}").post(USERS);
+      recorder.close();
+
+      Cassette player = new Cassette(Cassette.Mode.REPLAY, Cassette.Matching.STRICT, file);
+      Response replayedGet = request(player).get(USER);
+      Response replayedPost = request(player).body("{\"name\":\"Morpheus\"}").post(USERS);
+
+      assertThat(recorder.recorded()).isEqualTo(2);
+      assertThat(player.replayed()).isEqualTo(2);
+      assertThat(served).hasValue(2);
+      assertThat(replayedGet.getStatusCode()).isEqualTo(recordedGet.getStatusCode());
+      assertThat(replayedGet.getHeader("ETag")).isEqualTo(recordedGet.getHeader("ETag"));
+      assertThat(replayedGet.asString()).isEqualTo(recordedGet.asString());
+      assertThat(replayedPost.asString()).isEqualTo(recordedPost.asString());
+   }
+
+   @Test
+   void replaysRepeatedRequestsInRecordingOrder() {
+      Path file = directory.resolve("api.cassette");
+      Cassette recorder = new Cassette(Cassette.Mode.RECORD, Cassette.Matching.STRICT, file);
+      request(recorder, server()).get(USER);
+      request(recorder, server()).get(USER);
+      recorder.close();
+
+      Cassette player = new Cassette(Cassette.Mode.REPLAY, Cassette.Matching.STRICT, file);
+
+      assertThat(request(player).get(USER).asString()).isEqualTo(body(1));
+      assertThat(request(player).get(USER).asString()).isEqualTo(body(2));
+      assertThat(request(player).get(USER).asString()).isEqualTo(body(1));
+   }
+
+   @Test
+   void fallsBackToLenientMatchOnlyWhenConfigured() {
+      Path file = directory.resolve("api.cassette");
+      Cassette recorder = new Cassette(Cassette.Mode.RECORD, Cassette.Matching.STRICT, file);
+      request(recorder, server()).body("{\"name\":\"Morpheus\"}").post(USERS);
+      recorder.close();
+
+      Cassette strict = new Cassette(Cassette.Mode.REPLAY, Cassette.Matching.STRICT, file);
+      Cassette lenient = new Cassette(Cassette.Mode.REPLAY, Cassette.Matching.LENIENT, file);
+
+      assertThatThrownBy(() -> request(strict).body("{\"name\":\"Trinity\"}").post(USERS))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("No STRICT cassette entry for POST " + USERS);
+      assertThat(request(lenient).body("{\"name\":\"Trinity\"}").post(USERS).asString()).isEqualTo(body(1));
+   }
+
+   @Test
+   void startsRecordingAfresh() {
+      Path file = directory.resolve("api.cassette");
+      Cassette first = new Cassette(Cassette.Mode.RECORD, Cassette.Matching.STRICT, file);
+      request(first, server()).get(USER);
+      request(first, server()).get(USERS);
+      first.close();
+      Cassette second = new Cassette(Cassette.Mode.RECORD, Cassette.Matching.STRICT, file);
+      request(second, server()).get(USER);
+      second.close();
+
+      Cassette player = new Cassette(Cassette.Mode.REPLAY, Cassette.Matching.STRICT, file);
+
+      assertThat(request(player).get(USER).asString()).isEqualTo(body(3));
+      assertThatThrownBy(() -> request(player).get(USERS)).isInstanceOf(IllegalStateException.class);
+   }
+
+   private static RequestSpecification request(Filter... filters) {
+      RequestSpecification spec = RestAssured.given().contentType("application/json");
+      for (Filter filter : filters) {
+         spec.filter(filter);
+      }
+      return spec;
+   }
+
+   private Filter server() {
+      return (requestSpec, responseSpec, context) -> {
+         int number = served.incrementAndGet();
+         int status = "POST".equals(requestSpec.getMethod()) ? 201 : 200;
+         return new ResponseBuilder()
+               .setStatusCode(status)
+               .setStatusLine("HTTP/1.1 " + status)
+               .setHeaders(new Headers(new Header("ETag", "\"" + number + "\"")))
+               .setContentType("application/json")
+               .setBody(body(number))
+               .build();
+      };
+   }
+
+   private static String body(int number) {
+      return "{\"served\":" + number + "}";
+   }
+
+}
@@ -0,0 +1,29 @@
+package io.cyborgcode.api.test.framework.api.extractors;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the path compilation and the bounded pointer cache of {@link JsonPointers}.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+class JsonPointersTest {
+
+   @Test
+   void compilesIndexedPathsToPointers() {
+      assertThat(JsonPointers.compileStrict("data[0].first_name")).hasToString("/data/0/first_name");
+      assertThat(JsonPointers.compile("data.findAll { it.id > 3 }")).isEmpty();
+   }
+
+   @Test
+   void keepsCacheBoundedForUnboundedIndices() {
+      for (int index = 0; index < 5_000; index++) {
+         assertThat(JsonPointers.compileStrict("data[" + index + "].id")).hasToString("/data/" + index + "/id");
+      }
+
+      assertThat(JsonPointers.cachedPaths()).isLessThanOrEqualTo(1024);
+   }
+
+}
@@ -0,0 +1,140 @@
+package io.cyborgcode.api.test.framework.api.hooks;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the sharing rules of {@link MemoizedHook}, for successes and remembered failures.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+class MemoizedHookTest {
+
+   private static final String[] NO_ARGUMENTS = new String[0];
+
+   @Test
+   void runsSuccessfulHookOncePerScopeWithinTtl() {
+      AtomicInteger runs = new AtomicInteger();
+      MemoizedHook hook = new MemoizedHook("success-" + System.nanoTime(), HookScope.CLASS,
+            Duration.ofMinutes(1), Duration.ZERO,
+            (service, storage, arguments) -> runs.incrementAndGet());
+      Map<Object, Object> storage = new HashMap<>();
+
+      hook.accept(null, storage, NO_ARGUMENTS);
+      hook.accept(null, storage, NO_ARGUMENTS);
+
+      assertThat(runs).hasValue(1);
+   }
+
+   @Test
+   void runsHookAgainOnceTtlHasElapsed() {
+      AtomicInteger runs = new AtomicInteger();
+      MemoizedHook hook = new MemoizedHook("expiring-" + System.nanoTime(), HookScope.CLASS,
+            Duration.ZERO, Duration.ZERO,
+            (service, storage, arguments) -> runs.incrementAndGet());
+      Map<Object, Object> storage = new HashMap<>();
+
+      hook.accept(null, storage, NO_ARGUMENTS);
+      hook.accept(null, storage, NO_ARGUMENTS);
+
+      assertThat(runs).hasValue(2);
+   }
+
+   @Test
+   void runsRunScopedHookOnceRegardlessOfTtl() {
+      AtomicInteger runs = new AtomicInteger();
+      MemoizedHook hook = new MemoizedHook("once-" + System.nanoTime(), HookScope.RUN, Duration.ZERO, Duration.ZERO,
+            (service, storage, arguments) -> runs.incrementAndGet());
+
+      hook.accept(null, new HashMap<>(), NO_ARGUMENTS);
+      hook.accept(null, new HashMap<>(), NO_ARGUMENTS);
+
+      assertThat(runs).hasValue(1);
+   }
+
+   @Test
+   void failsFastWithRememberedFailureWithinFailureTtl() {
+      AtomicInteger runs = new AtomicInteger();
+      MemoizedHook hook = new MemoizedHook("unreachable-" + System.nanoTime(), HookScope.SUITE,
+            Duration.ofMinutes(5), Duration.ofMinutes(1),
+            (service, storage, arguments) -> {
+               runs.incrementAndGet();
+               throw new IllegalStateException("service not reachable");
+            });
+      Map<Object, Object> storage = new HashMap<>();
+
+      assertThatThrownBy(() -> hook.accept(null, storage, NO_ARGUMENTS))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("service not reachable");
+      assertThatThrownBy(() -> hook.accept(null, new HashMap<>(), NO_ARGUMENTS))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("failed in an earlier run of this suite scope")
+            .hasRootCauseMessage("service not reachable");
+
+      assertThat(runs).hasValue(1);
+   }
+
+   @Test
+   void retriesFailureOnceFailureTtlHasElapsed() {
+      AtomicInteger runs = new AtomicInteger();
+      MemoizedHook hook = new MemoizedHook("flaky-" + System.nanoTime(), HookScope.SUITE,
+            Duration.ofMinutes(5), Duration.ZERO,
+            (service, storage, arguments) -> {
+               if (runs.incrementAndGet() == 1) {
+                  throw new IllegalStateException("service not reachable yet");
+               }
+            });
+      Map<Object, Object> storage = new HashMap<>();
+
+      assertThatThrownBy(() -> hook.accept(null, storage, NO_ARGUMENTS))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("service not reachable yet");
+      hook.accept(null, storage, NO_ARGUMENTS);
+      hook.accept(null, storage, NO_ARGUMENTS);
+
+      assertThat(runs).hasValue(2);
+   }
+
+   @Test
+   void retriesFailedRunScopedHookOnceFailureTtlHasElapsed() {
+      AtomicInteger runs = new AtomicInteger();
+      MemoizedHook hook = new MemoizedHook("warm-" + System.nanoTime(), HookScope.RUN, Duration.ZERO, Duration.ZERO,
+            (service, storage, arguments) -> {
+               if (runs.incrementAndGet() == 1) {
+                  throw new IllegalStateException("pool not ready");
+               }
+            });
+
+      assertThatThrownBy(() -> hook.accept(null, new HashMap<>(), NO_ARGUMENTS))
+            .isInstanceOf(IllegalStateException.class);
+      hook.accept(null, new HashMap<>(), NO_ARGUMENTS);
+      hook.accept(null, new HashMap<>(), NO_ARGUMENTS);
+
+      assertThat(runs).hasValue(2);
+   }
+
+   @Test
+   void releasesScopeWhenHookThrowsAnError() {
+      AtomicInteger runs = new AtomicInteger();
+      MemoizedHook hook = new MemoizedHook("error-" + System.nanoTime(), HookScope.CLASS,
+            Duration.ofMinutes(1), Duration.ZERO,
+            (service, storage, arguments) -> {
+               if (runs.incrementAndGet() == 1) {
+                  throw new AssertionError("precondition failed");
+               }
+            });
+      Map<Object, Object> storage = new HashMap<>();
+
+      assertThatThrownBy(() -> hook.accept(null, storage, NO_ARGUMENTS)).isInstanceOf(AssertionError.class);
+      hook.accept(null, storage, NO_ARGUMENTS);
+
+      assertThat(runs).hasValue(2);
+   }
+
+}
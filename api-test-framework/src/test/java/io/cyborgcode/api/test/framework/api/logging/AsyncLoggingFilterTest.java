@@ -0,0 +1,39 @@
+package io.cyborgcode.api.test.framework.api.logging;
+
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the credential masking of {@link AsyncLoggingFilter}.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+class AsyncLoggingFilterTest {
+
+   @Test
+   void masksCredentialHeadersRegardlessOfCase() {
+      Headers headers = new Headers(
+            new Header("authorization", "Bearer secret-token"),
+            new Header("x-api-key", "reqres-free-v1"),
+            new Header("Cookie", "session=42"),
+            new Header("Accept", "application/json"));
+
+      Headers masked = AsyncLoggingFilter.mask(headers);
+
+      assertThat(masked.toString()).doesNotContain("secret-token", "reqres-free-v1", "session=42");
+      assertThat(masked.getValue("Authorization")).isEqualTo("***");
+      assertThat(masked.getValue("Accept")).isEqualTo("application/json");
+      assertThat(masked.size()).isEqualTo(4);
+   }
+
+   @Test
+   void keepsHeadersWithoutCredentialsAsIs() {
+      Headers headers = new Headers(new Header("Accept", "application/json"));
+
+      assertThat(AsyncLoggingFilter.mask(headers)).isSameAs(headers);
+   }
+
+}
@@ -0,0 +1,111 @@
+package io.cyborgcode.api.test.framework.api.metrics;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Unit tests for the bucketing, percentiles and merging of {@link LatencyHistogram}.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+class LatencyHistogramTest {
+
+   @Test
+   void reportsZeroWhenEmpty() {
+      LatencyHistogram histogram = new LatencyHistogram();
+
+      assertThat(histogram.count()).isZero();
+      assertThat(histogram.meanMicros()).isZero();
+      assertThat(histogram.percentileMicros(99)).isZero();
+      assertThat(histogram.maxMicros()).isZero();
+   }
+
+   @Test
+   void keepsSmallValuesExact() {
+      LatencyHistogram histogram = new LatencyHistogram();
+      for (int micros = 1; micros <= 20; micros++) {
+         histogram.record(micros);
+      }
+
+      assertThat(histogram.percentileMicros(50)).isEqualTo(10);
+      assertThat(histogram.percentileMicros(90)).isEqualTo(18);
+      assertThat(histogram.percentileMicros(100)).isEqualTo(20);
+      assertThat(histogram.meanMicros()).isEqualTo(10);
+   }
+
+   @Test
+   void boundsRelativeErrorOfLargeValues() {
+      LatencyHistogram histogram = new LatencyHistogram();
+      for (long micros = 1_000; micros <= 1_000_000; micros += 1_000) {
+         histogram.record(micros);
+      }
+
+      assertThat((double) histogram.percentileMicros(50)).isCloseTo(500_000, within(500_000 * 0.035));
+      assertThat((double) histogram.percentileMicros(99)).isCloseTo(990_000, within(990_000 * 0.035));
+      assertThat(histogram.percentileMicros(100)).isEqualTo(1_000_000);
+      assertThat(histogram.maxMicros()).isEqualTo(1_000_000);
+   }
+
+   @Test
+   void neverReportsPercentileAboveRecordedMaximum() {
+      LatencyHistogram histogram = new LatencyHistogram();
+      histogram.record(1_000_001);
+
+      assertThat(histogram.percentileMicros(50)).isEqualTo(1_000_001);
+   }
+
+   @Test
+   void recordsNegativeValuesAsZero() {
+      LatencyHistogram histogram = new LatencyHistogram();
+      histogram.record(-5);
+
+      assertThat(histogram.count()).isEqualTo(1);
+      assertThat(histogram.percentileMicros(100)).isZero();
+   }
+
+   @Test
+   void mergesCountsSumsAndMaximum() {
+      LatencyHistogram fast = new LatencyHistogram();
+      LatencyHistogram slow = new LatencyHistogram();
+      for (int i = 0; i < 90; i++) {
+         fast.record(10);
+      }
+      for (int i = 0; i < 10; i++) {
+         slow.record(5_000);
+      }
+
+      LatencyHistogram merged = new LatencyHistogram();
+      merged.merge(fast);
+      merged.merge(slow);
+
+      assertThat(merged.count()).isEqualTo(100);
+      assertThat(merged.meanMicros()).isEqualTo((90 * 10 + 10 * 5_000) / 100);
+      assertThat(merged.percentileMicros(90)).isEqualTo(10);
+      assertThat(merged.percentileMicros(91)).isEqualTo(5_000);
+      assertThat(merged.maxMicros()).isEqualTo(5_000);
+   }
+
+   @Test
+   void countsEveryValueRecordedConcurrently() throws InterruptedException {
+      LatencyHistogram histogram = new LatencyHistogram();
+      ExecutorService executor = Executors.newFixedThreadPool(4);
+      for (int thread = 0; thread < 4; thread++) {
+         executor.execute(() -> {
+            for (int i = 0; i < 10_000; i++) {
+               histogram.record(i % 100);
+            }
+         });
+      }
+      executor.shutdown();
+
+      assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+      assertThat(histogram.count()).isEqualTo(40_000);
+      assertThat(histogram.maxMicros()).isEqualTo(99);
+   }
+
+}
@@ -0,0 +1,114 @@
+package io.cyborgcode.api.test.framework.api.retry;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for polling and early wakes of {@link Poller}.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+class PollerTest {
+
+   private static final RetryPolicy SLOW = RetryPolicy.fixed(Duration.ofSeconds(30), Duration.ofSeconds(60));
+
+   @Test
+   void probesUntilConditionIsMet() {
+      AtomicInteger probes = new AtomicInteger();
+      PollCondition<Integer> thirdProbe = PollCondition.of("third probe " + System.nanoTime(),
+            service -> probes.incrementAndGet(), attempt -> attempt >= 3);
+
+      Poller.await(null, thirdProbe, RetryPolicy.fixed(Duration.ofMillis(10), Duration.ofSeconds(5)));
+
+      assertThat(probes).hasValue(3);
+      assertThat(Poller.metrics().get(thirdProbe.name()).attempts()).isEqualTo(3);
+   }
+
+   @Test
+   void failsWhenConditionIsNotMetInTime() {
+      PollCondition<Boolean> never = PollCondition.of("never " + System.nanoTime(), service -> false, ready -> ready);
+
+      RetryPolicy shortTimeout = RetryPolicy.fixed(Duration.ofMillis(10), Duration.ofMillis(50));
+
+      assertThatThrownBy(() -> Poller.await(null, never, shortTimeout))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageStartingWith("Condition '" + never.name() + "' not met");
+   }
+
+   @Test
+   void wakeProbesEveryConcurrentWaitImmediately() throws Exception {
+      AtomicBoolean ready = new AtomicBoolean();
+      CountDownLatch firstProbes = new CountDownLatch(2);
+      PollCondition<Boolean> flag = PollCondition.of("flag " + System.nanoTime(), service -> {
+         firstProbes.countDown();
+         return ready.get();
+      }, value -> value);
+
+      CompletableFuture<Void> first = CompletableFuture.runAsync(() -> Poller.await(null, flag, SLOW));
+      CompletableFuture<Void> second = CompletableFuture.runAsync(() -> Poller.await(null, flag, SLOW));
+      assertThat(firstProbes.await(5, TimeUnit.SECONDS)).isTrue();
+      // let both waits schedule their next probe, 30 seconds away
+      TimeUnit.MILLISECONDS.sleep(100);
+      assertThat(first).isNotDone();
+      assertThat(second).isNotDone();
+
+      ready.set(true);
+      flag.wake();
+
+      CompletableFuture.allOf(first, second).get(5, TimeUnit.SECONDS);
+      assertThat(Poller.metrics().get(flag.name()).earlyWakes()).isEqualTo(2);
+   }
+
+   @Test
+   void defersWakeArrivingDuringRunningProbe() throws Exception {
+      AtomicInteger probes = new AtomicInteger();
+      CountDownLatch probing = new CountDownLatch(1);
+      CountDownLatch release = new CountDownLatch(1);
+      PollCondition<Integer> slowProbe = PollCondition.of("slow probe " + System.nanoTime(), service -> {
+         int probe = probes.incrementAndGet();
+         if (probe == 1) {
+            probing.countDown();
+            awaitQuietly(release);
+         }
+         return probe;
+      }, probe -> probe >= 2);
+
+      CompletableFuture<Void> waiting = CompletableFuture.runAsync(() -> Poller.await(null, slowProbe, SLOW));
+      assertThat(probing.await(5, TimeUnit.SECONDS)).isTrue();
+      slowProbe.wake();
+      slowProbe.wake();
+      release.countDown();
+
+      waiting.get(5, TimeUnit.SECONDS);
+      assertThat(probes).hasValue(2);
+      assertThat(Poller.metrics().get(slowProbe.name()).earlyWakes()).isEqualTo(1);
+   }
+
+   @Test
+   void ignoresWakeWhenConditionIsNotPolled() {
+      PollCondition<Boolean> idle = PollCondition.of("idle " + System.nanoTime(), service -> true, ready -> ready);
+
+      idle.wake();
+      Poller.await(null, idle, SLOW);
+      idle.wake();
+
+      assertThat(Poller.metrics().get(idle.name()).earlyWakes()).isZero();
+   }
+
+   private static void awaitQuietly(CountDownLatch latch) {
+      try {
+         latch.await(5, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+         Thread.currentThread().interrupt();
+      }
+   }
+
+}
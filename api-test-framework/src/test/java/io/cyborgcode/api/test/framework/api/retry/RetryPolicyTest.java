@@ -0,0 +1,58 @@
+package io.cyborgcode.api.test.framework.api.retry;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the delay schedules of {@link RetryPolicy}.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+class RetryPolicyTest {
+
+   private static final long MILLI = Duration.ofMillis(1).toNanos();
+
+   @Test
+   void usesSameDelayForEveryRetryWhenFixed() {
+      RetryPolicy policy = RetryPolicy.fixed(Duration.ofMillis(250), Duration.ofSeconds(5));
+
+      assertThat(policy.delayNanos(1)).isEqualTo(250 * MILLI);
+      assertThat(policy.delayNanos(7)).isEqualTo(250 * MILLI);
+   }
+
+   @Test
+   void growsDelayByMultiplierUpToMaximum() {
+      RetryPolicy policy = RetryPolicy.exponential(
+            Duration.ofMillis(100), Duration.ofMillis(500), 2, Duration.ofSeconds(5));
+
+      assertThat(policy.delayNanos(1)).isEqualTo(100 * MILLI);
+      assertThat(policy.delayNanos(2)).isEqualTo(200 * MILLI);
+      assertThat(policy.delayNanos(3)).isEqualTo(400 * MILLI);
+      assertThat(policy.delayNanos(4)).isEqualTo(500 * MILLI);
+      assertThat(policy.delayNanos(60)).isEqualTo(500 * MILLI);
+   }
+
+   @Test
+   void keepsJitteredDelayWithinRatio() {
+      RetryPolicy policy = RetryPolicy.fixed(Duration.ofMillis(100), Duration.ofSeconds(5)).withJitter(0.2);
+
+      for (int i = 0; i < 1_000; i++) {
+         assertThat(policy.delayNanos(1)).isBetween(80 * MILLI, 120 * MILLI);
+      }
+   }
+
+   @Test
+   void rejectsInvalidSettings() {
+      Duration timeout = Duration.ofSeconds(5);
+
+      assertThatThrownBy(() -> RetryPolicy.fixed(Duration.ZERO, timeout)).isInstanceOf(IllegalArgumentException.class);
+      assertThatThrownBy(() -> RetryPolicy.exponential(Duration.ofMillis(10), Duration.ofSeconds(1), 0.5, timeout))
+            .isInstanceOf(IllegalArgumentException.class);
+      assertThatThrownBy(() -> RetryPolicy.fixed(Duration.ofMillis(10), timeout).withJitter(1))
+            .isInstanceOf(IllegalArgumentException.class);
+   }
+
+}
@@ -0,0 +1,76 @@
+package io.cyborgcode.api.test.framework.api.storage;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+import static io.cyborgcode.api.test.framework.api.storage.ResponseViewsTest.Key.GET_ALL_USERS;
+import static io.cyborgcode.api.test.framework.api.storage.ResponseViewsTest.Key.GET_USER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the identity-based invalidation of {@link ResponseViews}.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+class ResponseViewsTest {
+
+   @Test
+   void returnsSameViewWhileStoredResponseIsUnchanged() {
+      ResponseViews views = new ResponseViews();
+      Response response = json("{\"page\":1}");
+
+      Map<?, ?> first = views.view(GET_ALL_USERS, response, Map.class);
+      Map<?, ?> second = views.view(GET_ALL_USERS, response, Map.class);
+
+      assertThat(second).isSameAs(first);
+   }
+
+   @Test
+   void dropsViewWhenNewerResponseIsStoredUnderSameKey() {
+      ResponseViews views = new ResponseViews();
+
+      Map<?, ?> first = views.view(GET_ALL_USERS, json("{\"page\":1}"), Map.class);
+      Map<?, ?> second = views.view(GET_ALL_USERS, json("{\"page\":2}"), Map.class);
+
+      assertThat(second).isNotSameAs(first);
+      assertThat(second.get("page")).isEqualTo(2);
+   }
+
+   @Test
+   void comparesResponsesByIdentityNotByContent() {
+      ResponseViews views = new ResponseViews();
+
+      Map<?, ?> first = views.view(GET_ALL_USERS, json("{\"page\":1}"), Map.class);
+      Map<?, ?> second = views.view(GET_ALL_USERS, json("{\"page\":1}"), Map.class);
+
+      assertThat(second).isNotSameAs(first).isEqualTo(first);
+   }
+
+   @Test
+   void keepsViewsOfDifferentKeysApart() {
+      ResponseViews views = new ResponseViews();
+      Response users = json("{\"page\":1}");
+      Response user = json("{\"data\":{\"id\":3}}");
+
+      Map<?, ?> usersView = views.view(GET_ALL_USERS, users, Map.class);
+      views.view(GET_USER, user, Map.class);
+
+      assertThat(views.view(GET_ALL_USERS, users, Map.class)).isSameAs(usersView);
+   }
+
+   private static Response json(String body) {
+      return new ResponseBuilder()
+            .setStatusCode(200)
+            .setContentType("application/json")
+            .setBody(body)
+            .build();
+   }
+
+   enum Key {
+      GET_ALL_USERS,
+      GET_USER
+   }
+
+}
@@ -0,0 +1,89 @@
+package io.cyborgcode.api.test.framework.api.storage;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+import static io.cyborgcode.api.test.framework.api.storage.RetainedResponsesTest.Key.GET_ALL_USERS;
+import static io.cyborgcode.api.test.framework.api.storage.RetainedResponsesTest.Key.GET_USER;
+import static io.cyborgcode.api.test.framework.api.storage.RetainedResponsesTest.Key.GET_USERS_PAGE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the heap and disk budgets of {@link RetainedResponses}.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+class RetainedResponsesTest {
+
+   @Test
+   void evictsLeastRecentlyRetrievedHeapResponseOverHeapBudget() {
+      RetainedResponses store = new RetainedResponses(20, 1_000, 1_000);
+
+      store.retain(GET_ALL_USERS, json(12));
+      store.retain(GET_USER, json(12));
+
+      assertThat(store.heapBytes()).isEqualTo(12);
+      assertThat(store.get(GET_USER).getBody().asString()).hasSize(12);
+      assertThatThrownBy(() -> store.get(GET_ALL_USERS))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("was evicted");
+   }
+
+   @Test
+   void spillsLargeBodiesAndEvictsThemOverDiskBudget() {
+      RetainedResponses store = new RetainedResponses(1_000, 10, 30);
+
+      store.retain(GET_ALL_USERS, json(20));
+      store.retain(GET_USERS_PAGE, json(20));
+
+      assertThat(store.heapBytes()).isZero();
+      assertThat(store.spilledCount()).isEqualTo(1);
+      assertThat(store.diskBytes()).isEqualTo(20);
+      assertThatThrownBy(() -> store.get(GET_ALL_USERS)).isInstanceOf(IllegalStateException.class);
+   }
+
+   @Test
+   void releasesDiskBudgetWhenSpilledResponseIsReplaced() {
+      RetainedResponses store = new RetainedResponses(1_000, 10, 30);
+
+      store.retain(GET_ALL_USERS, json(20));
+      store.retain(GET_ALL_USERS, json(25));
+
+      assertThat(store.diskBytes()).isEqualTo(25);
+      assertThat(store.get(GET_ALL_USERS).getBody().asString()).hasSize(25);
+   }
+
+   @Test
+   void exposesSpilledBodyAsReadOnlyView() {
+      RetainedResponses store = new RetainedResponses(1_000, 10, 1_000);
+      Response response = json(40);
+
+      store.retain(GET_ALL_USERS, response);
+      ByteBuffer body = store.body(GET_ALL_USERS);
+
+      assertThat(body.isReadOnly()).isTrue();
+      assertThat(StandardCharsets.UTF_8.decode(body).toString()).isEqualTo(response.getBody().asString());
+   }
+
+   private static Response json(int length) {
+      String body = "{\"a\":\"" + "x".repeat(length - 8) + "\"}";
+      return new ResponseBuilder()
+            .setStatusCode(200)
+            .setHeaders(new Headers())
+            .setContentType("application/json")
+            .setBody(body)
+            .build();
+   }
+
+   enum Key {
+      GET_ALL_USERS,
+      GET_USERS_PAGE,
+      GET_USER
+   }
+
+}
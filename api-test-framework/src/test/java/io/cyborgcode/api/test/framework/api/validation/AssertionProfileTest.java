@@ -0,0 +1,66 @@
+package io.cyborgcode.api.test.framework.api.validation;
+
+import io.cyborgcode.roa.validator.core.Assertion;
+import org.junit.jupiter.api.Test;
+
+import static io.cyborgcode.api.test.framework.data.constants.TestConstants.PageTwo.PAGE_TWO_EXPECTED_USERS;
+import static io.cyborgcode.api.test.framework.data.constants.TestConstants.Support.SUPPORT_URL_REGEX;
+import static io.cyborgcode.roa.api.validator.RestAssertionTarget.BODY;
+import static io.cyborgcode.roa.api.validator.RestAssertionTarget.HEADER;
+import static io.cyborgcode.roa.api.validator.RestAssertionTarget.STATUS;
+import static io.cyborgcode.roa.validator.core.AssertionTypes.CONTAINS_ALL;
+import static io.cyborgcode.roa.validator.core.AssertionTypes.MATCHES_REGEX;
+import static org.apache.http.HttpStatus.SC_CREATED;
+import static org.apache.http.HttpStatus.SC_OK;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Unit tests for the compiled form of {@link AssertionProfile}.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+class AssertionProfileTest {
+
+   @Test
+   void delegatesStatusOnlyProfilesToFrameworkValidator() {
+      assertThat(AssertionProfile.STATUS_OK.bodyAssertions()).isEmpty();
+      assertThat(AssertionProfile.STATUS_OK.delegatedAssertions())
+            .extracting(Assertion::getTarget, Assertion::getExpected)
+            .containsExactly(tuple(STATUS, SC_OK));
+      assertThat(AssertionProfile.STATUS_CREATED.delegatedAssertions())
+            .extracting(Assertion::getExpected)
+            .containsExactly(SC_CREATED);
+   }
+
+   @Test
+   void splitsMixedProfileIntoBodyAndDelegatedAssertions() {
+      AssertionProfile profile = AssertionProfile.USERS_PAGE_TWO;
+
+      assertThat(profile.bodyAssertions()).allMatch(assertion -> assertion.getTarget() == BODY);
+      assertThat(profile.delegatedAssertions()).extracting(Assertion::getTarget).containsExactly(STATUS, HEADER);
+      assertThat(profile.bodyAssertions().size() + profile.delegatedAssertions().length)
+            .isEqualTo(profile.assertions().size());
+   }
+
+   @Test
+   void declaresExpectationsAsForFrameworkValidator() {
+      assertThat(AssertionProfile.USERS_PAGE_TWO.bodyAssertions())
+            .filteredOn(assertion -> assertion.getType() == MATCHES_REGEX)
+            .extracting(Assertion::getExpected)
+            .containsExactly(SUPPORT_URL_REGEX);
+      assertThat(AssertionProfile.USERS_PAGE_TWO.bodyAssertions())
+            .filteredOn(assertion -> assertion.getType() == CONTAINS_ALL)
+            .extracting(Assertion::getExpected)
+            .containsExactly(PAGE_TWO_EXPECTED_USERS);
+   }
+
+   @Test
+   void returnsCopyOfDelegatedAssertions() {
+      Assertion[] first = AssertionProfile.USERS_PAGE_TWO.delegatedAssertions();
+      first[0] = null;
+
+      assertThat(AssertionProfile.USERS_PAGE_TWO.delegatedAssertions()[0]).isNotNull();
+   }
+
+}
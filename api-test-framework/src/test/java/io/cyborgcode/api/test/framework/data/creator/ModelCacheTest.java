@@ -0,0 +1,152 @@
+package io.cyborgcode.api.test.framework.data.creator;
+
+import io.cyborgcode.api.test.framework.api.dto.request.CreateUserDto;
+import io.cyborgcode.roa.framework.parameters.Late;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the single-flight sharing, the class scope and the copying of {@link ModelCache}.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+class ModelCacheTest {
+
+   @Test
+   void buildsSharedModelOnceForConcurrentCallers() throws Exception {
+      ModelCache cache = new ModelCache();
+      AtomicInteger builds = new AtomicInteger();
+      CountDownLatch building = new CountDownLatch(1);
+      CountDownLatch release = new CountDownLatch(1);
+      ExecutorService executor = Executors.newFixedThreadPool(4);
+      try {
+         List<Future<Object>> results = new ArrayList<>();
+         results.add(executor.submit(() -> cache.shared("leader", () -> {
+            builds.incrementAndGet();
+            building.countDown();
+            await(release);
+            return new CreateUserDto("Morpheus", "Leader");
+         })));
+         assertThat(building.await(5, TimeUnit.SECONDS)).isTrue();
+         for (int i = 0; i < 3; i++) {
+            results.add(executor.submit(() -> cache.shared("leader", () -> {
+               builds.incrementAndGet();
+               return new CreateUserDto("Neo", "Other");
+            })));
+         }
+         release.countDown();
+
+         Object first = results.get(0).get(5, TimeUnit.SECONDS);
+         for (Future<Object> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(first);
+         }
+         assertThat(builds).hasValue(1);
+      } finally {
+         executor.shutdownNow();
+      }
+   }
+
+   @Test
+   void buildsAgainAfterFailedBuild() {
+      ModelCache cache = new ModelCache();
+      AtomicInteger builds = new AtomicInteger();
+
+      assertThatThrownBy(() -> cache.shared("junior", () -> {
+         builds.incrementAndGet();
+         throw new IllegalStateException("users list not reachable");
+      })).isInstanceOf(IllegalStateException.class).hasMessage("users list not reachable");
+      Object model = cache.shared("junior", () -> {
+         builds.incrementAndGet();
+         return new CreateUserDto("Trinity", "Junior");
+      });
+
+      assertThat(model).isEqualTo(new CreateUserDto("Trinity", "Junior"));
+      assertThat(cache.shared("junior", () -> null)).isSameAs(model);
+      assertThat(builds).hasValue(2);
+   }
+
+   @Test
+   void releasesKeyWhenBuildThrowsAnError() {
+      ModelCache cache = new ModelCache();
+
+      assertThatThrownBy(() -> cache.shared("admin", () -> {
+         throw new AssertionError("precondition failed");
+      })).isInstanceOf(AssertionError.class);
+
+      assertThat(cache.shared("admin", () -> "built")).isEqualTo("built");
+   }
+
+   @Test
+   void sharesClassScopedModelWithinTestClassUntilReleased() {
+      AtomicInteger builds = new AtomicInteger();
+      Late<Object> factory = () -> new CreateUserDto("Morpheus", "Leader " + builds.incrementAndGet());
+      try {
+         ModelCache.enterTest(FirstTestClass.class);
+         Object first = ModelCache.get(DataCreator.USER_SENIOR, CacheScope.CLASS, factory);
+         assertThat(ModelCache.get(DataCreator.USER_SENIOR, CacheScope.CLASS, factory)).isSameAs(first);
+
+         ModelCache.enterTest(SecondTestClass.class);
+         assertThat(ModelCache.get(DataCreator.USER_SENIOR, CacheScope.CLASS, factory)).isNotSameAs(first);
+
+         ModelCache.releaseClass(FirstTestClass.class);
+         ModelCache.enterTest(FirstTestClass.class);
+         assertThat(ModelCache.get(DataCreator.USER_SENIOR, CacheScope.CLASS, factory)).isNotSameAs(first);
+      } finally {
+         ModelCache.exitTest();
+         ModelCache.releaseClass(FirstTestClass.class);
+         ModelCache.releaseClass(SecondTestClass.class);
+      }
+
+      assertThat(builds).hasValue(3);
+   }
+
+   @Test
+   void buildsClassScopedModelPerCallWithoutTestClass() {
+      AtomicInteger builds = new AtomicInteger();
+      Late<Object> factory = () -> new CreateUserDto("Neo", "Junior " + builds.incrementAndGet());
+      ModelCache.exitTest();
+
+      ModelCache.get(DataCreator.USER_SENIOR, CacheScope.CLASS, factory);
+      ModelCache.get(DataCreator.USER_SENIOR, CacheScope.CLASS, factory);
+
+      assertThat(builds).hasValue(2);
+   }
+
+   @Test
+   void copiesModelIntoIndependentInstance() {
+      CreateUserDto shared = new CreateUserDto("Morpheus", "Leader");
+
+      CreateUserDto copy = ModelCache.mutableCopy(shared);
+      copy.setJob("Captain");
+
+      assertThat(copy).isNotSameAs(shared);
+      assertThat(copy.getName()).isEqualTo("Morpheus");
+      assertThat(shared.getJob()).isEqualTo("Leader");
+      assertThat(ModelCache.mutableCopy((CreateUserDto) null)).isNull();
+   }
+
+   private static final class FirstTestClass {
+   }
+
+   private static final class SecondTestClass {
+   }
+
+   private static void await(CountDownLatch latch) {
+      try {
+         latch.await(5, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+         Thread.currentThread().interrupt();
+      }
+   }
+
+}
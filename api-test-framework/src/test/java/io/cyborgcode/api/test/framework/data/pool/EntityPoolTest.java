@@ -0,0 +1,133 @@
+package io.cyborgcode.api.test.framework.data.pool;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the refill, lease and shutdown rules of {@link EntityPool}.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+class EntityPoolTest {
+
+   private static final Duration WAIT = Duration.ofSeconds(5);
+
+   private final AtomicInteger sequence = new AtomicInteger();
+   private final List<Integer> destroyed = new CopyOnWriteArrayList<>();
+   private EntityPool<Integer> pool;
+
+   @AfterEach
+   void shutdownPool() {
+      if (pool != null) {
+         pool.shutdown(WAIT);
+      }
+   }
+
+   @Test
+   void fillsUpToSizeOnStart() {
+      pool = new EntityPool<>("entity", 4, 1, 2, sequence::incrementAndGet, destroyed::add);
+
+      awaitUntil(() -> pool.metrics().available() == 4);
+
+      assertThat(pool.metrics().created()).isEqualTo(4);
+   }
+
+   @Test
+   void refillsOnlyOnceLowWaterMarkIsReached() {
+      pool = new EntityPool<>("entity", 4, 1, 2, sequence::incrementAndGet, destroyed::add);
+      awaitUntil(() -> pool.metrics().available() == 4);
+
+      pool.lease(WAIT);
+      pool.lease(WAIT);
+      assertThat(pool.metrics().created()).isEqualTo(4);
+      assertThat(pool.metrics().available()).isEqualTo(2);
+
+      pool.lease(WAIT);
+      awaitUntil(() -> pool.metrics().available() == 4);
+
+      assertThat(pool.metrics().created()).isEqualTo(7);
+   }
+
+   @Test
+   void failsLeaseWhenNothingIsCreatedInTime() {
+      CountDownLatch release = new CountDownLatch(1);
+      pool = new EntityPool<>("entity", 1, 0, 1, () -> {
+         await(release);
+         return sequence.incrementAndGet();
+      }, destroyed::add);
+
+      assertThatThrownBy(() -> pool.lease(Duration.ofMillis(100)))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageStartingWith("No entity available in the pool within PT0.1S");
+      release.countDown();
+   }
+
+   @Test
+   void destroysReleasedEntitiesBeyondPoolSize() {
+      pool = new EntityPool<>("entity", 2, 0, 1, sequence::incrementAndGet, destroyed::add);
+      awaitUntil(() -> pool.metrics().available() == 2);
+
+      pool.release(100);
+      pool.release(101);
+      awaitUntil(() -> destroyed.size() == 2);
+
+      assertThat(destroyed).containsExactlyInAnyOrder(100, 101);
+      assertThat(pool.metrics().available()).isEqualTo(2);
+   }
+
+   @Test
+   void destroysAvailableAndLeasedEntitiesOnShutdown() {
+      pool = new EntityPool<>("entity", 3, 0, 1, sequence::incrementAndGet, destroyed::add);
+      awaitUntil(() -> pool.metrics().available() == 3);
+      Integer leased = pool.lease(WAIT);
+
+      pool.shutdown(WAIT);
+
+      assertThat(destroyed).containsExactlyInAnyOrder(1, 2, 3).contains(leased);
+      assertThatThrownBy(() -> pool.lease(Duration.ofMillis(10))).isInstanceOf(IllegalStateException.class);
+   }
+
+   @Test
+   void destroysEntitiesReleasedAfterShutdown() {
+      pool = new EntityPool<>("entity", 1, 0, 1, sequence::incrementAndGet, destroyed::add);
+      Integer leased = pool.lease(WAIT);
+      pool.shutdown(WAIT);
+      destroyed.clear();
+
+      pool.release(leased);
+
+      assertThat(destroyed).containsExactly(leased);
+   }
+
+   private static void awaitUntil(BooleanSupplier condition) {
+      long deadline = System.nanoTime() + WAIT.toNanos();
+      while (!condition.getAsBoolean()) {
+         assertThat(System.nanoTime() - deadline).as("condition not met within %s", WAIT).isNegative();
+         try {
+            TimeUnit.MILLISECONDS.sleep(5);
+         } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+         }
+      }
+   }
+
+   private static void await(CountDownLatch latch) {
+      try {
+         latch.await(5, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+         Thread.currentThread().interrupt();
+      }
+   }
+
+}
@@ -0,0 +1,64 @@
+package io.cyborgcode.api.test.framework.data.test_data;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the choice between compiled and runtime test data in {@link Data}.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+class DataTest {
+
+   @Test
+   void usesCompiledConstantsWhenCompiledProfileIsActive() {
+      Properties system = properties(CompiledTestData.PROFILE);
+
+      assertThat(Data.getTestDataConfig(system)).isSameAs(CompiledTestData.INSTANCE);
+   }
+
+   @Test
+   void usesRuntimeConfigurationForAnotherProfile() {
+      Properties system = properties(CompiledTestData.PROFILE + "-other");
+
+      assertThat(Data.getTestDataConfig(system)).isInstanceOf(DataProperties.class);
+   }
+
+   @Test
+   void usesRuntimeConfigurationWithoutActiveProfile() {
+      assertThat(Data.getTestDataConfig(new Properties())).isInstanceOf(DataProperties.class);
+   }
+
+   @Test
+   void usesRuntimeConfigurationWhenValueIsOverridden() {
+      Properties username = properties(CompiledTestData.PROFILE);
+      username.setProperty("username", "someone@reqres.in");
+      Properties password = properties(CompiledTestData.PROFILE);
+      password.setProperty("password", "secret");
+
+      assertThat(Data.getTestDataConfig(username)).isInstanceOf(DataProperties.class);
+      assertThat(Data.getTestDataConfig(password)).isInstanceOf(DataProperties.class);
+   }
+
+   @Test
+   void compilesValuesOfActiveProfileVerbatim() throws IOException {
+      Properties profile = new Properties();
+      try (InputStream file = DataTest.class.getResourceAsStream("/" + CompiledTestData.PROFILE + ".properties")) {
+         profile.load(file);
+      }
+
+      assertThat(CompiledTestData.INSTANCE.username()).isEqualTo(profile.getProperty("username"));
+      assertThat(CompiledTestData.INSTANCE.password()).isEqualTo(profile.getProperty("password"));
+   }
+
+   private static Properties properties(String testDataFile) {
+      Properties properties = new Properties();
+      properties.setProperty("test.data.file", testDataFile);
+      return properties;
+   }
+
+}
@@ -0,0 +1,37 @@
+package io.cyborgcode.api.test.framework.benchmark;
+
+import io.cyborgcode.roa.framework.quest.QuestHolder;
+import io.cyborgcode.roa.framework.quest.SuperQuest;
+
+/**
+ * Hands the quest of the running {@link BenchmarkSuiteTest} to the JMH benchmark threads.
+ * <p>
+ * Quests are created by the ROA JUnit extension, so benchmarks that exercise rings borrow the
+ * quest of the test that launched JMH in-process. {@link #attach()} also binds it to the calling
+ * benchmark thread, so code that resolves the quest through {@link QuestHolder} (e.g. Craft
+ * factories) sees the same instance.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+final class BenchmarkQuest {
+
+   private static volatile SuperQuest quest;
+
+   private BenchmarkQuest() {
+   }
+
+   static void capture(SuperQuest current) {
+      quest = current;
+   }
+
+   static SuperQuest attach() {
+      SuperQuest current = quest;
+      if (current == null) {
+         throw new IllegalStateException(
+               "No quest captured; run quest benchmarks through BenchmarkSuiteTest (-Dbenchmarks.run=true)");
+      }
+      QuestHolder.set(current);
+      return current;
+   }
+
+}
@@ -0,0 +1,74 @@
+package io.cyborgcode.api.test.framework.benchmark;
+
+import io.cyborgcode.roa.api.annotations.API;
+import io.cyborgcode.roa.framework.base.BaseQuest;
+import io.cyborgcode.roa.framework.quest.Quest;
+import io.cyborgcode.roa.framework.quest.QuestHolder;
+import io.qameta.allure.Description;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Runs the JMH benchmarks of this module in-process, against the embedded Reqres stub.
+ * <p>
+ * JMH is launched from inside a ROA test so ring benchmarks can use a real quest (see
+ * {@link BenchmarkQuest}); benchmarks therefore run without forking. Each selected benchmark is
+ * measured twice:
+ * <ul>
+ *   <li>throughput in ops/s, written to {@code target/jmh-throughput.json},</li>
+ *   <li>sampled latency (including p99) in µs/op, written to {@code target/jmh-latency.json}.</li>
+ * </ul>
+ * Both runs use the GC profiler, which adds the allocation rate ({@code gc.alloc.rate.norm}, bytes/op).
+ * <p>
+ * Disabled unless {@code benchmarks.run=true}:
+ * <pre>{@code
+ * mvn -pl benchmarks -am test -Dbenchmarks.run=true [-Dbenchmarks.include=QuestPipelineBenchmark]
+ * }</pre>
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+@API
+@EnabledIfSystemProperty(named = "benchmarks.run", matches = "true")
+class BenchmarkSuiteTest extends BaseQuest {
+
+   private static final String DEFAULT_INCLUDE = BenchmarkSuiteTest.class.getPackageName() + ".*Benchmark";
+
+   @Test
+   @Description("Runs the module JMH benchmarks and reports ops/s, allocation rate and p99 latency.")
+   void runsBenchmarks(Quest quest) throws RunnerException {
+      BenchmarkQuest.capture(QuestHolder.get());
+      String include = System.getProperty("benchmarks.include", DEFAULT_INCLUDE);
+
+      Collection<RunResult> throughput = new Runner(options(include, Mode.Throughput, TimeUnit.SECONDS, "throughput")).run();
+      Collection<RunResult> latency = new Runner(options(include, Mode.SampleTime, TimeUnit.MICROSECONDS, "latency")).run();
+
+      assertFalse(throughput.isEmpty(), "No throughput results for " + include);
+      assertFalse(latency.isEmpty(), "No latency results for " + include);
+   }
+
+   private static Options options(String include, Mode mode, TimeUnit timeUnit, String report) {
+      return new OptionsBuilder()
+            .include(include)
+            .forks(0)
+            .threads(1)
+            .mode(mode)
+            .timeUnit(timeUnit)
+            .addProfiler(GCProfiler.class)
+            .resultFormat(ResultFormatType.JSON)
+            .result("target/jmh-" + report + ".json")
+            .build();
+   }
+
+}
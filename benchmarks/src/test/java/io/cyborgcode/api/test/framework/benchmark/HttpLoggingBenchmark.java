@@ -0,0 +1,89 @@
+package io.cyborgcode.api.test.framework.benchmark;
+
+import io.cyborgcode.api.test.framework.api.logging.AsyncLoggingFilter;
+import io.restassured.RestAssured;
+import io.restassured.filter.Filter;
+import io.restassured.filter.log.LogDetail;
+import io.restassured.filter.log.RequestLoggingFilter;
+import io.restassured.filter.log.ResponseLoggingFilter;
+import io.restassured.response.Response;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import static io.cyborgcode.api.test.framework.api.AppEndpoints.GET_ALL_USERS;
+import static io.cyborgcode.api.test.framework.data.constants.QueryParams.PAGE_PARAM;
+import static io.cyborgcode.api.test.framework.data.constants.TestConstants.Pagination.PAGE_TWO;
+
+/**
+ * Measures the per-request cost of HTTP exchange logging on the calling thread.
+ * <p>
+ * Each invocation sends {@code GET_ALL_USERS} to the Reqres stub with one of the logging modes:
+ * <ul>
+ *   <li>{@code OFF} – no logging filter, the baseline,</li>
+ *   <li>{@code SYNCHRONOUS} – RestAssured request and response logging with {@link LogDetail#ALL},
+ *       formatted on the calling thread (written to a discarding stream, so only formatting is measured),</li>
+ *   <li>{@code ASYNCHRONOUS} – {@link AsyncLoggingFilter}, which only captures the exchange and hands
+ *       it to the background writer.</li>
+ * </ul>
+ * Run through {@link BenchmarkSuiteTest} or from the IDE via {@link #main(String[])}.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HttpLoggingBenchmark {
+
+   @Param({"OFF", "SYNCHRONOUS", "ASYNCHRONOUS"})
+   private String logging;
+
+   private List<Filter> filters;
+
+   @Setup
+   public void setUp() {
+      PrintStream discard = new PrintStream(OutputStream.nullOutputStream());
+      filters = switch (logging) {
+         case "SYNCHRONOUS" -> List.of(
+               new RequestLoggingFilter(LogDetail.ALL, discard),
+               new ResponseLoggingFilter(LogDetail.ALL, discard));
+         case "ASYNCHRONOUS" -> List.of(AsyncLoggingFilter.instance());
+         default -> List.of();
+      };
+   }
+
+   @Benchmark
+   public Response request() {
+      return RestAssured.given()
+            .spec(GET_ALL_USERS.defaultConfiguration())
+            .filters(filters)
+            .queryParam(PAGE_PARAM, PAGE_TWO)
+            .get(GET_ALL_USERS.url());
+   }
+
+   public static void main(String[] args) throws RunnerException {
+      new Runner(new OptionsBuilder()
+            .include(HttpLoggingBenchmark.class.getSimpleName())
+            .build())
+            .run();
+   }
+
+}
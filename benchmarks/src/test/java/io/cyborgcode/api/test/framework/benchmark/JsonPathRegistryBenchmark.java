@@ -0,0 +1,112 @@
+package io.cyborgcode.api.test.framework.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.path.json.JsonPath;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import static io.cyborgcode.api.test.framework.api.extractors.ApiResponsesJsonPaths.DATA;
+import static io.cyborgcode.api.test.framework.api.extractors.ApiResponsesJsonPaths.PER_PAGE;
+import static io.cyborgcode.api.test.framework.api.extractors.ApiResponsesJsonPaths.SUPPORT_TEXT;
+import static io.cyborgcode.api.test.framework.api.extractors.ApiResponsesJsonPaths.SUPPORT_URL;
+import static io.cyborgcode.api.test.framework.api.extractors.ApiResponsesJsonPaths.TOTAL;
+import static io.cyborgcode.api.test.framework.api.extractors.ApiResponsesJsonPaths.TOTAL_PAGES;
+import static io.cyborgcode.api.test.framework.api.extractors.ApiResponsesJsonPaths.USER_AVATAR_BY_INDEX;
+import static io.cyborgcode.api.test.framework.api.extractors.ApiResponsesJsonPaths.USER_FIRST_NAME;
+import static io.cyborgcode.api.test.framework.api.extractors.ApiResponsesJsonPaths.USER_ID;
+
+/**
+ * Compares the string-based JSON path lookups with the precompiled pointer registry.
+ * <p>
+ * Both variants resolve the body keys used by {@code AssertionProfile.USERS_PAGE_TWO}
+ * against the same page-two users payload:
+ * <ul>
+ *   <li>{@code stringPaths} formats every indexed path with {@link String#format} and evaluates it
+ *       through RestAssured's {@link JsonPath}, as the assertions do today,</li>
+ *   <li>{@code compiledPaths} parses the body once and reads precompiled, per-index cached pointers.</li>
+ * </ul>
+ * Run through {@link BenchmarkSuiteTest} or from the IDE via {@link #main(String[])}.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonPathRegistryBenchmark {
+
+   private static final ObjectMapper MAPPER = new ObjectMapper();
+
+   private byte[] body;
+
+   @Setup
+   public void loadBody() throws IOException {
+      try (InputStream in = JsonPathRegistryBenchmark.class.getResourceAsStream("/benchmark/users-page-2.json")) {
+         body = in.readAllBytes();
+      }
+   }
+
+   @Benchmark
+   public void formatIndexedPath(Blackhole blackhole) {
+      blackhole.consume(String.format("data[%d].first_name", 0));
+   }
+
+   @Benchmark
+   public void cachedIndexedPath(Blackhole blackhole) {
+      blackhole.consume(USER_FIRST_NAME.getJsonPath(0));
+   }
+
+   @Benchmark
+   public void stringPaths(Blackhole blackhole) {
+      JsonPath jsonPath = JsonPath.from(new String(body));
+      blackhole.consume(jsonPath.get(TOTAL.getJsonPath()));
+      blackhole.consume(jsonPath.get(TOTAL_PAGES.getJsonPath()));
+      blackhole.consume(jsonPath.get(PER_PAGE.getJsonPath()));
+      blackhole.consume(jsonPath.get(SUPPORT_URL.getJsonPath()));
+      blackhole.consume(jsonPath.get(SUPPORT_TEXT.getJsonPath()));
+      blackhole.consume(jsonPath.get(String.format("data[%d].avatar", 0)));
+      blackhole.consume(jsonPath.get(String.format("data[%d].id", 0)));
+      blackhole.consume(jsonPath.get(String.format("data[%d].first_name", 0)));
+      blackhole.consume(jsonPath.get(DATA.getJsonPath()));
+   }
+
+   @Benchmark
+   public void compiledPaths(Blackhole blackhole) throws IOException {
+      JsonNode document = MAPPER.readTree(body);
+      blackhole.consume(TOTAL.read(document));
+      blackhole.consume(TOTAL_PAGES.read(document));
+      blackhole.consume(PER_PAGE.read(document));
+      blackhole.consume(SUPPORT_URL.read(document));
+      blackhole.consume(SUPPORT_TEXT.read(document));
+      blackhole.consume(USER_AVATAR_BY_INDEX.read(document, 0));
+      blackhole.consume(USER_ID.read(document, 0));
+      blackhole.consume(USER_FIRST_NAME.read(document, 0));
+      blackhole.consume(DATA.read(document));
+   }
+
+   public static void main(String[] args) throws RunnerException {
+      new Runner(new OptionsBuilder()
+            .include(JsonPathRegistryBenchmark.class.getSimpleName())
+            .build())
+            .run();
+   }
+
+}
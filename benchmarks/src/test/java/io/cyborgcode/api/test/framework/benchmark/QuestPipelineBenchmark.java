@@ -0,0 +1,122 @@
+package io.cyborgcode.api.test.framework.benchmark;
+
+import io.cyborgcode.api.test.framework.api.dto.response.GetUsersDto;
+import io.cyborgcode.api.test.framework.api.storage.ResponseViews;
+import io.cyborgcode.api.test.framework.api.validation.AssertionProfile;
+import io.cyborgcode.api.test.framework.data.creator.DataCreator;
+import io.cyborgcode.roa.api.storage.StorageKeysApi;
+import io.cyborgcode.roa.framework.quest.SuperQuest;
+import io.cyborgcode.roa.validator.core.Assertion;
+import io.restassured.response.Response;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static io.cyborgcode.api.test.framework.api.AppEndpoints.GET_ALL_USERS;
+import static io.cyborgcode.api.test.framework.base.Rings.RING_OF_API;
+import static io.cyborgcode.api.test.framework.data.constants.QueryParams.PAGE_PARAM;
+import static io.cyborgcode.api.test.framework.data.constants.TestConstants.Pagination.PAGE_TWO;
+import static io.cyborgcode.roa.api.validator.RestAssertionTarget.STATUS;
+import static io.cyborgcode.roa.validator.core.AssertionTypes.IS;
+import static org.apache.http.HttpStatus.SC_OK;
+
+/**
+ * Benchmarks of the quest pipeline: {@code quest.use(RING_OF_API)} requests against the embedded
+ * Reqres stub, and the per-response work that tests do on top of them.
+ * <ul>
+ *   <li>{@code request} – request plus the storage write of the response,</li>
+ *   <li>{@code requestAndValidateStatus} / {@code requestAndValidateUsersPageTwo} – the same request
+ *       validated by {@code RING_OF_API} with one assertion versus the 19 assertions of
+ *       {@link AssertionProfile#USERS_PAGE_TWO},</li>
+ *   <li>{@code storageWrite} – storing an already received response under its endpoint key,</li>
+ *   <li>{@code mapGetUsersDto} / {@code mapGetUsersDtoMemoized} – mapping the stored response to
+ *       {@link GetUsersDto} directly and through {@link ResponseViews},</li>
+ *   <li>{@code materializeLeaderUser} / {@code materializeJuniorUser} – Craft/Late materialization of a
+ *       constant model and of a model derived from stored responses.</li>
+ * </ul>
+ * Requires a quest, so it only runs through {@link BenchmarkSuiteTest}.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(0)
+public class QuestPipelineBenchmark {
+
+   private static final Assertion[] USERS_PAGE_TWO_ASSERTIONS =
+         AssertionProfile.USERS_PAGE_TWO.assertions().toArray(Assertion[]::new);
+
+   private SuperQuest quest;
+   private Response storedResponse;
+
+   @Setup(Level.Trial)
+   public void attachQuest() {
+      quest = BenchmarkQuest.attach();
+      quest.use(RING_OF_API).request(GET_ALL_USERS.withQueryParam(PAGE_PARAM, PAGE_TWO));
+      storedResponse = quest.getStorage()
+            .sub(StorageKeysApi.API)
+            .get(GET_ALL_USERS, Response.class);
+   }
+
+   @Benchmark
+   public Object request() {
+      return quest.use(RING_OF_API)
+            .request(GET_ALL_USERS.withQueryParam(PAGE_PARAM, PAGE_TWO));
+   }
+
+   @Benchmark
+   public Object requestAndValidateStatus() {
+      return quest.use(RING_OF_API)
+            .requestAndValidate(
+                  GET_ALL_USERS.withQueryParam(PAGE_PARAM, PAGE_TWO),
+                  Assertion.builder().target(STATUS).type(IS).expected(SC_OK).build()
+            );
+   }
+
+   @Benchmark
+   public Object requestAndValidateUsersPageTwo() {
+      return quest.use(RING_OF_API)
+            .requestAndValidate(GET_ALL_USERS.withQueryParam(PAGE_PARAM, PAGE_TWO), USERS_PAGE_TWO_ASSERTIONS);
+   }
+
+   @Benchmark
+   public Object storageWrite() {
+      quest.getStorage()
+            .sub(StorageKeysApi.API)
+            .put(GET_ALL_USERS, storedResponse);
+      return storedResponse;
+   }
+
+   @Benchmark
+   public GetUsersDto mapGetUsersDto() {
+      return storedResponse.getBody().as(GetUsersDto.class);
+   }
+
+   @Benchmark
+   public GetUsersDto mapGetUsersDtoMemoized() {
+      return ResponseViews.retrieve(quest, GET_ALL_USERS, GetUsersDto.class);
+   }
+
+   @Benchmark
+   public Object materializeLeaderUser() {
+      return DataCreator.USER_LEADER.dataCreator().create();
+   }
+
+   @Benchmark
+   public Object materializeJuniorUser() {
+      return DataCreator.USER_JUNIOR.dataCreator().create();
+   }
+
+}
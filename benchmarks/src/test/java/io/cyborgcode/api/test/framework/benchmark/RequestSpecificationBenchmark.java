@@ -0,0 +1,96 @@
+package io.cyborgcode.api.test.framework.benchmark;
+
+import io.cyborgcode.api.test.framework.api.AppEndpoints;
+import io.cyborgcode.roa.api.core.Endpoint;
+import io.restassured.http.Method;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the per-request cost of the project settings {@link AppEndpoints} adds to the framework
+ * default specification, against the number of requests issued.
+ * <p>
+ * For every {@code requestCount}, each benchmark produces that many specifications for
+ * {@code GET_ALL_USERS} with a page query parameter:
+ * <ul>
+ *   <li>{@code frameworkDefault} builds the framework default configuration only,</li>
+ *   <li>{@code withProjectSettings} builds the ready-to-send specification of {@link AppEndpoints}: the
+ *       framework default plus the pooled transport configuration, content type, {@code x-api-key}
+ *       header and the filter chain resolved once per constant.</li>
+ * </ul>
+ * The difference between the two is the overhead every request pays for the project settings.
+ * <p>
+ * Run through {@link BenchmarkSuiteTest} or from the IDE via {@link #main(String[])}.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestSpecificationBenchmark {
+
+   @Param({"1", "10", "100", "1000"})
+   private int requestCount;
+
+   @Benchmark
+   public void frameworkDefault(Blackhole blackhole) {
+      for (int i = 0; i < requestCount; i++) {
+         blackhole.consume(BaselineEndpoint.GET_ALL_USERS.defaultConfiguration().queryParam("page", i));
+      }
+   }
+
+   @Benchmark
+   public void withProjectSettings(Blackhole blackhole) {
+      for (int i = 0; i < requestCount; i++) {
+         blackhole.consume(AppEndpoints.GET_ALL_USERS.defaultConfiguration().queryParam("page", i));
+      }
+   }
+
+   public static void main(String[] args) throws RunnerException {
+      new Runner(new OptionsBuilder()
+            .include(RequestSpecificationBenchmark.class.getSimpleName())
+            .build())
+            .run();
+   }
+
+   /**
+    * Baseline endpoint that keeps the framework default configuration as is.
+    */
+   enum BaselineEndpoint implements Endpoint<BaselineEndpoint> {
+
+      GET_ALL_USERS;
+
+      @Override
+      public Method method() {
+         return Method.GET;
+      }
+
+      @Override
+      public String url() {
+         return "/users";
+      }
+
+      @Override
+      public BaselineEndpoint enumImpl() {
+         return this;
+      }
+
+   }
+
+}
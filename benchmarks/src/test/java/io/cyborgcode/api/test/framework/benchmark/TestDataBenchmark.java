@@ -0,0 +1,75 @@
+package io.cyborgcode.api.test.framework.benchmark;
+
+import io.cyborgcode.api.test.framework.data.test_data.CompiledTestData;
+import io.cyborgcode.api.test.framework.data.test_data.DataProperties;
+import java.util.concurrent.TimeUnit;
+import org.aeonbits.owner.ConfigCache;
+import org.aeonbits.owner.ConfigFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares runtime-resolved and build-time compiled test data:
+ * <ul>
+ *   <li>{@code ownerStartup} creates a new {@link DataProperties} proxy, which locates and loads the
+ *       {@code test.data.file} properties, as happens once per JVM on first use,</li>
+ *   <li>{@code ownerAccessor} reads both values through the cached proxy,</li>
+ *   <li>{@code compiledAccessor} reads both values from {@link CompiledTestData}, which has no
+ *       startup step at all.</li>
+ * </ul>
+ * Run through {@link BenchmarkSuiteTest} or from the IDE via {@link #main(String[])}.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TestDataBenchmark {
+
+   private DataProperties cached;
+
+   @Setup
+   public void setUp() {
+      cached = ConfigCache.getOrCreate(DataProperties.class);
+   }
+
+   @Benchmark
+   public DataProperties ownerStartup() {
+      return ConfigFactory.create(DataProperties.class);
+   }
+
+   @Benchmark
+   public void ownerAccessor(Blackhole blackhole) {
+      blackhole.consume(cached.username());
+      blackhole.consume(cached.password());
+   }
+
+   @Benchmark
+   public void compiledAccessor(Blackhole blackhole) {
+      blackhole.consume(CompiledTestData.INSTANCE.username());
+      blackhole.consume(CompiledTestData.INSTANCE.password());
+   }
+
+   public static void main(String[] args) throws RunnerException {
+      new Runner(new OptionsBuilder()
+            .include(TestDataBenchmark.class.getSimpleName())
+            .build())
+            .run();
+   }
+
+}
@@ -0,0 +1,45 @@
+package io.cyborgcode.reqres.stub;
+
+import org.junit.platform.launcher.LauncherSession;
+import org.junit.platform.launcher.LauncherSessionListener;
+
+/**
+ * Starts the Reqres stub for the duration of a JUnit Platform launcher session.
+ * <p>
+ * Registered through {@code META-INF/services}, so a module that has this artifact on its test
+ * classpath (the {@code local} profile of {@code api-test-framework}) gets the stub started before the
+ * first test and stopped after the last one. Set {@code reqres.stub.autostart=false} to use an already
+ * running instance instead.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public class ReqresStubLauncherListener implements LauncherSessionListener {
+
+   private static final System.Logger LOGGER = System.getLogger(ReqresStubLauncherListener.class.getName());
+
+   private ReqresStubServer server;
+
+   @Override
+   public void launcherSessionOpened(LauncherSession session) {
+      if (!Boolean.parseBoolean(System.getProperty("reqres.stub.autostart", "true"))) {
+         return;
+      }
+      ReqresStubServer stub = new ReqresStubServer(StubSettings.fromSystemProperties());
+      try {
+         stub.start();
+         server = stub;
+      } catch (IllegalStateException e) {
+         LOGGER.log(System.Logger.Level.WARNING, "Reqres stub not started, expecting a running instance: {0}",
+               e.getMessage());
+      }
+   }
+
+   @Override
+   public void launcherSessionClosed(LauncherSession session) {
+      if (server != null) {
+         server.stop();
+         server = null;
+      }
+   }
+
+}
@@ -0,0 +1,255 @@
+package io.cyborgcode.reqres.stub;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Embedded stand-in for the subset of the Reqres API used by {@code AppEndpoints}.
+ * <p>
+ * Serves, under the {@code /api} context:
+ * <ul>
+ *   <li>{@code GET /users?page=N} – paginated user list,</li>
+ *   <li>{@code GET /users/{id}} – single user, {@code 404} for unknown ids,</li>
+ *   <li>{@code POST /users} – echoes {@code name} and {@code job} with an id and {@code createdAt},</li>
+ *   <li>{@code POST /login} – token for registered users, {@code 400} with an {@code error} otherwise,</li>
+ *   <li>{@code DELETE /users/{id}} – {@code 204}.</li>
+ * </ul>
+ * Successful {@code GET} responses carry a strong {@code ETag} derived from the body; a request whose
+ * {@code If-None-Match} matches it is answered with {@code 304} and no body.
+ * Latency, error injection and payload padding are controlled by {@link StubSettings}.
+ * Run standalone with {@link #main(String[])} or let {@link ReqresStubLauncherListener} start it for a
+ * test run.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class ReqresStubServer {
+
+   private static final System.Logger LOGGER = System.getLogger(ReqresStubServer.class.getName());
+   private static final ObjectMapper MAPPER = new ObjectMapper();
+   private static final String CONTEXT = "/api";
+   private static final Pattern USER_BY_ID = Pattern.compile("^/api/users/(\\d+)/?$");
+   private static final Pattern USERS = Pattern.compile("^/api/users/?$");
+   private static final Pattern LOGIN = Pattern.compile("^/api/login/?$");
+
+   private final StubSettings settings;
+   private final AtomicInteger createdIds = new AtomicInteger(100);
+   private HttpServer server;
+   private ExecutorService executor;
+
+   public ReqresStubServer(StubSettings settings) {
+      this.settings = settings;
+   }
+
+   public static void main(String[] args) {
+      ReqresStubServer stub = new ReqresStubServer(StubSettings.fromSystemProperties());
+      stub.start();
+      Runtime.getRuntime().addShutdownHook(new Thread(stub::stop, "reqres-stub-shutdown"));
+   }
+
+   public synchronized void start() {
+      if (server != null) {
+         return;
+      }
+      try {
+         server = HttpServer.create(new InetSocketAddress("localhost", settings.port()), 0);
+      } catch (IOException e) {
+         throw new IllegalStateException("Cannot bind Reqres stub to port " + settings.port(), e);
+      }
+      AtomicInteger counter = new AtomicInteger();
+      executor = Executors.newFixedThreadPool(settings.threads(), runnable -> {
+         Thread thread = new Thread(runnable, "reqres-stub-" + counter.incrementAndGet());
+         thread.setDaemon(true);
+         return thread;
+      });
+      server.setExecutor(executor);
+      server.createContext(CONTEXT, this::handle);
+      server.start();
+      LOGGER.log(System.Logger.Level.INFO, "Reqres stub listening on {0}", baseUrl());
+   }
+
+   public synchronized void stop() {
+      if (server == null) {
+         return;
+      }
+      server.stop(0);
+      executor.shutdownNow();
+      server = null;
+      executor = null;
+   }
+
+   public String baseUrl() {
+      return "http://localhost:" + port() + CONTEXT;
+   }
+
+   public int port() {
+      return server != null ? server.getAddress().getPort() : settings.port();
+   }
+
+   private void handle(HttpExchange exchange) throws IOException {
+      try (exchange) {
+         delay();
+         if (settings.errorRate() > 0 && ThreadLocalRandom.current().nextDouble() < settings.errorRate()) {
+            send(exchange, settings.errorStatus(), Map.of("error", "Injected failure"));
+            return;
+         }
+         route(exchange);
+      } catch (InterruptedException e) {
+         Thread.currentThread().interrupt();
+      }
+   }
+
+   private void route(HttpExchange exchange) throws IOException {
+      String method = exchange.getRequestMethod();
+      String path = exchange.getRequestURI().getPath();
+      Matcher byId = USER_BY_ID.matcher(path);
+
+      if (USERS.matcher(path).matches() && "GET".equals(method)) {
+         listUsers(exchange);
+      } else if (USERS.matcher(path).matches() && "POST".equals(method)) {
+         createUser(exchange);
+      } else if (byId.matches() && "GET".equals(method)) {
+         getUser(exchange, Integer.parseInt(byId.group(1)));
+      } else if (byId.matches() && "DELETE".equals(method)) {
+         exchange.sendResponseHeaders(204, -1);
+      } else if (LOGIN.matcher(path).matches() && "POST".equals(method)) {
+         login(exchange);
+      } else {
+         send(exchange, 404, Map.of());
+      }
+   }
+
+   private void listUsers(HttpExchange exchange) throws IOException {
+      int page = queryInt(exchange, "page").orElse(1);
+      Map<String, Object> body = new LinkedHashMap<>();
+      body.put("page", page);
+      body.put("per_page", Users.PER_PAGE);
+      body.put("total", Users.total());
+      body.put("total_pages", Users.totalPages());
+      body.put("data", Users.page(page));
+      body.put("support", Users.SUPPORT);
+      send(exchange, 200, body);
+   }
+
+   private void getUser(HttpExchange exchange, int id) throws IOException {
+      Optional<Map<String, Object>> user = Users.byId(id);
+      if (user.isEmpty()) {
+         send(exchange, 404, Map.of());
+         return;
+      }
+      Map<String, Object> body = new LinkedHashMap<>();
+      body.put("data", user.get());
+      body.put("support", Users.SUPPORT);
+      send(exchange, 200, body);
+   }
+
+   private void createUser(HttpExchange exchange) throws IOException {
+      JsonNode request = readBody(exchange);
+      Map<String, Object> body = new LinkedHashMap<>();
+      request.fields().forEachRemaining(field -> body.put(field.getKey(), field.getValue()));
+      body.put("id", String.valueOf(createdIds.incrementAndGet()));
+      body.put("createdAt", Instant.now().truncatedTo(ChronoUnit.MILLIS).toString());
+      send(exchange, 201, body);
+   }
+
+   private void login(HttpExchange exchange) throws IOException {
+      JsonNode request = readBody(exchange);
+      String email = request.path("email").asText(request.path("username").asText(""));
+      String password = request.path("password").asText("");
+      if (email.isEmpty()) {
+         send(exchange, 400, Map.of("error", "Missing email or username"));
+      } else if (password.isEmpty()) {
+         send(exchange, 400, Map.of("error", "Missing password"));
+      } else if (!Users.isRegistered(email)) {
+         send(exchange, 400, Map.of("error", "user not found"));
+      } else {
+         send(exchange, 200, Map.of("token", Users.LOGIN_TOKEN));
+      }
+   }
+
+   private void delay() throws InterruptedException {
+      long delay = settings.latencyMillis();
+      if (settings.latencyJitterMillis() > 0) {
+         delay += ThreadLocalRandom.current().nextLong(settings.latencyJitterMillis() + 1);
+      }
+      if (delay > 0) {
+         TimeUnit.MILLISECONDS.sleep(delay);
+      }
+   }
+
+   private JsonNode readBody(HttpExchange exchange) throws IOException {
+      try (InputStream in = exchange.getRequestBody()) {
+         byte[] bytes = in.readAllBytes();
+         return bytes.length == 0 ? MAPPER.createObjectNode() : MAPPER.readTree(bytes);
+      }
+   }
+
+   private void send(HttpExchange exchange, int status, Map<String, Object> body) throws IOException {
+      Map<String, Object> payload = body;
+      if (settings.paddingBytes() > 0) {
+         payload = new LinkedHashMap<>(body);
+         payload.put("_padding", "x".repeat(settings.paddingBytes()));
+      }
+      byte[] bytes = MAPPER.writeValueAsBytes(payload);
+      if (status == 200 && "GET".equals(exchange.getRequestMethod())) {
+         String etag = etag(bytes);
+         exchange.getResponseHeaders().set("ETag", etag);
+         if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+            exchange.sendResponseHeaders(304, -1);
+            return;
+         }
+      }
+      exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+      exchange.sendResponseHeaders(status, bytes.length);
+      try (OutputStream out = exchange.getResponseBody()) {
+         out.write(bytes);
+      }
+   }
+
+   private static String etag(byte[] body) {
+      try {
+         return '"' + HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body), 0, 16) + '"';
+      } catch (NoSuchAlgorithmException e) {
+         throw new IllegalStateException(e);
+      }
+   }
+
+   private static Optional<Integer> queryInt(HttpExchange exchange, String name) {
+      String query = exchange.getRequestURI().getRawQuery();
+      if (query == null) {
+         return Optional.empty();
+      }
+      for (String pair : query.split("&")) {
+         int eq = pair.indexOf('=');
+         if (eq > 0 && pair.substring(0, eq).equals(name)) {
+            try {
+               return Optional.of(Integer.parseInt(pair.substring(eq + 1)));
+            } catch (NumberFormatException e) {
+               return Optional.empty();
+            }
+         }
+      }
+      return Optional.empty();
+   }
+
+}
@@ -0,0 +1,41 @@
+package io.cyborgcode.reqres.stub;
+
+/**
+ * Runtime settings of the Reqres stand-in server, read from system properties.
+ * <ul>
+ *   <li>{@code reqres.stub.port} – listening port (default {@code 8089}).</li>
+ *   <li>{@code reqres.stub.threads} – request handler threads (default {@code 32}).</li>
+ *   <li>{@code reqres.stub.latency.ms} – fixed delay added to every response (default {@code 0}).</li>
+ *   <li>{@code reqres.stub.latency.jitter.ms} – random extra delay up to this value (default {@code 0}).</li>
+ *   <li>{@code reqres.stub.error.rate} – share of requests answered with an error, {@code 0.0}–{@code 1.0}
+ *       (default {@code 0.0}).</li>
+ *   <li>{@code reqres.stub.error.status} – status code of injected errors (default {@code 503}).</li>
+ *   <li>{@code reqres.stub.payload.padding.bytes} – size of an extra {@code _padding} field added to
+ *       JSON responses, to simulate larger payloads (default {@code 0}).</li>
+ * </ul>
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public record StubSettings(int port, int threads, long latencyMillis, long latencyJitterMillis,
+                           double errorRate, int errorStatus, int paddingBytes) {
+
+   public static final int DEFAULT_PORT = 8089;
+
+   public StubSettings {
+      if (errorRate < 0.0 || errorRate > 1.0) {
+         throw new IllegalArgumentException("reqres.stub.error.rate must be between 0.0 and 1.0: " + errorRate);
+      }
+   }
+
+   public static StubSettings fromSystemProperties() {
+      return new StubSettings(
+            Integer.getInteger("reqres.stub.port", DEFAULT_PORT),
+            Integer.getInteger("reqres.stub.threads", 32),
+            Long.getLong("reqres.stub.latency.ms", 0L),
+            Long.getLong("reqres.stub.latency.jitter.ms", 0L),
+            Double.parseDouble(System.getProperty("reqres.stub.error.rate", "0.0")),
+            Integer.getInteger("reqres.stub.error.status", 503),
+            Integer.getInteger("reqres.stub.payload.padding.bytes", 0));
+   }
+
+}
@@ -0,0 +1,76 @@
+package io.cyborgcode.reqres.stub;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The canonical Reqres user data set served by the stub.
+ * <p>
+ * Mirrors the twelve users of the public API, so the expectations in the example suite
+ * (page two contents, user three e-mail, login credentials) hold against the stub as well.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+final class Users {
+
+   static final int PER_PAGE = 6;
+   static final String LOGIN_TOKEN = "QpwL5tke4Pnpja7X4";
+   static final Map<String, Object> SUPPORT = Map.of(
+         "url", "https://contentcaddy.io?utm_source=reqres&utm_medium=json&utm_campaign=referral",
+         "text", "Tired of writing endless social media content? Let Content Caddy generate it for you.");
+
+   private static final List<Map<String, Object>> ALL = List.of(
+         user(1, "george.bluth", "George", "Bluth"),
+         user(2, "janet.weaver", "Janet", "Weaver"),
+         user(3, "emma.wong", "Emma", "Wong"),
+         user(4, "eve.holt", "Eve", "Holt"),
+         user(5, "charles.morris", "Charles", "Morris"),
+         user(6, "tracey.ramos", "Tracey", "Ramos"),
+         user(7, "michael.lawson", "Michael", "Lawson"),
+         user(8, "lindsay.ferguson", "Lindsay", "Ferguson"),
+         user(9, "tobias.funke", "Tobias", "Funke"),
+         user(10, "byron.fields", "Byron", "Fields"),
+         user(11, "george.edwards", "George", "Edwards"),
+         user(12, "rachel.howell", "Rachel", "Howell"));
+
+   private Users() {
+   }
+
+   static int total() {
+      return ALL.size();
+   }
+
+   static int totalPages() {
+      return (ALL.size() + PER_PAGE - 1) / PER_PAGE;
+   }
+
+   static List<Map<String, Object>> page(int page) {
+      int from = Math.max(0, (page - 1) * PER_PAGE);
+      if (from >= ALL.size()) {
+         return List.of();
+      }
+      return ALL.subList(from, Math.min(from + PER_PAGE, ALL.size()));
+   }
+
+   static Optional<Map<String, Object>> byId(int id) {
+      return id >= 1 && id <= ALL.size() ? Optional.of(ALL.get(id - 1)) : Optional.empty();
+   }
+
+   static boolean isRegistered(String email) {
+      return ALL.stream().anyMatch(user -> user.get("email").equals(email));
+   }
+
+   private static Map<String, Object> user(int id, String login, String firstName, String lastName) {
+      Map<String, Object> user = new LinkedHashMap<>();
+      user.put("id", id);
+      user.put("email", login + "@reqres.in");
+      user.put("first_name", firstName);
+      user.put("last_name", lastName);
+      user.put("avatar", "https://reqres.in/img/faces/" + id + "-image.jpg");
+      return Collections.unmodifiableMap(user);
+   }
+
+}
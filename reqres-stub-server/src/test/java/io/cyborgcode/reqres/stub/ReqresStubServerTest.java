@@ -0,0 +1,182 @@
+package io.cyborgcode.reqres.stub;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the routes, error injection and conditional {@code GET} support of {@link ReqresStubServer}.
+ * Every test starts its own stub on an ephemeral port.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+class ReqresStubServerTest {
+
+   private static final ObjectMapper MAPPER = new ObjectMapper();
+   private static final HttpClient CLIENT = HttpClient.newHttpClient();
+
+   private final List<ReqresStubServer> servers = new ArrayList<>();
+
+   @AfterEach
+   void stopServers() {
+      servers.forEach(ReqresStubServer::stop);
+   }
+
+   @Test
+   void listsUsersPageByPage() throws Exception {
+      ReqresStubServer stub = start(settings(0.0, 0L));
+
+      HttpResponse<String> response = send(get(stub, "/users?page=2"));
+      JsonNode body = MAPPER.readTree(response.body());
+
+      assertEquals(200, response.statusCode());
+      assertEquals(2, body.path("page").asInt());
+      assertEquals(12, body.path("total").asInt());
+      assertEquals(2, body.path("total_pages").asInt());
+      assertEquals(6, body.path("data").size());
+      assertEquals(7, body.path("data").get(0).path("id").asInt());
+   }
+
+   @Test
+   void returnsSingleUserAndNotFoundForUnknownIds() throws Exception {
+      ReqresStubServer stub = start(settings(0.0, 0L));
+
+      HttpResponse<String> known = send(get(stub, "/users/3"));
+      HttpResponse<String> unknown = send(get(stub, "/users/23"));
+
+      assertEquals(200, known.statusCode());
+      assertEquals("emma.wong@reqres.in", MAPPER.readTree(known.body()).path("data").path("email").asText());
+      assertEquals(404, unknown.statusCode());
+   }
+
+   @Test
+   void createsUserWithIdAndTimestamp() throws Exception {
+      ReqresStubServer stub = start(settings(0.0, 0L));
+
+      HttpResponse<String> response = send(post(stub, "/users", "{\"name\":\"Morpheus\",\"job\":\"Leader\"}"));
+      JsonNode body = MAPPER.readTree(response.body());
+
+      assertEquals(201, response.statusCode());
+      assertEquals("Morpheus", body.path("name").asText());
+      assertEquals("Leader", body.path("job").asText());
+      assertFalse(body.path("id").asText().isEmpty());
+      assertFalse(body.path("createdAt").asText().isEmpty());
+   }
+
+   @Test
+   void logsInRegisteredUsersOnly() throws Exception {
+      ReqresStubServer stub = start(settings(0.0, 0L));
+
+      HttpResponse<String> registered = send(post(stub, "/login",
+            "{\"email\":\"eve.holt@reqres.in\",\"password\":\"cityslicka\"}"));
+      HttpResponse<String> unknown = send(post(stub, "/login",
+            "{\"email\":\"nobody@reqres.in\",\"password\":\"secret\"}"));
+      HttpResponse<String> missingPassword = send(post(stub, "/login", "{\"email\":\"eve.holt@reqres.in\"}"));
+
+      assertEquals(200, registered.statusCode());
+      assertEquals(Users.LOGIN_TOKEN, MAPPER.readTree(registered.body()).path("token").asText());
+      assertEquals(400, unknown.statusCode());
+      assertEquals(400, missingPassword.statusCode());
+      assertEquals("Missing password", MAPPER.readTree(missingPassword.body()).path("error").asText());
+   }
+
+   @Test
+   void deletesUsersWithNoContent() throws Exception {
+      ReqresStubServer stub = start(settings(0.0, 0L));
+
+      HttpResponse<String> response = send(request(stub, "/users/2").DELETE().build());
+
+      assertEquals(204, response.statusCode());
+   }
+
+   @Test
+   void answersEveryRequestWithInjectedErrorAtFullErrorRate() throws Exception {
+      ReqresStubServer stub = start(settings(1.0, 0L));
+
+      for (int i = 0; i < 5; i++) {
+         HttpResponse<String> response = send(get(stub, "/users/3"));
+         assertEquals(503, response.statusCode());
+         assertEquals("Injected failure", MAPPER.readTree(response.body()).path("error").asText());
+      }
+   }
+
+   @Test
+   void delaysResponsesByConfiguredLatency() throws Exception {
+      ReqresStubServer stub = start(settings(0.0, 200L));
+
+      long started = System.nanoTime();
+      send(get(stub, "/users/3"));
+      long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+      assertTrue(elapsedMillis >= 200, "response arrived after " + elapsedMillis + " ms");
+   }
+
+   @Test
+   void answersMatchingConditionalGetWithNotModified() throws Exception {
+      ReqresStubServer stub = start(settings(0.0, 0L));
+
+      HttpResponse<String> first = send(get(stub, "/users?page=1"));
+      String etag = first.headers().firstValue("ETag").orElse(null);
+      HttpResponse<String> revalidated = send(request(stub, "/users?page=1").header("If-None-Match", etag).GET().build());
+      HttpResponse<String> stale = send(request(stub, "/users?page=1").header("If-None-Match", "\"stale\"").GET().build());
+
+      assertNotNull(etag);
+      assertEquals(304, revalidated.statusCode());
+      assertTrue(revalidated.body().isEmpty());
+      assertEquals(200, stale.statusCode());
+      assertEquals(etag, stale.headers().firstValue("ETag").orElse(null));
+   }
+
+   @Test
+   void doesNotTagErrorResponses() throws Exception {
+      ReqresStubServer stub = start(settings(0.0, 0L));
+
+      HttpResponse<String> response = send(get(stub, "/users/23"));
+
+      assertTrue(response.headers().firstValue("ETag").isEmpty());
+   }
+
+   private ReqresStubServer start(StubSettings settings) {
+      ReqresStubServer stub = new ReqresStubServer(settings);
+      stub.start();
+      servers.add(stub);
+      return stub;
+   }
+
+   private static StubSettings settings(double errorRate, long latencyMillis) {
+      return new StubSettings(0, 4, latencyMillis, 0L, errorRate, 503, 0);
+   }
+
+   private static HttpRequest.Builder request(ReqresStubServer stub, String path) {
+      return HttpRequest.newBuilder(URI.create(stub.baseUrl() + path));
+   }
+
+   private static HttpRequest get(ReqresStubServer stub, String path) {
+      return request(stub, path).GET().build();
+   }
+
+   private static HttpRequest post(ReqresStubServer stub, String path, String json) {
+      return request(stub, path)
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(json))
+            .build();
+   }
+
+   private static HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+      return CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
+   }
+
+}
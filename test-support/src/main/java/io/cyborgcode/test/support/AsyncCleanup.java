@@ -0,0 +1,55 @@
+package io.cyborgcode.test.support;
+
+import org.aeonbits.owner.ConfigCache;
+
+/**
+ * Run-wide entry point for {@code @Ripper} cleanups that nothing waits on.
+ * <p>
+ * When {@code cleanup.async=true}, cleanup functions capture what they need from the quest on the
+ * test thread and hand the actual deletion to a single {@link AsyncCleanupExecutor}, configured from
+ * {@code cleanup.threads}, {@code cleanup.queue.capacity}, {@code cleanup.max.attempts},
+ * {@code cleanup.retry.backoff.millis}, {@code cleanup.drain.timeout.seconds} and
+ * {@code cleanup.report.file} (see {@link AsyncCleanupProperties}).
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class AsyncCleanup {
+
+   private static final AsyncCleanupProperties CONFIG = ConfigCache.getOrCreate(AsyncCleanupProperties.class);
+
+   private AsyncCleanup() {
+   }
+
+   /**
+    * Returns whether cleanups should be submitted here instead of running inline.
+    *
+    * @return the value of {@code cleanup.async}.
+    */
+   public static boolean enabled() {
+      return CONFIG.cleanupAsync();
+   }
+
+   /**
+    * Schedules a cleanup. The task must not use the quest, which may already be gone when it runs.
+    *
+    * @param name    name used in the report, e.g. the {@code DataCleaner} constant.
+    * @param cleanup the cleanup; throwing (exception or assertion error) marks the attempt as failed.
+    */
+   public static void submit(String name, Runnable cleanup) {
+      Holder.EXECUTOR.submit(name, cleanup);
+   }
+
+   private static final class Holder {
+
+      private static final AsyncCleanupExecutor EXECUTOR = new AsyncCleanupExecutor(
+            new AsyncCleanupExecutor.Settings(
+                  CONFIG.cleanupThreads(),
+                  CONFIG.cleanupQueueCapacity(),
+                  CONFIG.cleanupMaxAttempts(),
+                  CONFIG.cleanupRetryBackoffMillis(),
+                  CONFIG.cleanupDrainTimeoutSeconds(),
+                  CONFIG.cleanupReportFile()));
+
+   }
+
+}
@@ -0,0 +1,156 @@
+package io.cyborgcode.test.support;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Background executor for {@code @Ripper} cleanups that nothing waits on.
+ * <p>
+ * Cleanup functions capture what they need from the quest on the test thread and hand the actual
+ * deletion to this executor, so the round trips leave the test's critical path:
+ * <ul>
+ *   <li>work runs on a bounded pool with a bounded queue; when the queue is full the submitting
+ *       thread runs the cleanup itself,</li>
+ *   <li>a failing cleanup is retried up to the configured number of attempts with a linear backoff,</li>
+ *   <li>at the end of the run (see {@link RunLifecycle}) all submitted cleanups are drained, up to a
+ *       timeout, and cleanups that failed or were still pending are logged and written to a report
+ *       file.</li>
+ * </ul>
+ * The example modules share one executor through {@link AsyncCleanup}.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class AsyncCleanupExecutor {
+
+   private static final Logger LOGGER = LogManager.getLogger(AsyncCleanupExecutor.class);
+
+   private final Settings settings;
+   private final AtomicLong ids = new AtomicLong();
+   private final Map<Long, String> pending = new ConcurrentHashMap<>();
+   private final Queue<String> failed = new ConcurrentLinkedQueue<>();
+   private final LongAdder completed = new LongAdder();
+   private final ThreadPoolExecutor executor;
+
+   /**
+    * Creates the executor and registers its end-of-run drain.
+    *
+    * @param settings pool, retry and report settings.
+    */
+   public AsyncCleanupExecutor(Settings settings) {
+      this.settings = settings;
+      this.executor = newExecutor(settings);
+      RunLifecycle.onShutdown("async cleanup drain", this::drainAndReport);
+   }
+
+   /**
+    * Schedules a cleanup. The task must not use the quest, which may already be gone when it runs.
+    *
+    * @param name    name used in the report, e.g. the {@code DataCleaner} constant.
+    * @param cleanup the cleanup; throwing (exception or assertion error) marks the attempt as failed.
+    */
+   public void submit(String name, Runnable cleanup) {
+      long id = ids.incrementAndGet();
+      pending.put(id, name);
+      executor.execute(() -> runWithRetries(id, name, cleanup));
+   }
+
+   private void runWithRetries(long id, String name, Runnable cleanup) {
+      int maxAttempts = Math.max(1, settings.maxAttempts());
+      Throwable last = null;
+      for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+         try {
+            cleanup.run();
+            completed.increment();
+            pending.remove(id);
+            return;
+         } catch (RuntimeException | AssertionError e) {
+            last = e;
+            LOGGER.debug("Cleanup '{}' attempt {}/{} failed", name, attempt, maxAttempts, e);
+         }
+         if (attempt < maxAttempts) {
+            try {
+               TimeUnit.MILLISECONDS.sleep(settings.retryBackoffMillis() * attempt);
+            } catch (InterruptedException e) {
+               Thread.currentThread().interrupt();
+               return;
+            }
+         }
+      }
+      pending.remove(id);
+      failed.add(name + " failed after " + maxAttempts + " attempts: " + last);
+   }
+
+   private void drainAndReport() {
+      executor.shutdown();
+      try {
+         if (!executor.awaitTermination(settings.drainTimeoutSeconds(), TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+         }
+      } catch (InterruptedException e) {
+         executor.shutdownNow();
+         Thread.currentThread().interrupt();
+      }
+
+      List<String> report = new ArrayList<>(failed);
+      pending.values().forEach(name -> report.add(name + " still pending at shutdown"));
+      if (report.isEmpty()) {
+         LOGGER.info("Async cleanup: {} cleanups completed", completed.sum());
+         return;
+      }
+      report.add(0, String.format("Async cleanup: %d completed, %d failed, %d pending",
+            completed.sum(), failed.size(), pending.size()));
+      LOGGER.warn(String.join(System.lineSeparator(), report));
+      try {
+         Path file = Path.of(settings.reportFile());
+         if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+         }
+         Files.write(file, report);
+      } catch (IOException e) {
+         LOGGER.warn("Could not write async cleanup report", e);
+      }
+   }
+
+   private static ThreadPoolExecutor newExecutor(Settings settings) {
+      int threads = Math.max(1, settings.threads());
+      AtomicInteger counter = new AtomicInteger();
+      return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(Math.max(1, settings.queueCapacity())),
+            runnable -> {
+               Thread thread = new Thread(runnable, "async-cleanup-" + counter.incrementAndGet());
+               thread.setDaemon(true);
+               return thread;
+            },
+            (task, pool) -> task.run());
+   }
+
+   /**
+    * Executor settings.
+    *
+    * @param threads             worker threads.
+    * @param queueCapacity       cleanups that may wait for a worker before submitters run them inline.
+    * @param maxAttempts         attempts per cleanup, including the first.
+    * @param retryBackoffMillis  backoff step; attempt {@code n} waits {@code n} steps before retrying.
+    * @param drainTimeoutSeconds how long the end-of-run drain waits for outstanding cleanups.
+    * @param reportFile          file the failed and pending cleanups are written to.
+    */
+   public record Settings(int threads, int queueCapacity, int maxAttempts, long retryBackoffMillis,
+                          long drainTimeoutSeconds, String reportFile) {
+   }
+
+}
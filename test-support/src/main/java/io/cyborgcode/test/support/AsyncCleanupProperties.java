@@ -0,0 +1,46 @@
+package io.cyborgcode.test.support;
+
+import org.aeonbits.owner.Config;
+
+/**
+ * Settings of the shared {@link AsyncCleanup} executor.
+ * <p>
+ * Read through the Owner library from the environment file selected by {@code framework.config.file},
+ * with system properties taking precedence. Every option has a default, so environment files only
+ * need to list the values they want to change.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+@Config.LoadPolicy(Config.LoadType.MERGE)
+@Config.Sources({"system:properties", "classpath:${framework.config.file}.properties"})
+public interface AsyncCleanupProperties extends Config {
+
+   @Key("cleanup.async")
+   @DefaultValue("false")
+   boolean cleanupAsync();
+
+   @Key("cleanup.threads")
+   @DefaultValue("2")
+   int cleanupThreads();
+
+   @Key("cleanup.queue.capacity")
+   @DefaultValue("256")
+   int cleanupQueueCapacity();
+
+   @Key("cleanup.max.attempts")
+   @DefaultValue("3")
+   int cleanupMaxAttempts();
+
+   @Key("cleanup.retry.backoff.millis")
+   @DefaultValue("500")
+   long cleanupRetryBackoffMillis();
+
+   @Key("cleanup.drain.timeout.seconds")
+   @DefaultValue("60")
+   long cleanupDrainTimeoutSeconds();
+
+   @Key("cleanup.report.file")
+   @DefaultValue("target/async-cleanup-report.txt")
+   String cleanupReportFile();
+
+}
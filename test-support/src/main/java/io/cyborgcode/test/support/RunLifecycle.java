@@ -0,0 +1,72 @@
+package io.cyborgcode.test.support;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * End-of-run hooks for suite-wide helpers.
+ * <p>
+ * Helpers that work across tests (background cleanup, run reports) register an action here instead
+ * of adding their own JVM shutdown hooks. All actions run on a single shutdown hook thread, in
+ * registration order, so an action that drains outstanding work completes before actions that
+ * report on it. A failing action is logged and does not prevent the remaining ones from running.
+ * <p>
+ * JVM shutdown hooks run concurrently, so Log4j's own hook could stop logging while the actions are
+ * still reporting. This module's {@code log4j2.component.properties} disables that hook, and Log4j
+ * is shut down here once the last action has finished. Because that property applies to every JVM
+ * with this module on its classpath, the shutdown hook is installed at the start of every test run
+ * by {@link RunLifecycleLauncherListener}, whether or not any action is registered.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class RunLifecycle {
+
+   private static final Logger LOGGER = LogManager.getLogger(RunLifecycle.class);
+   private static final List<Action> ACTIONS = new CopyOnWriteArrayList<>();
+   private static final AtomicBoolean INSTALLED = new AtomicBoolean();
+
+   private RunLifecycle() {
+   }
+
+   /**
+    * Installs the shutdown hook that runs the registered actions and then stops Log4j. Safe to call
+    * more than once.
+    */
+   public static void install() {
+      if (INSTALLED.compareAndSet(false, true)) {
+         Runtime.getRuntime().addShutdownHook(new Thread(RunLifecycle::runAll, "run-lifecycle-shutdown"));
+      }
+   }
+
+   /**
+    * Registers an action to run once when the test JVM shuts down.
+    *
+    * @param name   name used in logs if the action fails.
+    * @param action the action to run.
+    */
+   public static void onShutdown(String name, Runnable action) {
+      install();
+      ACTIONS.add(new Action(name, action));
+   }
+
+   private static void runAll() {
+      try {
+         for (Action action : ACTIONS) {
+            try {
+               action.runnable().run();
+            } catch (RuntimeException e) {
+               LOGGER.warn("End-of-run action '{}' failed", action.name(), e);
+            }
+         }
+      } finally {
+         LogManager.shutdown();
+      }
+   }
+
+   private record Action(String name, Runnable runnable) {
+   }
+
+}
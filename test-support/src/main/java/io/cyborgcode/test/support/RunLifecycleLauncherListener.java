@@ -0,0 +1,22 @@
+package io.cyborgcode.test.support;
+
+import org.junit.platform.launcher.LauncherSession;
+import org.junit.platform.launcher.LauncherSessionListener;
+
+/**
+ * Installs the {@link RunLifecycle} shutdown hook when a JUnit Platform launcher session opens.
+ * <p>
+ * Registered through {@code META-INF/services}, so every test run with this artifact on its
+ * classpath stops Log4j through {@link RunLifecycle}, including runs in which no helper registers an
+ * end-of-run action.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public class RunLifecycleLauncherListener implements LauncherSessionListener {
+
+   @Override
+   public void launcherSessionOpened(LauncherSession session) {
+      RunLifecycle.install();
+   }
+
+}
@@ -4,11 +4,14 @@ import io.cyborgcode.roa.framework.parameters.DataRipper;
 import io.cyborgcode.ui.complex.test.framework.db.extractors.DbResponsesJsonPaths;
 import io.cyborgcode.ui.complex.test.framework.ui.model.Order;
 import io.cyborgcode.roa.db.query.QueryResponse;
+import io.cyborgcode.roa.db.service.DatabaseService;
 import io.cyborgcode.roa.db.storage.StorageKeysDb;
 import io.cyborgcode.roa.framework.quest.SuperQuest;
 import io.cyborgcode.roa.validator.core.Assertion;
+import io.cyborgcode.test.support.AsyncCleanup;
 
 import java.util.List;
+import java.util.Map;
 
 import static io.cyborgcode.roa.framework.storage.StorageKeysTest.PRE_ARGUMENTS;
 import static io.cyborgcode.ui.complex.test.framework.base.Rings.RING_OF_DB;
@@ -27,10 +30,19 @@ import static io.cyborgcode.ui.complex.test.framework.db.queries.AppQueries.QUER
  * mechanism via a {@link SuperQuest}, encapsulating teardown logic (such as test data
  * deletion) outside of individual test methods.
  *
+ * <p>With {@code cleanup.async=true} the order deletions are handed to {@link AsyncCleanup} and run in
+ * the background; the order ids and the database service are captured on the test thread first.
+ *
  * @author Cyborg Code Syndicate 💍👨💻
  */
 public final class DataCleanerFunctions {
 
+   /**
+    * Column holding the affected row count of an update statement, as read by
+    * {@link DbResponsesJsonPaths#DELETED}.
+    */
+   private static final String UPDATED_ROWS = "updatedRows";
+
     private DataCleanerFunctions() {
     }
 
@@ -38,6 +50,15 @@ public final class DataCleanerFunctions {
       var storage = quest.getStorage().sub(PRE_ARGUMENTS);
       List<Order> allOrders = storage.getAllByClass(ORDER, Order.class);
 
+      if (AsyncCleanup.enabled()) {
+         DatabaseService database = quest.artifact(RING_OF_DB, DatabaseService.class);
+         allOrders.forEach(order -> {
+            int id = order.getId();
+            AsyncCleanup.submit(DataCleaner.Data.DELETE_CREATED_ORDERS + " #" + id, () -> deleteOrder(database, id));
+         });
+         return;
+      }
+
       allOrders.forEach(order ->
             quest
                   .use(RING_OF_DB)
@@ -58,4 +79,15 @@ public final class DataCleanerFunctions {
                   ));
    }
 
+   private static void deleteOrder(DatabaseService database, int id) {
+      List<Map<String, Object>> deleted = database.query(QUERY_ORDER_DELETE.withParam("id", id)).getRows();
+      Object updatedRows = deleted.isEmpty() ? null : deleted.get(0).get(UPDATED_ROWS);
+      if (!(updatedRows instanceof Number count) || count.intValue() != 1) {
+         throw new IllegalStateException("Expected 1 deleted row for order " + id + " but was " + updatedRows);
+      }
+      if (!database.query(QUERY_ORDER_PRODUCT.withParam("id", id)).getRows().isEmpty()) {
+         throw new IllegalStateException("Order products still present after deleting order " + id);
+      }
+   }
+
 }